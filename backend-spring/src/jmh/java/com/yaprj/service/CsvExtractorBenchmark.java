@@ -0,0 +1,115 @@
+package com.yaprj.service;
+
+import com.yaprj.service.criteria.CriteriaExtractor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 조건 추출기 벤치마크
+ * 공공데이터 장학금 CSV에 실제로 나오는 형태의 문구를 한 번씩 모두 처리 (호출 1회당 시간으로 환산)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CsvExtractorBenchmark {
+
+    private static final String[] GRADE_CRITERIA = {
+            "직전학기 평점 3.0/4.5 이상",
+            "직전학기 성적 3.5 이상 (4.5 만점 기준), 12학점 이상 이수",
+            "평점평균 B학점 이상인 자",
+            "백분위 80점 이상",
+            "제한없음",
+            "성적 우수자 중 학과장 추천을 받은 자 (세부 기준은 학교별 상이)",
+            "신입생: 수능 성적 기준 / 재학생: 직전학기 2.75점 이상",
+            ""
+    };
+
+    private static final String[] INCOME_CRITERIA = {
+            "학자금 지원구간 8구간 이하",
+            "소득 8분위 이하 가구의 학생",
+            "1~6분위 (한국장학재단 소득분위 기준)",
+            "기초생활수급자 및 차상위계층 우선",
+            "소득무관",
+            "가계 곤란 학생 (부모 실직, 파산 등 증빙 서류 제출자)",
+            "중위소득 100% 이하 가구 (건강보험료 기준)",
+            ""
+    };
+
+    // {학년구분, 자격제한}
+    private static final String[][] GRADE_TEXTS = {
+            {"대학 2~4학년 재학생", null},
+            {"1학년, 2학년", "직전학기 12학점 이상 이수자"},
+            {"전학년", null},
+            {"신입생", "입학예정자 포함"},
+            {"대학(원) 재학생 (학년 제한 없음)", null},
+            {"3학년 이상", "휴학생 제외"},
+            {null, "졸업예정자 및 5학년 이상 제외"},
+            {"", ""}
+    };
+
+    // {대학구분, 특정자격, 자격제한}
+    private static final String[][] STATUS_TEXTS = {
+            {"4년제(5~6년제 포함)", "국내 대학 재학생", null},
+            {"전문대(2~3년제)", "신입생 및 재학생", "휴학생 제외"},
+            {"대학원", null, "석사과정 재학 중인 자"},
+            {"4년제", "2025학년도 입학 예정자 (합격자)", null},
+            {null, "다자녀 가정 셋째 이상 자녀", "직전학기 휴학생도 신청 가능"},
+            {"사이버대학", "해당없음", null},
+            {"", "", ""},
+            {"4년제, 전문대", "국가보훈대상자 본인 또는 자녀", "재학 중 타 장학금 수혜자 제외"}
+    };
+
+    // {상품명, 학자금유형구분, 운영기관명, 상품구분}
+    private static final String[][] TYPE_TEXTS = {
+            {"국가장학금 I유형", "국가장학금", "한국장학재단", "장학금"},
+            {"교내근로장학생 모집", "근로장학금", "서울대학교", "장학금"},
+            {"취업후상환학자금대출", "학자금대출", "한국장학재단", "대출"},
+            {"생활비 지원 장학금", "생활비", "OO복지재단", "장학금"},
+            {"OO시 인재육성 장학금", "지자체장학금", "OO시청", "장학금"},
+            {"성적우수 장학금", "교내장학금", "OO대학교", "장학금"},
+            {"미래인재 장학금", "민간장학금", "OO기업 장학회", "장학금"},
+            {"기타 지원", null, "사단법인 OO", null}
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void extractMinGpa(Blackhole bh) {
+        for (String text : GRADE_CRITERIA) {
+            bh.consume(CriteriaExtractor.extractMinGpa(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void extractMaxIncomeLevel(Blackhole bh) {
+        for (String text : INCOME_CRITERIA) {
+            bh.consume(CriteriaExtractor.extractMaxIncomeLevel(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void extractGrades(Blackhole bh) {
+        for (String[] text : GRADE_TEXTS) {
+            bh.consume(CriteriaExtractor.extractGrades(text[0], text[1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void extractAcademicStatus(Blackhole bh) {
+        for (String[] text : STATUS_TEXTS) {
+            bh.consume(CriteriaExtractor.extractAcademicStatus(text[0], text[1], text[2]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void detectScholarshipType(Blackhole bh) {
+        for (String[] text : TYPE_TEXTS) {
+            bh.consume(CriteriaExtractor.detectScholarshipType(text[0], text[1], text[2], text[3]));
+        }
+    }
+}
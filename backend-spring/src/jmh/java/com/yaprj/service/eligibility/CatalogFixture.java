@@ -0,0 +1,102 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.entity.enums.AcademicStatus;
+import com.yaprj.entity.enums.ScholarshipType;
+import com.yaprj.repository.ScholarshipRepository;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 카탈로그/사용자 조건 생성 (시드 고정으로 실행마다 동일한 데이터)
+ * 조건 분포는 실제 CSV 적재 결과와 비슷하게 파싱된 조건 / 원본 텍스트만 있는 조건 / 제한 없음을 섞음
+ */
+public final class CatalogFixture {
+
+    private static final String[] STATUSES = {null, "enrolled", "enrolled,leave", "expected", "enrolled,expected"};
+    private static final String[] GRADES = {null, "1", "1,2", "2,3,4", "1,2,3,4", "3,4", "5,6"};
+    private static final String[] GRADE_SEMESTERS = {null, "전학년", "대학 2학년 이상 재학생", "신입생 및 편입생"};
+    private static final String[] GRADE_CRITERIA = {null, "제한없음", "직전학기 평점 3.0/4.5 이상", "전공 성적 우수자 (학과 추천)"};
+    private static final String[] INCOME_CRITERIA = {null, "소득무관", "학자금 지원구간 8구간 이하", "가계 곤란 학생 우선 선발"};
+    private static final String[] REGIONS = {null, null, null, "서울", "부산,경남", "전남"};
+    private static final String[] SPECIALS = {null, null, "해당없음", "다자녀 가정 셋째 이상 자녀", "국가보훈대상자 본인 또는 자녀"};
+
+    private CatalogFixture() {
+    }
+
+    public static List<Scholarship> scholarships(int size, long seed) {
+        Random r = new Random(seed);
+        List<Scholarship> list = new ArrayList<>(size);
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < size; i++) {
+            boolean parsedGpa = r.nextInt(3) > 0;
+            boolean parsedIncome = r.nextInt(3) > 0;
+            list.add(Scholarship.builder()
+                    .id(String.format("bench-%08d", i))
+                    .name("벤치마크 장학금 " + i)
+                    .organization("재단법인 벤치마크장학회 " + (i % 500))
+                    .scholarshipType(ScholarshipType.values()[r.nextInt(ScholarshipType.values().length)])
+                    .supportDetails("등록금 전액 또는 일부 지원 (학기당 최대 " + (100 + r.nextInt(400)) + "만원)")
+                    .allowedAcademicStatus(pick(r, STATUSES))
+                    .allowedGrades(pick(r, GRADES))
+                    .gradeSemester(pick(r, GRADE_SEMESTERS))
+                    .minGpa(parsedGpa ? BigDecimal.valueOf(200 + r.nextInt(26) * 10, 2) : null)
+                    .gradeCriteria(parsedGpa ? null : pick(r, GRADE_CRITERIA))
+                    .maxIncomeLevel(parsedIncome ? 1 + r.nextInt(10) : null)
+                    .incomeCriteria(parsedIncome ? null : pick(r, INCOME_CRITERIA))
+                    .regionLimit(pick(r, REGIONS))
+                    .specialQualification(pick(r, SPECIALS))
+                    .applyStart(today.minusDays(r.nextInt(60)))
+                    .applyEnd(today.plusDays(r.nextInt(90)))
+                    .isActive(true)
+                    .isFeatured(r.nextInt(20) == 0)
+                    .updatedAt(now.minusMinutes(i))
+                    .build());
+        }
+        return list;
+    }
+
+    public static ScholarshipCheckRequest[] requests(int count, long seed) {
+        Random r = new Random(seed);
+        ScholarshipCheckRequest[] requests = new ScholarshipCheckRequest[count];
+        for (int i = 0; i < count; i++) {
+            ScholarshipCheckRequest request = new ScholarshipCheckRequest();
+            request.setAcademicStatus(AcademicStatus.values()[r.nextInt(AcademicStatus.values().length)]);
+            request.setGrade(1 + r.nextInt(4));
+            request.setBirthYear(2000 + r.nextInt(6));
+            request.setGpa(BigDecimal.valueOf(200 + r.nextInt(251), 2));
+            request.setIncomeLevel(1 + r.nextInt(10));
+            requests[i] = request;
+        }
+        return requests;
+    }
+
+    /**
+     * 활성 장학금 조회만 지원하는 저장소 (스냅샷 생성용)
+     */
+    public static ScholarshipRepository repository(List<Scholarship> scholarships) {
+        return (ScholarshipRepository) Proxy.newProxyInstance(
+                ScholarshipRepository.class.getClassLoader(),
+                new Class<?>[]{ScholarshipRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByIsActiveTrueOrderByIsFeaturedDescUpdatedAtDesc" -> scholarships;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "CatalogFixtureRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static String pick(Random r, String[] values) {
+        return values[r.nextInt(values.length)];
+    }
+}
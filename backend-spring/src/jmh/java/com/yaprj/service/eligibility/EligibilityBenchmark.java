@@ -0,0 +1,139 @@
+package com.yaprj.service.eligibility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.dto.response.ScholarshipCheckResponse;
+import com.yaprj.dto.response.ScholarshipCheckResponse.ScholarshipMatchResult;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.repository.ScholarshipRepository;
+import com.yaprj.service.ScholarshipService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자격 확인 경로 벤치마크 (카탈로그 1k / 10k / 100k)
+ * - classTable=true: 동치류 테이블 사전 계산 후 (운영 기본값)
+ * - classTable=false: 비트셋 연산으로 매번 분류
+ * 결과 캐시는 용량 0으로 두어 매 호출이 실제 판정을 수행하도록 함 (checkEligibilityCached 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EligibilityBenchmark {
+
+    private static final int REQUEST_COUNT = 64;
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogSize;
+
+    @Param({"true", "false"})
+    private boolean classTable;
+
+    private ScholarshipService service;
+    private ScholarshipService cachedService;
+    private List<Scholarship> scholarships;
+    private EligibilitySnapshot snapshot;
+    private ScholarshipCheckRequest[] requests;
+    private ScholarshipCheckRequest[] codeRequests;
+    private ScholarshipCheckRequest[] pageRequests;
+    private String[] scholarshipIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scholarships = CatalogFixture.scholarships(catalogSize, 42L);
+        ScholarshipRepository repository = CatalogFixture.repository(scholarships);
+
+        EligibilityEngine engine = new EligibilityEngine(repository, Runnable::run, classTable ? 10_000_000L : 0L);
+        snapshot = engine.current();
+        if (classTable) {
+            engine.warmUp();
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        // 비로그인 경로만 측정 (결과 저장 서비스 미사용)
+        service = new ScholarshipService(repository, null, null, null, null, engine,
+                new EligibilityResultCache(null, objectMapper, 0, false, Duration.ZERO), null, event -> { });
+        cachedService = new ScholarshipService(repository, null, null, null, null, engine,
+                new EligibilityResultCache(null, objectMapper, 2000L * catalogSize, false, Duration.ZERO), null, event -> { });
+
+        requests = CatalogFixture.requests(REQUEST_COUNT, 7L);
+        codeRequests = CatalogFixture.requests(REQUEST_COUNT, 7L);
+        pageRequests = CatalogFixture.requests(REQUEST_COUNT, 7L);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            codeRequests[i].setDetailFormat("codes");
+            pageRequests[i].setPage(1);
+            pageRequests[i].setPerPage(20);
+        }
+
+        scholarshipIds = new String[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            scholarshipIds[i] = scholarships.get((int) ((long) i * catalogSize / REQUEST_COUNT)).getId();
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (REQUEST_COUNT - 1);
+        return cursor;
+    }
+
+    /**
+     * 전체 결과 + 호환 모드 문구 (기본 응답)
+     */
+    @Benchmark
+    public ScholarshipCheckResponse checkEligibility() {
+        return service.checkEligibility(requests[next()]);
+    }
+
+    /**
+     * 전체 결과 + 근거 코드 (detail_format=codes)
+     */
+    @Benchmark
+    public ScholarshipCheckResponse checkEligibilityCodes() {
+        return service.checkEligibility(codeRequests[next()]);
+    }
+
+    /**
+     * 페이지 모드 (분류 건수 + 20건만 설명)
+     */
+    @Benchmark
+    public ScholarshipCheckResponse checkEligibilityPage() {
+        return service.checkEligibility(pageRequests[next()]);
+    }
+
+    /**
+     * 결과 캐시 적중 경로
+     */
+    @Benchmark
+    public ScholarshipCheckResponse checkEligibilityCached() {
+        return cachedService.checkEligibility(requests[next()]);
+    }
+
+    /**
+     * 개별 장학금 판정 + 설명 (기존 checkSingleScholarship에 해당)
+     */
+    @Benchmark
+    public ScholarshipMatchResult checkSingleScholarship() {
+        int i = next();
+        return service.checkScholarshipEligibility(scholarshipIds[i], requests[i]);
+    }
+
+    /**
+     * 분류만 (설명/응답 조립 제외)
+     */
+    @Benchmark
+    public EligibilityClassification classify() {
+        return snapshot.classify(CheckConditions.from(requests[next()]));
+    }
+
+    /**
+     * 카탈로그 변경 시 스냅샷 재생성 비용 (동치류 사전 계산 제외)
+     */
+    @Benchmark
+    public EligibilitySnapshot buildSnapshot() {
+        return EligibilitySnapshot.build(1L, scholarships);
+    }
+}
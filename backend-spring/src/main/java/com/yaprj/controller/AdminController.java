@@ -1,19 +1,36 @@
 package com.yaprj.controller;
 
+import com.yaprj.dto.request.ScholarshipBulkRequest;
 import com.yaprj.dto.request.ScholarshipCreateRequest;
 import com.yaprj.dto.request.ScholarshipUpdateRequest;
-import com.yaprj.dto.response.CsvUploadResponse;
+import com.yaprj.dto.response.BatchCheckSummary;
+import com.yaprj.dto.response.BulkOperationResponse;
+import com.yaprj.dto.response.CsvUploadJobResponse;
 import com.yaprj.dto.response.DashboardStatsResponse;
 import com.yaprj.dto.response.ScholarshipResponse;
 import com.yaprj.entity.enums.ScholarshipType;
-import com.yaprj.service.CsvParserService;
+import com.yaprj.service.BatchEligibilityService;
+import com.yaprj.service.CsvDryRunService;
+import com.yaprj.service.CsvUploadJobService;
+import com.yaprj.service.ScholarshipExportService;
 import com.yaprj.service.ScholarshipService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -22,20 +39,72 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminController {
     
+    // 명단 일괄 확인은 수십만 명 스트리밍이 길어질 수 있어 이 요청만 비동기 제한 시간을 늘림 (전역 기본값은 유지)
+    private static final Duration BATCH_TIMEOUT = Duration.ofMinutes(30);
+    
     private final ScholarshipService scholarshipService;
-    private final CsvParserService csvParserService;
+    private final ScholarshipExportService scholarshipExportService;
+    private final CsvUploadJobService csvUploadJobService;
+    private final CsvDryRunService csvDryRunService;
+    private final BatchEligibilityService batchEligibilityService;
     
     @GetMapping("/dashboard")
     public ResponseEntity<DashboardStatsResponse> getDashboard() {
         return ResponseEntity.ok(scholarshipService.getDashboardStats());
     }
     
+    /**
+     * CSV 업로드 접수 → 작업 ID 즉시 반환 (처리는 백그라운드, 진행 상황은 /upload-jobs/{jobId})
+     */
     @PostMapping("/upload-csv")
-    public ResponseEntity<CsvUploadResponse> uploadCsv(
+    public ResponseEntity<CsvUploadJobResponse> uploadCsv(
             @RequestParam("file") MultipartFile file,
             @RequestParam(defaultValue = "append") String mode,
             @AuthenticationPrincipal String adminId) {
-        return ResponseEntity.ok(csvParserService.parseAndSave(file, mode, adminId));
+        return ResponseEntity.accepted().body(csvUploadJobService.submit(file, mode, adminId));
+    }
+    
+    /**
+     * 검증만 (DB 미사용): 모든 오류 행과 추출 통계를 NDJSON으로 스트리밍
+     */
+    @PostMapping(value = "/upload-csv/dry-run", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> dryRunCsv(@RequestParam("file") MultipartFile file) {
+        Path spool = csvDryRunService.spool(file);
+        String filename = file.getOriginalFilename();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(out -> csvDryRunService.validate(spool, filename, out));
+    }
+    
+    @GetMapping("/upload-jobs")
+    public ResponseEntity<List<CsvUploadJobResponse>> getUploadJobs() {
+        return ResponseEntity.ok(csvUploadJobService.getRecentJobs());
+    }
+    
+    @GetMapping("/upload-jobs/{jobId}")
+    public ResponseEntity<CsvUploadJobResponse> getUploadJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(csvUploadJobService.getJob(jobId));
+    }
+    
+    @GetMapping(value = "/upload-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUploadJob(@PathVariable String jobId) {
+        return csvUploadJobService.subscribe(jobId);
+    }
+    
+    @PostMapping("/upload-jobs/{jobId}/resume")
+    public ResponseEntity<CsvUploadJobResponse> resumeUploadJob(@PathVariable String jobId) {
+        return ResponseEntity.accepted().body(csvUploadJobService.resume(jobId));
+    }
+    
+    /**
+     * 마지막 교체(replace) 업로드 이전 카탈로그로 되돌리기
+     */
+    @PostMapping("/upload-csv/rollback")
+    public ResponseEntity<Map<String, Object>> rollbackReplaceUpload() {
+        return ResponseEntity.ok(Map.of(
+                "message", "이전 카탈로그로 되돌렸습니다.",
+                "stats", csvUploadJobService.rollbackReplace()
+        ));
     }
     
     @GetMapping("/scholarships")
@@ -45,9 +114,32 @@ public class AdminController {
             @RequestParam(required = false) String search,
             @RequestParam(required = false) ScholarshipType type,
             @RequestParam(required = false) Boolean isActive,
-            @RequestParam(required = false) Boolean isFeatured) {
+            @RequestParam(required = false) Boolean isFeatured,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
         return ResponseEntity.ok(scholarshipService.getAdminScholarships(
-                page, perPage, search, type, isActive, isFeatured));
+                page, perPage, search, type, isActive, isFeatured, cursor, fields));
+    }
+    
+    /**
+     * 장학금 내보내기 (CSV 원문 컬럼 + 파싱 결과, 목록과 같은 필터), format=csv|ndjson
+     */
+    @GetMapping("/scholarships/export")
+    public ResponseEntity<StreamingResponseBody> exportScholarships(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ScholarshipType type,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean isFeatured) {
+        boolean csv = !"ndjson".equalsIgnoreCase(format);
+        String filename = "scholarships-" + LocalDate.now() + (csv ? ".csv" : ".ndjson");
+        StreamingResponseBody body = out -> scholarshipExportService.export(
+                csv ? "csv" : "ndjson", search, type, isActive, isFeatured, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
     
     @GetMapping("/scholarships/{id}")
@@ -100,14 +192,60 @@ public class AdminController {
         ));
     }
     
+    /**
+     * 일괄 수정: {"ids": [...]} 또는 {"filter": {search, type, is_active, is_featured}} + is_active / is_featured
+     */
     @PostMapping("/scholarships/bulk-update")
-    public ResponseEntity<Map<String, String>> bulkUpdateScholarships(@RequestBody Map<String, Object> request) {
-        @SuppressWarnings("unchecked")
-        List<String> ids = (List<String>) request.get("ids");
-        Boolean isActive = (Boolean) request.get("is_active");
-        Boolean isFeatured = (Boolean) request.get("is_featured");
-        
-        scholarshipService.bulkUpdateScholarships(ids, isActive, isFeatured);
-        return ResponseEntity.ok(Map.of("message", "일괄 수정되었습니다."));
+    public ResponseEntity<BulkOperationResponse> bulkUpdateScholarships(@RequestBody ScholarshipBulkRequest request) {
+        return ResponseEntity.ok(scholarshipService.bulkUpdateScholarships(request));
+    }
+    
+    /**
+     * 일괄 삭제: {"ids": [...]} 또는 {"filter": {...}}
+     */
+    @PostMapping("/scholarships/bulk-delete")
+    public ResponseEntity<BulkOperationResponse> bulkDeleteScholarships(@RequestBody ScholarshipBulkRequest request) {
+        return ResponseEntity.ok(scholarshipService.bulkDeleteScholarships(request));
+    }
+    
+    // ========== 명단 일괄 자격 확인 ==========
+    
+    @PostMapping(value = "/eligibility/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public WebAsyncTask<Void> batchCheckCsv(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal String adminId,
+            HttpServletResponse response) {
+        return batchCheck(batchEligibilityService.spoolCsv(file), true, format, adminId, response);
+    }
+    
+    @PostMapping(value = "/eligibility/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public WebAsyncTask<Void> batchCheckJson(
+            InputStream body,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal String adminId,
+            HttpServletResponse response) {
+        // 배열 전체를 바인딩하지 않고 원문만 보관 → 판정 중 원소 단위로 읽음
+        return batchCheck(batchEligibilityService.spoolJson(body), false, format, adminId, response);
+    }
+    
+    @GetMapping("/eligibility/batch/metrics")
+    public ResponseEntity<List<BatchCheckSummary>> getBatchMetrics() {
+        return ResponseEntity.ok(batchEligibilityService.getRecentMetrics());
+    }
+    
+    /**
+     * 판정 결과를 응답 스트림에 바로 기록 (StreamingResponseBody와 같은 방식, 제한 시간만 요청 단위로 지정)
+     */
+    private WebAsyncTask<Void> batchCheck(Path roster, boolean csvInput, String format, String adminId,
+                                          HttpServletResponse response) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        response.setContentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8).toString()
+                : "application/x-ndjson");
+        return new WebAsyncTask<>(BATCH_TIMEOUT.toMillis(), () -> {
+            batchEligibilityService.evaluate(roster, csvInput, format, adminId, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
     }
 }
@@ -2,11 +2,16 @@ package com.yaprj.controller;
 
 import com.yaprj.dto.request.ScholarshipCheckRequest;
 import com.yaprj.dto.response.ScholarshipCheckResponse;
+import com.yaprj.dto.response.ScholarshipCheckResponse.ScholarshipMatchResult;
+import com.yaprj.dto.response.ScholarshipSuggestion;
 import com.yaprj.entity.enums.ScholarshipType;
 import com.yaprj.service.ScholarshipService;
+import com.yaprj.service.eligibility.ReasonRenderer;
+import com.yaprj.service.suggest.ScholarshipSuggestService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,6 +23,7 @@ import java.util.Map;
 public class ScholarshipController {
     
     private final ScholarshipService scholarshipService;
+    private final ScholarshipSuggestService scholarshipSuggestService;
     
     @GetMapping("")
     public ResponseEntity<Map<String, Object>> getScholarships(
@@ -25,20 +31,54 @@ public class ScholarshipController {
             @RequestParam(defaultValue = "20") int perPage,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) ScholarshipType scholarshipType,
-            @RequestParam(defaultValue = "false") boolean onlyAccepting) {
+            @RequestParam(defaultValue = "false") boolean onlyAccepting,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
         return ResponseEntity.ok(scholarshipService.getScholarships(
-                page, perPage, search, scholarshipType, onlyAccepting));
+                page, perPage, search, scholarshipType, onlyAccepting, cursor, fields));
     }
     
     @PostMapping("/check")
     public ResponseEntity<ScholarshipCheckResponse> checkEligibility(
+            @Valid @RequestBody ScholarshipCheckRequest request,
+            Authentication authentication) {
+        // 로그인 사용자(ROLE_USER)만 결과 저장 + 증분 재판정
+        String userId = authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_USER".equals(a.getAuthority()))
+                ? (String) authentication.getPrincipal() : null;
+        return ResponseEntity.ok(scholarshipService.checkEligibility(request, userId));
+    }
+    
+    @PostMapping("/check/{scholarshipId}")
+    public ResponseEntity<ScholarshipMatchResult> checkScholarshipEligibility(
+            @PathVariable String scholarshipId,
             @Valid @RequestBody ScholarshipCheckRequest request) {
-        return ResponseEntity.ok(scholarshipService.checkEligibility(request));
+        return ResponseEntity.ok(scholarshipService.checkScholarshipEligibility(scholarshipId, request));
+    }
+    
+    @GetMapping("/reason-codes")
+    public ResponseEntity<Map<String, String>> getReasonCodeTemplates() {
+        return ResponseEntity.ok(ReasonRenderer.templates());
+    }
+    
+    /**
+     * 검색창 자동완성 (장학금명/운영기관명 접두사, 추천 → 마감 임박 순)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, Object>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ScholarshipSuggestion> suggestions = scholarshipSuggestService.suggest(q, limit);
+        return ResponseEntity.ok(Map.of(
+                "query", q,
+                "suggestions", suggestions
+        ));
     }
     
     @GetMapping("/featured")
-    public ResponseEntity<Map<String, Object>> getFeaturedScholarships() {
-        List<Map<String, Object>> scholarships = scholarshipService.getFeaturedScholarships();
+    public ResponseEntity<Map<String, Object>> getFeaturedScholarships(
+            @RequestParam(required = false) String fields) {
+        List<Map<String, Object>> scholarships = scholarshipService.getFeaturedScholarships(fields);
         return ResponseEntity.ok(Map.of(
                 "scholarships", scholarships,
                 "total", scholarships.size()
@@ -46,8 +86,9 @@ public class ScholarshipController {
     }
     
     @GetMapping("/accepting")
-    public ResponseEntity<Map<String, Object>> getAcceptingScholarships() {
-        List<Map<String, Object>> scholarships = scholarshipService.getAcceptingScholarships();
+    public ResponseEntity<Map<String, Object>> getAcceptingScholarships(
+            @RequestParam(required = false) String fields) {
+        List<Map<String, Object>> scholarships = scholarshipService.getAcceptingScholarships(fields);
         return ResponseEntity.ok(Map.of(
                 "scholarships", scholarships,
                 "total", scholarships.size()
@@ -0,0 +1,28 @@
+package com.yaprj.dto.request;
+
+import com.yaprj.entity.enums.ScholarshipType;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 장학금 일괄 작업 대상 + 변경 값
+ * 대상은 ids 또는 filter 중 하나 (filter는 관리자 목록 조회와 같은 조건, 모든 값이 비면 전체)
+ */
+@Data
+public class ScholarshipBulkRequest {
+    private List<String> ids;
+    private Filter filter;
+    
+    // 일괄 수정 값 (null이면 변경 안 함)
+    private Boolean isActive;
+    private Boolean isFeatured;
+    
+    @Data
+    public static class Filter {
+        private String search;
+        private ScholarshipType type;
+        private Boolean isActive;
+        private Boolean isFeatured;
+    }
+}
@@ -30,4 +30,16 @@ public class ScholarshipCheckRequest {
     @Min(value = 1, message = "Income level must be between 1 and 10")
     @Max(value = 10, message = "Income level must be between 1 and 10")
     private Integer incomeLevel;
+    
+    // 페이지 모드 (지정 시 전체 분류 건수 + 해당 페이지 결과만 설명 포함하여 반환)
+    @Min(value = 1, message = "Page must be at least 1")
+    private Integer page;
+    
+    @Min(value = 1, message = "Per page must be between 1 and 100")
+    @Max(value = 100, message = "Per page must be between 1 and 100")
+    private Integer perPage;
+    
+    // 판정 근거 형식: text(기본, 문구 목록) | codes(근거 코드 + 파라미터, 문구는 클라이언트에서 렌더링)
+    @Pattern(regexp = "text|codes", message = "Detail format must be text or codes")
+    private String detailFormat;
 }
@@ -0,0 +1,24 @@
+package com.yaprj.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCheckSummary {
+    private String batchId;
+    private String requestedBy;
+    private String startedAt;
+    private long catalogVersion;
+    private int catalogSize;
+    private int totalRows;
+    private int evaluatedRows;
+    private int invalidRows;
+    private long elapsedMs;
+    private double rowsPerSecond;
+    private int parallelism;
+}
@@ -0,0 +1,21 @@
+package com.yaprj.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+    private String message;
+    private String operation;
+    // "ids" 또는 "filter"
+    private String target;
+    // 실제로 바뀐(삭제된) 행 수 (이미 같은 값이던 행은 제외)
+    private int affected;
+    private int statements;
+    private long elapsedMs;
+}
@@ -0,0 +1,43 @@
+package com.yaprj.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvDryRunSummary {
+    private String filename;
+    private String charset;
+    private int totalRows;
+    private int validRows;
+    private int failedRows;
+    private long elapsedMs;
+    private long rowsPerSecond;
+    // 정량 조건별 추출 결과 (min_gpa, max_income_level, allowed_grades, region_limit)
+    private Map<String, FieldExtraction> extraction;
+    private List<CsvUploadResponse.StageStats> stages;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldExtraction {
+        // 원문 컬럼
+        private String source;
+        // 값으로 추출됨
+        private int parsed;
+        // "제한없음", "무관" 등 제한 없음으로 판정
+        private int noLimit;
+        // 원문은 있지만 값을 추출하지 못함 (원문 그대로 남음)
+        private int rawOnly;
+        // 원문 비어있음
+        private int empty;
+    }
+}
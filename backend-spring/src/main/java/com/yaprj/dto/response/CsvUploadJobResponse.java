@@ -0,0 +1,37 @@
+package com.yaprj.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yaprj.entity.enums.UploadJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSV 업로드 작업 진행 상황 (처리 중에는 진행률/예상 남은 시간, 완료 후에는 최종 결과 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CsvUploadJobResponse {
+    private String jobId;
+    private UploadJobStatus status;
+    private String filename;
+    private String mode;
+    private long rowsParsed;
+    private int rowsWritten;
+    private int rowsFailed;
+    private int committedRow;
+    private Double progress;     // 0~1 (읽은 바이트 기준)
+    private Long etaSeconds;
+    private String errorMessage;
+    private boolean resumable;
+    private CsvUploadResponse result;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
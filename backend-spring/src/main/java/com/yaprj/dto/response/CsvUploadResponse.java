@@ -1,5 +1,6 @@
 package com.yaprj.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,8 +23,20 @@ public class CsvUploadResponse {
     private int failed;
     private int deletedCount;
     private int deactivatedCount;
+    // upsert 모드 전용 (추가 / 변경 / 변경 없음 / 파일에서 빠져 비활성화), 그 외 모드에서는 생략
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer insertedCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer updatedCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer unchangedCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer vanishedCount;
     private Map<String, Long> previousStats;
     private Map<String, Long> newStats;
+    private long elapsedMs;
+    private long rowsPerSecond;
+    private List<StageStats> stages;
     private List<ErrorDetail> errors;
     
     @Data
@@ -35,4 +48,19 @@ public class CsvUploadResponse {
         private String error;
         private String name;
     }
+    
+    /**
+     * 업로드 파이프라인 단계별 처리량 (read → parse → write)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StageStats {
+        private String stage;
+        private int workers;
+        private long rows;
+        private long busyMs;
+        private long rowsPerSecond;
+    }
 }
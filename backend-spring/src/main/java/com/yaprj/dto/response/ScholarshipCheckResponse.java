@@ -1,5 +1,7 @@
 package com.yaprj.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yaprj.entity.enums.ReasonCode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +20,14 @@ public class ScholarshipCheckResponse {
     private CheckSummary summary;
     private Map<String, Object> userConditions;
     
+    // 페이지 모드에서만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer page;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer perPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -25,7 +35,11 @@ public class ScholarshipCheckResponse {
     public static class ScholarshipMatchResult {
         private ScholarshipInfo scholarship;
         private Boolean isEligible;
+        // detail_format=text(기본)일 때 문구 목록, codes일 때 근거 코드 목록
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private EligibilityDetail eligibilityDetail;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private List<EligibilityReason> reasons;
         private String applyPeriod;
     }
     
@@ -55,12 +69,29 @@ public class ScholarshipCheckResponse {
         private List<String> unknown;
     }
     
+    /**
+     * 판정 근거 코드 + 파라미터 (예: GPA_BELOW {user: 3.20, required: 3.50})
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class EligibilityReason {
+        private ReasonCode code;
+        private Object user;
+        private Object required;
+        private String text;
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
     public static class CheckSummary {
         private int eligibleCount;
+        private int notEligibleCount;
+        private int unknownCount;
         private int totalCount;
         private int aiAnalyzedCount;
         private int publicDataCount;
@@ -0,0 +1,25 @@
+package com.yaprj.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScholarshipSuggestion {
+    private String type;  // scholarship | organization
+    private String text;
+    // scholarship 항목 전용, organization 항목에서는 생략
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String id;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String organization;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String applyEnd;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean isFeatured;
+}
@@ -0,0 +1,128 @@
+package com.yaprj.entity;
+
+import com.yaprj.entity.enums.UploadJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSV 업로드 작업 (백그라운드 처리 + 청크 단위 커밋)
+ * committedRow까지의 행은 집계/오류 목록과 함께 커밋되어 있으므로, 실패 시 그 다음 행부터 이어서 처리
+ */
+@Entity
+@Table(name = "csv_upload_jobs",
+        indexes = @Index(name = "idx_upload_job_status", columnList = "status, created_at"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class CsvUploadJob implements Persistable<String> {
+    
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @Column(length = 500)
+    private String filename;
+    
+    @Column(length = 20, nullable = false)
+    private String mode;
+    
+    @Column(name = "uploaded_by", length = 36)
+    private String uploadedBy;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private UploadJobStatus status;
+    
+    // 업로드 원본 보관 위치 (이어하기용, 완료 시 삭제)
+    @Column(name = "spool_path", length = 1000)
+    private String spoolPath;
+    
+    @Column(name = "file_size")
+    private Long fileSize;
+    
+    @Column(length = 20)
+    private String charset;
+    
+    // 모드(교체/비활성화) 사전 처리 완료 여부
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean prepared = false;
+    
+    // 마지막으로 커밋된 CSV 행 번호 (헤더 = 1행, 0이면 커밋 없음)
+    @Column(name = "committed_row", nullable = false)
+    @Builder.Default
+    private Integer committedRow = 0;
+    
+    @Column(name = "success_count", nullable = false)
+    @Builder.Default
+    private Integer successCount = 0;
+    
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+    
+    @Column(name = "deleted_count", nullable = false)
+    @Builder.Default
+    private Integer deletedCount = 0;
+    
+    @Column(name = "deactivated_count", nullable = false)
+    @Builder.Default
+    private Integer deactivatedCount = 0;
+    
+    // upsert 모드 집계 (추가 / 변경 / 변경 없음 / 파일에서 빠져 비활성화)
+    @Column(name = "inserted_count", nullable = false)
+    @Builder.Default
+    private Integer insertedCount = 0;
+    
+    @Column(name = "updated_count", nullable = false)
+    @Builder.Default
+    private Integer updatedCount = 0;
+    
+    @Column(name = "unchanged_count", nullable = false)
+    @Builder.Default
+    private Integer unchangedCount = 0;
+    
+    @Column(name = "vanished_count", nullable = false)
+    @Builder.Default
+    private Integer vanishedCount = 0;
+    
+    // 업로드 전 통계 / 행별 오류 / 최종 결과 (JSON)
+    @Column(name = "previous_stats", length = 200)
+    private String previousStats;
+    
+    @Column(columnDefinition = "TEXT")
+    private String errors;
+    
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String result;
+    
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+    
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.yaprj.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신규 장학금 자격 알림 아웃박스 (매칭 결과 기록까지만 담당, 발송 채널 연동 시 sent_at이 비어있는 행을 발송 대상으로 사용)
+ */
+@Entity
+@Table(name = "eligibility_notifications",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_user_scholarship",
+                columnNames = {"user_id", "scholarship_id"}),
+        indexes = @Index(name = "idx_notification_sent_at", columnList = "sent_at, created_at"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class EligibilityNotification implements Persistable<String> {
+    
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @Column(name = "user_id", length = 36, nullable = false)
+    private String userId;
+    
+    @Column(name = "scholarship_id", length = 36, nullable = false)
+    private String scholarshipId;
+    
+    @Column(length = 50)
+    private String source;  // 알림 발생 경로 (csv-upload 등)
+    
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+    
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+}
@@ -12,7 +12,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "scholarships")
+// 목록 정렬/필터용 복합 인덱스 (사용자 목록: 추천 DESC, 모집종료일 ASC / 관리자 목록: 활성, 수정일 DESC)
+@Table(name = "scholarships",
+        indexes = {
+                @Index(name = "idx_scholarship_active_featured_end", columnList = "is_active, is_featured DESC, apply_end"),
+                @Index(name = "idx_scholarship_active_type_end",
+                        columnList = "is_active, scholarship_type, is_featured DESC, apply_end"),
+                @Index(name = "idx_scholarship_active_updated", columnList = "is_active, updated_at")
+        })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -133,6 +140,10 @@ public class Scholarship {
     @Builder.Default
     private Boolean isFeatured = false;
     
+    // CSV 원본 컬럼 해시 (upsert 모드에서 변경 여부 비교, 직접 등록한 장학금은 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -4,18 +4,21 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "scholarship_results")
+@Table(name = "scholarship_results",
+        uniqueConstraints = @UniqueConstraint(name = "uk_result_user_scholarship",
+                columnNames = {"user_id", "scholarship_id"}))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-public class ScholarshipResult {
+public class ScholarshipResult implements Persistable<String> {
     
     @Id
     @Column(length = 36)
@@ -41,4 +44,12 @@ public class ScholarshipResult {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    
+    /**
+     * ID를 직접 지정하므로 저장 전 존재 여부 조회(merge) 없이 바로 INSERT 하도록 생성일 기준으로 판별
+     */
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
 }
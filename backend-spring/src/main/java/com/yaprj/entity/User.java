@@ -57,6 +57,14 @@ public class User {
     @Column(name = "income_level")
     private Integer incomeLevel;
     
+    // 저장된 자격 확인 결과의 기준 조건 (CheckConditions.key, 프로필과 별개)
+    @Column(name = "results_conditions", length = 64)
+    private String resultsConditions;
+    
+    // 저장된 자격 확인 결과의 기준 시각 (이후 수정된 장학금만 재판정)
+    @Column(name = "results_checked_at")
+    private LocalDateTime resultsCheckedAt;
+    
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ScholarshipResult> scholarshipResults = new ArrayList<>();
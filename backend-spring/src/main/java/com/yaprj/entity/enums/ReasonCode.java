@@ -0,0 +1,55 @@
+package com.yaprj.entity.enums;
+
+/**
+ * 판정 근거 코드
+ * 엔진은 코드 + 파라미터(user, required, text)만 생성하고, 문구는 템플릿으로 표시 시점에 렌더링
+ */
+public enum ReasonCode {
+    STATUS_OK(Kind.SATISFIED, "학적상태 충족 ({user})"),
+    STATUS_MISMATCH(Kind.NOT_SATISFIED, "학적상태 미충족 (요구: {required})"),
+    STATUS_UNVERIFIED(Kind.UNKNOWN, "학적상태 직접 확인 필요"),
+
+    GRADE_OK(Kind.SATISFIED, "학년 충족 ({user}학년)"),
+    GRADE_MISMATCH(Kind.NOT_SATISFIED, "학년 미충족 (요구: {required})"),
+    GRADE_UNVERIFIED(Kind.UNKNOWN, "학년 조건 직접 확인: {text}"),
+
+    GPA_OK(Kind.SATISFIED, "성적 충족 ({user} ≥ {required})"),
+    GPA_BELOW(Kind.NOT_SATISFIED, "성적 미충족 ({user} < {required} 이상 필요)"),
+    GPA_NO_LIMIT(Kind.SATISFIED, "성적 제한 없음"),
+    GPA_UNVERIFIED(Kind.UNKNOWN, "성적 조건 직접 확인: {text}"),
+
+    INCOME_OK(Kind.SATISFIED, "소득분위 충족 ({user}분위 ≤ {required}분위 이하)"),
+    INCOME_ABOVE(Kind.NOT_SATISFIED, "소득분위 미충족 ({user}분위 > {required}분위 이하 필요)"),
+    INCOME_NO_LIMIT(Kind.SATISFIED, "소득 제한 없음"),
+    INCOME_UNVERIFIED(Kind.UNKNOWN, "소득 조건 직접 확인: {text}"),
+
+    REGION_LIMITED(Kind.UNKNOWN, "지역 제한 확인 필요: {text}"),
+    REGION_UNVERIFIED(Kind.UNKNOWN, "지역 조건 직접 확인 필요"),
+
+    SPECIAL_QUALIFICATION(Kind.UNKNOWN, "특정자격 확인 필요: {text}"),
+
+    DETAILS_UNVERIFIED(Kind.UNKNOWN, "상세 조건 직접 확인 필요");
+
+    /**
+     * 호환 모드에서 분류될 목록 (satisfied / notSatisfied / unknown)
+     */
+    public enum Kind {
+        SATISFIED, NOT_SATISFIED, UNKNOWN
+    }
+
+    private final Kind kind;
+    private final String template;
+
+    ReasonCode(Kind kind, String template) {
+        this.kind = kind;
+        this.template = template;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+}
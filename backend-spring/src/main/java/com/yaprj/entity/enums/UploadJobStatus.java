@@ -0,0 +1,25 @@
+package com.yaprj.entity.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum UploadJobStatus {
+    QUEUED("queued"),
+    RUNNING("running"),
+    COMPLETED("completed"),
+    FAILED("failed");
+    
+    private final String value;
+    
+    UploadJobStatus(String value) {
+        this.value = value;
+    }
+    
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+    
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
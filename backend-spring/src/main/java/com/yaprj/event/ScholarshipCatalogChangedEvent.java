@@ -0,0 +1,15 @@
+package com.yaprj.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장학금 카탈로그 변경 이벤트 (생성/수정/삭제/CSV 업로드)
+ * 커밋 이후 인메모리 인덱스/캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ScholarshipCatalogChangedEvent {
+    
+    private final String reason;
+}
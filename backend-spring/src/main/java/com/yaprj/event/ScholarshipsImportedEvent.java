@@ -0,0 +1,18 @@
+package com.yaprj.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 신규 장학금 적재 이벤트 (CSV 업로드로 새로 추가된 장학금)
+ * 커밋 이후 새로 자격이 생긴 사용자 탐색에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ScholarshipsImportedEvent {
+    
+    private final List<String> scholarshipIds;
+    private final String source;
+}
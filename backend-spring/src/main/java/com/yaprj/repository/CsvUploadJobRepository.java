@@ -0,0 +1,15 @@
+package com.yaprj.repository;
+
+import com.yaprj.entity.CsvUploadJob;
+import com.yaprj.entity.enums.UploadJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CsvUploadJobRepository extends JpaRepository<CsvUploadJob, String> {
+    List<CsvUploadJob> findByStatusIn(Collection<UploadJobStatus> statuses);
+    List<CsvUploadJob> findTop20ByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,48 @@
+package com.yaprj.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 자격 알림 아웃박스 일괄 쓰기 전용 JDBC 저장소
+ * JDBC 배치 INSERT IGNORE로 보냄 (rewriteBatchedStatements=true면 다중 행 문장 1건으로 재작성됨)
+ * 이미 기록된 (user_id, scholarship_id)는 유일 키로 건너뛰므로 중복 1건이 청크 전체를 롤백시키지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class EligibilityNotificationJdbcRepository {
+
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO eligibility_notifications " +
+            "(id, user_id, scholarship_id, source, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 대상 1건
+     */
+    public record NotificationRow(String userId, String scholarshipId) {
+    }
+
+    /**
+     * 알림 일괄 기록 (이미 있는 사용자/장학금 쌍은 무시)
+     * @return 전송 건수
+     */
+    public int insertIgnoreAll(List<NotificationRow> rows, String source) {
+        if (rows.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, TimeOrderedIds.next());
+            ps.setString(2, row.userId());
+            ps.setString(3, row.scholarshipId());
+            ps.setString(4, source);
+            ps.setTimestamp(5, now);
+        });
+        return rows.size();
+    }
+}
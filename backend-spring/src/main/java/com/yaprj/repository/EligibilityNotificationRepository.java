@@ -0,0 +1,9 @@
+package com.yaprj.repository;
+
+import com.yaprj.entity.EligibilityNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EligibilityNotificationRepository extends JpaRepository<EligibilityNotification, String> {
+}
@@ -0,0 +1,139 @@
+package com.yaprj.repository;
+
+import com.yaprj.entity.enums.ScholarshipType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 관리자 일괄 작업용 단일 문장 UPDATE/DELETE
+ * 엔티티를 읽지 않고 조건에 맞는 행을 DB에서 바로 바꾸며, 문장 하나가 건드리는 행 수를 제한(LIMIT)해
+ * 잠금 시간을 짧게 유지. 호출 측은 영향 행 수가 limit보다 작아질 때까지 반복
+ *
+ * 감사(auditing) 리스너를 거치지 않으므로 updated_at은 여기서 직접 기록
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScholarshipBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScholarshipSearchIndex searchIndex;
+
+    /**
+     * id 목록 일괄 수정 (값이 이미 같은 행은 건드리지 않음)
+     * @return 바뀐 행 수
+     */
+    public int updateByIds(List<String> ids, Boolean isActive, Boolean isFeatured) {
+        if (ids.isEmpty()) return 0;
+        List<Object> params = new ArrayList<>();
+        String set = setClause(isActive, isFeatured, params);
+        params.addAll(ids);
+        String where = "id IN (" + placeholders(ids.size()) + ")" + changedCondition(isActive, isFeatured, params);
+        return jdbcTemplate.update("UPDATE scholarships SET " + set + " WHERE " + where, params.toArray());
+    }
+
+    /**
+     * id 목록 일괄 삭제
+     * @return 삭제된 행 수
+     */
+    public int deleteByIds(List<String> ids) {
+        if (ids.isEmpty()) return 0;
+        return jdbcTemplate.update("DELETE FROM scholarships WHERE id IN (" + placeholders(ids.size()) + ")",
+                ids.toArray());
+    }
+
+    /**
+     * 조건에 맞는 행 중 최대 limit건 수정 (이미 바뀐 행은 조건에서 빠지므로 반복 호출하면 수렴)
+     * @return 바뀐 행 수
+     */
+    public int updateByFilter(String search, ScholarshipType type, Boolean filterActive, Boolean filterFeatured,
+                              Boolean isActive, Boolean isFeatured, int limit) {
+        List<Object> params = new ArrayList<>();
+        String set = setClause(isActive, isFeatured, params);
+        String where = filterCondition(search, searchIndex.toBooleanQuery(search), type, filterActive,
+                filterFeatured, params) + changedCondition(isActive, isFeatured, params);
+        params.add(limit);
+        return jdbcTemplate.update("UPDATE scholarships SET " + set + " WHERE " + where + " LIMIT ?", params.toArray());
+    }
+
+    /**
+     * 조건에 맞는 행 중 최대 limit건 삭제
+     * @return 삭제된 행 수
+     */
+    public int deleteByFilter(String search, ScholarshipType type, Boolean filterActive, Boolean filterFeatured,
+                              int limit) {
+        List<Object> params = new ArrayList<>();
+        String where = filterCondition(search, searchIndex.toBooleanQuery(search), type, filterActive,
+                filterFeatured, params);
+        params.add(limit);
+        return jdbcTemplate.update("DELETE FROM scholarships WHERE " + where + " LIMIT ?", params.toArray());
+    }
+
+    private static String setClause(Boolean isActive, Boolean isFeatured, List<Object> params) {
+        StringBuilder set = new StringBuilder();
+        if (isActive != null) {
+            set.append("is_active = ?, ");
+            params.add(isActive);
+        }
+        if (isFeatured != null) {
+            set.append("is_featured = ?, ");
+            params.add(isFeatured);
+        }
+        set.append("updated_at = ?");
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        return set.toString();
+    }
+
+    private static String changedCondition(Boolean isActive, Boolean isFeatured, List<Object> params) {
+        List<String> changed = new ArrayList<>();
+        if (isActive != null) {
+            changed.add("is_active <> ?");
+            params.add(isActive);
+        }
+        if (isFeatured != null) {
+            changed.add("is_featured <> ?");
+            params.add(isFeatured);
+        }
+        return " AND (" + String.join(" OR ", changed) + ")";
+    }
+
+    /**
+     * 관리자 목록(ScholarshipService.getAdminScholarships)과 같은 조건 (내보내기에서도 사용)
+     * 전문 검색 질의(ScholarshipSearchIndex.toBooleanQuery)가 있으면 MATCH, 없으면 상품명/운영기관명 LIKE
+     */
+    static String filterCondition(String search, String fullTextQuery, ScholarshipType type, Boolean isActive,
+                                  Boolean isFeatured, List<Object> params) {
+        StringBuilder where = new StringBuilder("1 = 1");
+        if (fullTextQuery != null) {
+            where.append(" AND MATCH(name, organization, support_details) AGAINST (? IN BOOLEAN MODE)");
+            params.add(fullTextQuery);
+        } else if (search != null && !search.isEmpty()) {
+            where.append(" AND (LOWER(name) LIKE LOWER(?) OR LOWER(organization) LIKE LOWER(?))");
+            params.add("%" + search + "%");
+            params.add("%" + search + "%");
+        }
+        if (type != null) {
+            where.append(" AND scholarship_type = ?");
+            params.add(type.name());
+        }
+        if (isActive != null) {
+            where.append(" AND is_active = ?");
+            params.add(isActive);
+        }
+        if (isFeatured != null) {
+            where.append(" AND is_featured = ?");
+            params.add(isFeatured);
+        }
+        return where.toString();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.yaprj.repository;
+
+import com.yaprj.entity.enums.ScholarshipType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 장학금 전체 내보내기용 읽기 전용 커서
+ * MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍하고, 그 외에는 결과 전체를 메모리에 올림
+ * 그래서 일반 JdbcTemplate과 분리된 전용 인스턴스를 사용 (스트리밍 중에는 같은 커넥션으로 다른 쿼리 불가)
+ */
+@Repository
+public class ScholarshipExportRepository {
+
+    public enum Kind { TEXT, NUMBER, BOOLEAN }
+
+    /**
+     * 내보내기 컬럼 (header: CSV 헤더, 원문 컬럼은 업로드 양식과 같은 이름이라 그대로 다시 업로드 가능)
+     */
+    public record Column(String name, String header, Kind kind) {
+    }
+
+    public static final List<Column> COLUMNS = List.of(
+            // CSV 원문
+            new Column("csv_row_number", "번호", Kind.NUMBER),
+            new Column("organization", "운영기관명", Kind.TEXT),
+            new Column("name", "상품명", Kind.TEXT),
+            new Column("organization_type", "운영기관구분", Kind.TEXT),
+            new Column("product_type", "상품구분", Kind.TEXT),
+            new Column("financial_aid_type", "학자금유형구분", Kind.TEXT),
+            new Column("university_category", "대학구분", Kind.TEXT),
+            new Column("grade_semester", "학년구분", Kind.TEXT),
+            new Column("major_category", "학과구분", Kind.TEXT),
+            new Column("grade_criteria", "성적기준 상세내용", Kind.TEXT),
+            new Column("income_criteria", "소득기준 상세내용", Kind.TEXT),
+            new Column("support_details", "지원내역 상세내용", Kind.TEXT),
+            new Column("special_qualification", "특정자격 상세내용", Kind.TEXT),
+            new Column("residency_detail", "지역거주여부 상세내용", Kind.TEXT),
+            new Column("selection_method", "선발방법 상세내용", Kind.TEXT),
+            new Column("selection_count", "선발인원 상세내용", Kind.TEXT),
+            new Column("eligibility_restriction", "자격제한 상세내용", Kind.TEXT),
+            new Column("recommendation_required", "추천필요여부 상세내용", Kind.TEXT),
+            new Column("required_documents", "제출서류 상세내용", Kind.TEXT),
+            new Column("website_url", "홈페이지 주소", Kind.TEXT),
+            new Column("apply_start", "모집시작일", Kind.TEXT),
+            new Column("apply_end", "모집종료일", Kind.TEXT),
+            // 파싱 결과 + 관리용
+            new Column("id", "id", Kind.TEXT),
+            new Column("scholarship_type", "scholarship_type", Kind.TEXT),
+            new Column("min_gpa", "min_gpa", Kind.NUMBER),
+            new Column("max_income_level", "max_income_level", Kind.NUMBER),
+            new Column("allowed_academic_status", "allowed_academic_status", Kind.TEXT),
+            new Column("allowed_grades", "allowed_grades", Kind.TEXT),
+            new Column("allowed_university_types", "allowed_university_types", Kind.TEXT),
+            new Column("region_limit", "region_limit", Kind.TEXT),
+            new Column("is_active", "is_active", Kind.BOOLEAN),
+            new Column("is_featured", "is_featured", Kind.BOOLEAN),
+            new Column("created_at", "created_at", Kind.TEXT),
+            new Column("updated_at", "updated_at", Kind.TEXT)
+    );
+
+    private static final String SELECT_SQL = "SELECT " +
+            COLUMNS.stream().map(Column::name).collect(Collectors.joining(", ")) + " FROM scholarships WHERE ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScholarshipSearchIndex searchIndex;
+
+    public ScholarshipExportRepository(DataSource dataSource, ScholarshipSearchIndex searchIndex) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.searchIndex = searchIndex;
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 조건(관리자 목록과 같은 필터)에 맞는 장학금을 id 순으로 한 행씩 전달
+     */
+    public void stream(String search, ScholarshipType type, Boolean isActive, Boolean isFeatured,
+                       RowCallbackHandler handler) {
+        List<Object> params = new ArrayList<>();
+        String where = ScholarshipBulkRepository.filterCondition(search, searchIndex.toBooleanQuery(search), type,
+                isActive, isFeatured, params);
+        jdbcTemplate.query(SELECT_SQL + where + " ORDER BY id", handler, params.toArray());
+    }
+}
@@ -0,0 +1,265 @@
+package com.yaprj.repository;
+
+import com.yaprj.entity.Scholarship;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장학금 대량 적재 전용 JDBC 저장소
+ * JPA save()는 ID가 미리 지정된 엔티티마다 존재 여부 SELECT 후 INSERT를 하므로,
+ * 새 행임이 확실한 CSV 적재는 병합 확인 없이 JDBC 배치 INSERT로 보냄
+ * (MySQL 드라이버 rewriteBatchedStatements=true면 다중 행 INSERT 1건으로 재작성됨)
+ *
+ * 감사(auditing) 리스너를 거치지 않으므로 created_at/updated_at은 여기서 직접 기록.
+ * JPA 영속성 컨텍스트와 무관하게 같은 트랜잭션 커넥션으로 실행됨
+ *
+ * 교체(replace) 적재용 스테이징 테이블 관리도 담당: 스테이징에 모두 적재한 뒤 RENAME TABLE 한 번으로
+ * 운영 테이블과 맞바꾸고, 직전 카탈로그는 scholarships_previous로 남겨 즉시 되돌릴 수 있게 함
+ * (MySQL DDL은 암묵적으로 커밋하므로 테이블 관리 메서드는 트랜잭션 밖에서 호출)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScholarshipJdbcRepository {
+
+    private static final String TABLE = "scholarships";
+    private static final String PREVIOUS_TABLE = "scholarships_previous";
+    private static final String SWAP_TABLE = "scholarships_swap";
+    private static final String STAGING_PREFIX = "scholarships_staging_";
+
+    private static final String INSERT_SQL = "INSERT INTO %s (" +
+            "id, csv_row_number, organization, name, organization_type, product_type, financial_aid_type, " +
+            "university_category, grade_semester, major_category, grade_criteria, income_criteria, " +
+            "support_details, special_qualification, residency_detail, selection_method, selection_count, " +
+            "eligibility_restriction, recommendation_required, required_documents, website_url, " +
+            "apply_start, apply_end, scholarship_type, min_gpa, max_income_level, allowed_academic_status, " +
+            "allowed_grades, allowed_university_types, region_limit, is_active, content_hash, is_featured, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // CSV 유래 컬럼만 갱신 (추천 여부/등록일은 유지)
+    private static final String UPDATE_SQL = "UPDATE scholarships SET " +
+            "csv_row_number = ?, organization = ?, name = ?, organization_type = ?, product_type = ?, " +
+            "financial_aid_type = ?, university_category = ?, grade_semester = ?, major_category = ?, " +
+            "grade_criteria = ?, income_criteria = ?, support_details = ?, special_qualification = ?, " +
+            "residency_detail = ?, selection_method = ?, selection_count = ?, eligibility_restriction = ?, " +
+            "recommendation_required = ?, required_documents = ?, website_url = ?, apply_start = ?, apply_end = ?, " +
+            "scholarship_type = ?, min_gpa = ?, max_income_level = ?, allowed_academic_status = ?, " +
+            "allowed_grades = ?, allowed_university_types = ?, region_limit = ?, is_active = ?, content_hash = ?, " +
+            "updated_at = ? WHERE id = ?";
+
+    private static final String DEACTIVATE_SQL =
+            "UPDATE scholarships SET is_active = false, updated_at = ? WHERE id = ? AND is_active = true";
+
+    // 교체 적재 후 새로 생긴 장학금 (직전 카탈로그에 같은 운영기관명/상품명의 활성 장학금이 없던 것)
+    private static final String NEW_SINCE_PREVIOUS_SQL = "SELECT s.id FROM " + TABLE + " s " +
+            "WHERE s.is_active = true AND NOT EXISTS (SELECT 1 FROM " + PREVIOUS_TABLE + " p " +
+            "WHERE p.organization = s.organization AND p.name = s.name AND p.is_active = true)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업별 스테이징 테이블 이름 (작업 ID는 TimeOrderedIds 형식만 허용)
+     */
+    public static String stagingTable(String jobId) {
+        if (!jobId.matches("[0-9a-f-]{36}")) {
+            throw new IllegalArgumentException("잘못된 작업 ID입니다.");
+        }
+        return STAGING_PREFIX + jobId.replace("-", "");
+    }
+
+    /**
+     * 신규 장학금 일괄 INSERT (목록 전체를 하나의 배치로 전송)
+     * @return 저장 건수
+     */
+    public int insertAll(List<Scholarship> scholarships) {
+        return insertAll(TABLE, scholarships);
+    }
+
+    /**
+     * 지정한 테이블(운영 또는 스테이징)로 일괄 INSERT
+     * @return 저장 건수
+     */
+    public int insertAll(String table, List<Scholarship> scholarships) {
+        if (scholarships.isEmpty()) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Scholarship scholarship : scholarships) {
+            if (scholarship.getCreatedAt() == null) scholarship.setCreatedAt(now);
+            scholarship.setUpdatedAt(now);
+        }
+
+        jdbcTemplate.batchUpdate(String.format(INSERT_SQL, table), scholarships, scholarships.size(), (ps, s) -> {
+            ps.setString(1, s.getId());
+            int i = bindContent(ps, 2, s);
+            setBoolean(ps, i++, s.getIsFeatured());
+            ps.setTimestamp(i++, Timestamp.valueOf(s.getCreatedAt()));
+            ps.setTimestamp(i, Timestamp.valueOf(s.getUpdatedAt()));
+        });
+        return scholarships.size();
+    }
+
+    /**
+     * 기존 장학금의 CSV 유래 컬럼 일괄 UPDATE (id 기준, 하나의 배치로 전송)
+     * @return 갱신 건수
+     */
+    public int updateAll(List<Scholarship> scholarships) {
+        if (scholarships.isEmpty()) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        for (Scholarship scholarship : scholarships) {
+            scholarship.setUpdatedAt(now);
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, scholarships, scholarships.size(), (ps, s) -> {
+            int i = bindContent(ps, 1, s);
+            ps.setTimestamp(i++, updatedAt);
+            ps.setString(i, s.getId());
+        });
+        return scholarships.size();
+    }
+
+    /**
+     * 일괄 비활성화 (활성 상태였던 행만, updated_at 갱신)
+     * @return 비활성화된 건수
+     */
+    public int deactivateAll(List<String> ids) {
+        if (ids.isEmpty()) return 0;
+
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(DEACTIVATE_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setTimestamp(1, updatedAt);
+            ps.setString(2, id);
+        });
+        int deactivated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 재작성한 배치는 건수 대신 SUCCESS_NO_INFO(-2)를 돌려줄 수 있음
+                deactivated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return deactivated;
+    }
+
+    // ===== 교체 적재 (스테이징 테이블) =====
+
+    /**
+     * 운영 테이블과 같은 구조(인덱스 포함)의 빈 스테이징 테이블 생성
+     */
+    public void createStagingTable(String staging) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + staging);
+        jdbcTemplate.execute("CREATE TABLE " + staging + " LIKE " + TABLE);
+    }
+
+    public boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    public long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countActive(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE is_active = true", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 스테이징 테이블을 운영 테이블로 게시 (RENAME TABLE은 원자적이라 조회 쪽은 이전/새 카탈로그 중 하나만 봄)
+     * 기존 운영 테이블은 scholarships_previous로 보관 (그 전에 보관하던 테이블은 삭제)
+     */
+    public void publishStaging(String staging) {
+        touchAll(staging);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PREVIOUS_TABLE);
+        jdbcTemplate.execute("RENAME TABLE " + TABLE + " TO " + PREVIOUS_TABLE + ", " + staging + " TO " + TABLE);
+    }
+
+    /**
+     * 보관 중인 직전 카탈로그와 운영 테이블을 맞바꿈 (다시 호출하면 원래대로)
+     * @return 보관 테이블이 없으면 false
+     */
+    public boolean swapWithPrevious() {
+        if (!tableExists(PREVIOUS_TABLE)) return false;
+        touchAll(PREVIOUS_TABLE);
+        jdbcTemplate.execute("RENAME TABLE " + TABLE + " TO " + SWAP_TABLE + ", "
+                + PREVIOUS_TABLE + " TO " + TABLE + ", " + SWAP_TABLE + " TO " + PREVIOUS_TABLE);
+        return true;
+    }
+
+    /**
+     * 운영 테이블로 들어갈 테이블의 updated_at을 지금으로 기록
+     * 적재/보관 시점 값이 그대로 남으면 판정 결과 증분 갱신(updated_at 기준)이 바뀐 장학금을 놓침
+     */
+    private void touchAll(String table) {
+        jdbcTemplate.update("UPDATE " + table + " SET updated_at = ?", Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 게시 직후 직전 카탈로그에 없던 활성 장학금 ID (신규 알림 대상)
+     */
+    public List<String> findIdsNewSincePrevious() {
+        return jdbcTemplate.queryForList(NEW_SINCE_PREVIOUS_SQL, String.class);
+    }
+
+    /**
+     * INSERT/UPDATE 공통 컬럼 (csv_row_number ~ content_hash) 바인딩
+     * @return 다음 파라미터 위치
+     */
+    private int bindContent(PreparedStatement ps, int i, Scholarship s) throws SQLException {
+        setInteger(ps, i++, s.getCsvRowNumber());
+        ps.setString(i++, s.getOrganization());
+        ps.setString(i++, s.getName());
+        ps.setString(i++, s.getOrganizationType());
+        ps.setString(i++, s.getProductType());
+        ps.setString(i++, s.getFinancialAidType());
+        ps.setString(i++, s.getUniversityCategory());
+        ps.setString(i++, s.getGradeSemester());
+        ps.setString(i++, s.getMajorCategory());
+        ps.setString(i++, s.getGradeCriteria());
+        ps.setString(i++, s.getIncomeCriteria());
+        ps.setString(i++, s.getSupportDetails());
+        ps.setString(i++, s.getSpecialQualification());
+        ps.setString(i++, s.getResidencyDetail());
+        ps.setString(i++, s.getSelectionMethod());
+        ps.setString(i++, s.getSelectionCount());
+        ps.setString(i++, s.getEligibilityRestriction());
+        ps.setString(i++, s.getRecommendationRequired());
+        ps.setString(i++, s.getRequiredDocuments());
+        ps.setString(i++, s.getWebsiteUrl());
+        ps.setObject(i++, s.getApplyStart(), Types.DATE);
+        ps.setObject(i++, s.getApplyEnd(), Types.DATE);
+        ps.setString(i++, s.getScholarshipType() != null ? s.getScholarshipType().name() : null);
+        ps.setBigDecimal(i++, s.getMinGpa());
+        setInteger(ps, i++, s.getMaxIncomeLevel());
+        ps.setString(i++, s.getAllowedAcademicStatus());
+        ps.setString(i++, s.getAllowedGrades());
+        ps.setString(i++, s.getAllowedUniversityTypes());
+        ps.setString(i++, s.getRegionLimit());
+        setBoolean(ps, i++, s.getIsActive());
+        ps.setString(i++, s.getContentHash());
+        return i;
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.INTEGER);
+        else ps.setInt(index, value);
+    }
+
+    private static void setBoolean(PreparedStatement ps, int index, Boolean value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.BOOLEAN);
+        else ps.setBoolean(index, value);
+    }
+}
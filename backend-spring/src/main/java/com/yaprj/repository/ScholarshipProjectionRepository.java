@@ -0,0 +1,138 @@
+package com.yaprj.repository;
+
+import com.yaprj.entity.enums.ScholarshipType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 API용 컬럼 선택 조회
+ * 엔티티 전체(TEXT 컬럼 ~15개)를 읽지 않고, 응답에 필요한 컬럼만 SELECT 절에 넣어 행 단위로 반환
+ * 반환 행은 [id, columns 순서의 값...] 이며 값은 컬럼 종류에 맞는 Java 타입
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScholarshipProjectionRepository {
+
+    public enum Kind { TEXT, INTEGER, DECIMAL, BOOLEAN, DATE, DATETIME, TYPE }
+
+    /**
+     * 선택 가능한 컬럼 (SQL에 그대로 들어가므로 아래 상수만 사용)
+     */
+    public record Column(String name, Kind kind) {
+    }
+
+    public static final Column NAME = new Column("name", Kind.TEXT);
+    public static final Column ORGANIZATION = new Column("organization", Kind.TEXT);
+    public static final Column ORGANIZATION_TYPE = new Column("organization_type", Kind.TEXT);
+    public static final Column PRODUCT_TYPE = new Column("product_type", Kind.TEXT);
+    public static final Column FINANCIAL_AID_TYPE = new Column("financial_aid_type", Kind.TEXT);
+    public static final Column SCHOLARSHIP_TYPE = new Column("scholarship_type", Kind.TYPE);
+    public static final Column UNIVERSITY_CATEGORY = new Column("university_category", Kind.TEXT);
+    public static final Column GRADE_SEMESTER = new Column("grade_semester", Kind.TEXT);
+    public static final Column MAJOR_CATEGORY = new Column("major_category", Kind.TEXT);
+    public static final Column GRADE_CRITERIA = new Column("grade_criteria", Kind.TEXT);
+    public static final Column INCOME_CRITERIA = new Column("income_criteria", Kind.TEXT);
+    public static final Column SUPPORT_DETAILS = new Column("support_details", Kind.TEXT);
+    public static final Column SPECIAL_QUALIFICATION = new Column("special_qualification", Kind.TEXT);
+    public static final Column RESIDENCY_DETAIL = new Column("residency_detail", Kind.TEXT);
+    public static final Column SELECTION_METHOD = new Column("selection_method", Kind.TEXT);
+    public static final Column SELECTION_COUNT = new Column("selection_count", Kind.TEXT);
+    public static final Column ELIGIBILITY_RESTRICTION = new Column("eligibility_restriction", Kind.TEXT);
+    public static final Column RECOMMENDATION_REQUIRED = new Column("recommendation_required", Kind.TEXT);
+    public static final Column REQUIRED_DOCUMENTS = new Column("required_documents", Kind.TEXT);
+    public static final Column WEBSITE_URL = new Column("website_url", Kind.TEXT);
+    public static final Column APPLY_START = new Column("apply_start", Kind.DATE);
+    public static final Column APPLY_END = new Column("apply_end", Kind.DATE);
+    public static final Column MIN_GPA = new Column("min_gpa", Kind.DECIMAL);
+    public static final Column MAX_INCOME_LEVEL = new Column("max_income_level", Kind.INTEGER);
+    public static final Column ALLOWED_ACADEMIC_STATUS = new Column("allowed_academic_status", Kind.TEXT);
+    public static final Column ALLOWED_GRADES = new Column("allowed_grades", Kind.TEXT);
+    public static final Column ALLOWED_UNIVERSITY_TYPES = new Column("allowed_university_types", Kind.TEXT);
+    public static final Column REGION_LIMIT = new Column("region_limit", Kind.TEXT);
+    public static final Column IS_ACTIVE = new Column("is_active", Kind.BOOLEAN);
+    public static final Column IS_FEATURED = new Column("is_featured", Kind.BOOLEAN);
+    public static final Column CREATED_AT = new Column("created_at", Kind.DATETIME);
+    public static final Column UPDATED_AT = new Column("updated_at", Kind.DATETIME);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * id 목록의 선택 컬럼 (PK 조회, ids 순서 유지, 없는 id는 생략)
+     */
+    public List<Object[]> findByIds(List<String> ids, List<Column> columns) {
+        if (ids.isEmpty()) return Collections.emptyList();
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        List<Object[]> rows = query(columns, "id IN (" + placeholders + ")", ids.toArray());
+
+        Map<String, Object[]> byId = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            byId.put((String) row[0], row);
+        }
+        List<Object[]> ordered = new ArrayList<>(rows.size());
+        for (String id : ids) {
+            Object[] row = byId.get(id);
+            if (row != null) ordered.add(row);
+        }
+        return ordered;
+    }
+
+    /**
+     * 추천 장학금 (활성, 최근 수정 순)
+     */
+    public List<Object[]> findFeatured(List<Column> columns) {
+        return query(columns, "is_featured = true AND is_active = true ORDER BY updated_at DESC");
+    }
+
+    /**
+     * 오늘 모집 중인 장학금 (활성, 마감 임박 순)
+     */
+    public List<Object[]> findAccepting(List<Column> columns, LocalDate today) {
+        return query(columns, "is_active = true AND apply_start <= ? AND apply_end >= ? ORDER BY apply_end ASC",
+                today, today);
+    }
+
+    private List<Object[]> query(List<Column> columns, String condition, Object... params) {
+        String select = columns.stream().map(c -> ", " + c.name()).collect(Collectors.joining());
+        return jdbcTemplate.query("SELECT id" + select + " FROM scholarships WHERE " + condition,
+                (rs, rowNum) -> {
+                    Object[] row = new Object[columns.size() + 1];
+                    row[0] = rs.getString(1);
+                    for (int i = 0; i < columns.size(); i++) {
+                        row[i + 1] = read(rs, i + 2, columns.get(i).kind());
+                    }
+                    return row;
+                }, params);
+    }
+
+    private static Object read(ResultSet rs, int index, Kind kind) throws SQLException {
+        switch (kind) {
+            case INTEGER:
+                return rs.getObject(index, Integer.class);
+            case DECIMAL:
+                return rs.getBigDecimal(index);
+            case BOOLEAN:
+                return rs.getObject(index, Boolean.class);
+            case DATE:
+                return rs.getObject(index, LocalDate.class);
+            case DATETIME:
+                return rs.getObject(index, LocalDateTime.class);
+            case TYPE:
+                String type = rs.getString(index);
+                return type != null ? ScholarshipType.valueOf(type) : null;
+            default:
+                return rs.getString(index);
+        }
+    }
+}
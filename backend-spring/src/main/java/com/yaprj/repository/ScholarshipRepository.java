@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,30 +19,150 @@ public interface ScholarshipRepository extends JpaRepository<Scholarship, String
     
     List<Scholarship> findByIsActiveTrueOrderByIsFeaturedDescUpdatedAtDesc();
     
-    Page<Scholarship> findByIsActiveTrue(Pageable pageable);
+    // 목록 쿼리는 id(+ 커서 키)만 읽고, 응답 컬럼은 ScholarshipProjectionRepository에서 PK로 선택 조회
     
-    @Query("SELECT s FROM Scholarship s WHERE s.isActive = true AND " +
+    /**
+     * 사용자 목록 커서 키 (idx_scholarship_active_featured_end 에 모두 들어 있는 컬럼)
+     */
+    interface PublicSeekKey {
+        String getId();
+        Boolean getIsFeatured();
+        LocalDate getApplyEnd();
+    }
+    
+    /**
+     * 관리자 목록 커서 키 (idx_scholarship_active_updated 에 모두 들어 있는 컬럼)
+     */
+    interface AdminSeekKey {
+        String getId();
+        Boolean getIsActive();
+        LocalDateTime getUpdatedAt();
+    }
+    
+    @Query("SELECT s.id FROM Scholarship s WHERE s.isActive = true AND " +
+           "(:type IS NULL OR s.scholarshipType = :type) AND " +
+           "(:acceptingOn IS NULL OR (s.applyStart <= :acceptingOn AND s.applyEnd >= :acceptingOn))")
+    Page<String> findActiveIdsWithFilters(
+            @Param("type") ScholarshipType type,
+            @Param("acceptingOn") LocalDate acceptingOn,
+            Pageable pageable);
+    
+    // acceptingOn: 지정하면 그 날짜에 모집 중인 장학금만
+    @Query("SELECT s.id FROM Scholarship s WHERE s.isActive = true AND " +
            "(LOWER(s.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(s.organization) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Scholarship> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+           "LOWER(s.organization) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "(:type IS NULL OR s.scholarshipType = :type) AND " +
+           "(:acceptingOn IS NULL OR (s.applyStart <= :acceptingOn AND s.applyEnd >= :acceptingOn))")
+    Page<String> searchIdsByKeyword(
+            @Param("keyword") String keyword,
+            @Param("type") ScholarshipType type,
+            @Param("acceptingOn") LocalDate acceptingOn,
+            Pageable pageable);
     
-    @Query("SELECT s FROM Scholarship s WHERE " +
+    @Query("SELECT s.id FROM Scholarship s WHERE " +
            "(:search IS NULL OR LOWER(s.name) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(s.organization) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
            "(:type IS NULL OR s.scholarshipType = :type) AND " +
            "(:isActive IS NULL OR s.isActive = :isActive) AND " +
            "(:isFeatured IS NULL OR s.isFeatured = :isFeatured)")
-    Page<Scholarship> findWithFilters(
+    Page<String> findIdsWithFilters(
             @Param("search") String search,
             @Param("type") ScholarshipType type,
             @Param("isActive") Boolean isActive,
             @Param("isFeatured") Boolean isFeatured,
             Pageable pageable);
     
-    List<Scholarship> findByIsFeaturedTrueAndIsActiveTrueOrderByUpdatedAtDesc();
+    // 전문 검색 (ScholarshipSearchIndex 인덱스 + BOOLEAN MODE 질의, 관련도 순)
+    @Query(value = "SELECT s.id FROM scholarships s WHERE s.is_active = true AND " +
+                   "MATCH(s.name, s.organization, s.support_details) AGAINST (:query IN BOOLEAN MODE) AND " +
+                   "(:type IS NULL OR s.scholarship_type = :type) AND " +
+                   "(:acceptingOn IS NULL OR (s.apply_start <= :acceptingOn AND s.apply_end >= :acceptingOn)) " +
+                   "ORDER BY MATCH(s.name, s.organization, s.support_details) AGAINST (:query IN BOOLEAN MODE) DESC, s.id",
+           countQuery = "SELECT COUNT(*) FROM scholarships s WHERE s.is_active = true AND " +
+                   "MATCH(s.name, s.organization, s.support_details) AGAINST (:query IN BOOLEAN MODE) AND " +
+                   "(:type IS NULL OR s.scholarship_type = :type) AND " +
+                   "(:acceptingOn IS NULL OR (s.apply_start <= :acceptingOn AND s.apply_end >= :acceptingOn))",
+           nativeQuery = true)
+    Page<String> searchIdsFullText(
+            @Param("query") String query,
+            @Param("type") String type,
+            @Param("acceptingOn") LocalDate acceptingOn,
+            Pageable pageable);
     
-    @Query("SELECT s FROM Scholarship s WHERE s.isActive = true AND " +
-           "s.applyStart <= :today AND s.applyEnd >= :today ORDER BY s.applyEnd ASC")
-    List<Scholarship> findAcceptingApplications(@Param("today") LocalDate today);
+    @Query(value = "SELECT s.id FROM scholarships s WHERE " +
+                   "MATCH(s.name, s.organization, s.support_details) AGAINST (:query IN BOOLEAN MODE) AND " +
+                   "(:type IS NULL OR s.scholarship_type = :type) AND " +
+                   "(:isActive IS NULL OR s.is_active = :isActive) AND " +
+                   "(:isFeatured IS NULL OR s.is_featured = :isFeatured) " +
+                   "ORDER BY MATCH(s.name, s.organization, s.support_details) AGAINST (:query IN BOOLEAN MODE) DESC, s.id",
+           countQuery = "SELECT COUNT(*) FROM scholarships s WHERE " +
+                   "MATCH(s.name, s.organization, s.support_details) AGAINST (:query IN BOOLEAN MODE) AND " +
+                   "(:type IS NULL OR s.scholarship_type = :type) AND " +
+                   "(:isActive IS NULL OR s.is_active = :isActive) AND " +
+                   "(:isFeatured IS NULL OR s.is_featured = :isFeatured)",
+           nativeQuery = true)
+    Page<String> findIdsWithFiltersFullText(
+            @Param("query") String query,
+            @Param("type") String type,
+            @Param("isActive") Boolean isActive,
+            @Param("isFeatured") Boolean isFeatured,
+            Pageable pageable);
+    
+    // 커서(seek) 페이지네이션: 추천 여부 DESC, 모집종료일 ASC(MySQL은 null 먼저), id ASC
+    // 첫 페이지는 id = null, 건수 제한은 Pageable(정렬 없음)로
+    // idx_scholarship_active_featured_end / idx_scholarship_active_type_end 순서 그대로 읽어 filesort 없음
+    @Query("SELECT s.id AS id, s.isFeatured AS isFeatured, s.applyEnd AS applyEnd FROM Scholarship s " +
+           "WHERE s.isActive = true AND " +
+           "(:type IS NULL OR s.scholarshipType = :type) AND " +
+           "(:acceptingOn IS NULL OR (s.applyStart <= :acceptingOn AND s.applyEnd >= :acceptingOn)) AND (:id IS NULL OR " +
+           "(:featured = true AND s.isFeatured = false) OR " +
+           "(s.isFeatured = :featured AND (" +
+           "(:applyEnd IS NULL AND (s.applyEnd IS NOT NULL OR s.id > :id)) OR " +
+           "s.applyEnd > :applyEnd OR (s.applyEnd = :applyEnd AND s.id > :id)))) " +
+           "ORDER BY s.isFeatured DESC, s.applyEnd ASC, s.id ASC")
+    List<PublicSeekKey> findActiveAfter(
+            @Param("type") ScholarshipType type,
+            @Param("acceptingOn") LocalDate acceptingOn,
+            @Param("featured") Boolean featured,
+            @Param("applyEnd") LocalDate applyEnd,
+            @Param("id") String id,
+            Pageable limit);
+    
+    // 관리자 목록 커서 페이지네이션: 활성 여부 DESC, 수정일 DESC, id DESC
+    @Query("SELECT s.id AS id, s.isActive AS isActive, s.updatedAt AS updatedAt FROM Scholarship s WHERE " +
+           "(:type IS NULL OR s.scholarshipType = :type) AND " +
+           "(:isActive IS NULL OR s.isActive = :isActive) AND " +
+           "(:isFeatured IS NULL OR s.isFeatured = :isFeatured) AND " +
+           "(:id IS NULL OR (:active = true AND s.isActive = false) OR " +
+           "(s.isActive = :active AND (s.updatedAt < :updatedAt OR (s.updatedAt = :updatedAt AND s.id < :id)))) " +
+           "ORDER BY s.isActive DESC, s.updatedAt DESC, s.id DESC")
+    List<AdminSeekKey> findWithFiltersAfter(
+            @Param("type") ScholarshipType type,
+            @Param("isActive") Boolean isActive,
+            @Param("isFeatured") Boolean isFeatured,
+            @Param("active") Boolean active,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") String id,
+            Pageable limit);
+    
+    @Query("SELECT COUNT(s) FROM Scholarship s WHERE s.isActive = true AND " +
+           "(:type IS NULL OR s.scholarshipType = :type) AND " +
+           "(:acceptingOn IS NULL OR (s.applyStart <= :acceptingOn AND s.applyEnd >= :acceptingOn))")
+    long countActiveWithFilters(
+            @Param("type") ScholarshipType type,
+            @Param("acceptingOn") LocalDate acceptingOn);
+    
+    @Query("SELECT COUNT(s) FROM Scholarship s WHERE " +
+           "(:type IS NULL OR s.scholarshipType = :type) AND " +
+           "(:isActive IS NULL OR s.isActive = :isActive) AND " +
+           "(:isFeatured IS NULL OR s.isFeatured = :isFeatured)")
+    long countWithFilters(
+            @Param("type") ScholarshipType type,
+            @Param("isActive") Boolean isActive,
+            @Param("isFeatured") Boolean isFeatured);
+    
+    @Query("SELECT COUNT(s) FROM Scholarship s WHERE s.isActive = true AND " +
+           "s.applyStart <= :today AND s.applyEnd >= :today")
+    long countAcceptingApplications(@Param("today") LocalDate today);
     
     long countByIsActiveTrue();
     long countByIsActiveFalse();
@@ -53,11 +174,21 @@ public interface ScholarshipRepository extends JpaRepository<Scholarship, String
     @Query("SELECT s.organizationType, COUNT(s) FROM Scholarship s GROUP BY s.organizationType")
     List<Object[]> countByOrganizationType();
     
-    @Modifying
-    @Query("UPDATE Scholarship s SET s.isActive = false WHERE s.isActive = true")
-    int deactivateAll();
+    // 신규 여부 판별용 (운영기관명|상품명)
+    @Query("SELECT CONCAT(s.organization, '|', s.name) FROM Scholarship s WHERE s.isActive = true")
+    List<String> findActiveCatalogKeys();
+    
+    // 자동완성 색인용 (id, 상품명, 운영기관명, 추천 여부, 모집종료일)
+    @Query("SELECT s.id, s.name, s.organization, s.isFeatured, s.applyEnd FROM Scholarship s WHERE s.isActive = true")
+    List<Object[]> findSuggestEntries();
+    
+    // upsert 매칭용 (id, 번호, 운영기관명, 상품명, 내용 해시, 활성 여부) - CSV로 적재된 장학금만
+    @Query("SELECT s.id, s.csvRowNumber, s.organization, s.name, s.contentHash, s.isActive " +
+           "FROM Scholarship s WHERE s.csvRowNumber IS NOT NULL")
+    List<Object[]> findCsvCatalogEntries();
     
+    // 벌크 UPDATE는 감사 리스너를 거치지 않으므로 updatedAt을 직접 갱신
     @Modifying
-    @Query("DELETE FROM Scholarship s WHERE s.isActive = false")
-    int deleteInactive();
+    @Query("UPDATE Scholarship s SET s.isActive = false, s.updatedAt = :now WHERE s.isActive = true")
+    int deactivateAll(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,74 @@
+package com.yaprj.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자별 자격 확인 결과 일괄 쓰기 전용 JDBC 저장소
+ * 바뀐 행만 JDBC 배치로 보냄 (rewriteBatchedStatements=true면 다중 행 문장 1건으로 재작성됨)
+ * (user_id, scholarship_id) 유일 키 기준으로 INSERT/UPDATE를 한 문장에 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScholarshipResultJdbcRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO scholarship_results " +
+            "(id, user_id, scholarship_id, is_eligible, details, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE is_eligible = VALUES(is_eligible), details = VALUES(details), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String DELETE_SQL = "DELETE FROM scholarship_results WHERE user_id = ? AND scholarship_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장할 결과 1건 (isEligible: true = 적격, null = 확인필요)
+     */
+    public record ResultRow(String scholarshipId, Boolean isEligible, String details) {
+    }
+
+    /**
+     * 결과 일괄 저장 (이미 있는 장학금은 판정/근거만 갱신)
+     * @return 전송 건수
+     */
+    public int upsertAll(String userId, List<ResultRow> rows) {
+        if (rows.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, TimeOrderedIds.next());
+            ps.setString(2, userId);
+            ps.setString(3, row.scholarshipId());
+            if (row.isEligible() != null) {
+                ps.setBoolean(4, row.isEligible());
+            } else {
+                ps.setNull(4, Types.BOOLEAN);
+            }
+            ps.setString(5, row.details());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        return rows.size();
+    }
+
+    /**
+     * 장학금 id 목록의 결과 일괄 삭제
+     * @return 전송 건수
+     */
+    public int deleteAll(String userId, List<String> scholarshipIds) {
+        if (scholarshipIds.isEmpty()) return 0;
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, scholarshipIds, scholarshipIds.size(), (ps, scholarshipId) -> {
+            ps.setString(1, userId);
+            ps.setString(2, scholarshipId);
+        });
+        return scholarshipIds.size();
+    }
+}
@@ -2,6 +2,8 @@ package com.yaprj.repository;
 
 import com.yaprj.entity.ScholarshipResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,5 +11,10 @@ import java.util.List;
 @Repository
 public interface ScholarshipResultRepository extends JpaRepository<ScholarshipResult, String> {
     List<ScholarshipResult> findByUserId(String userId);
+    
+    // 저장된 판정만 (scholarshipId, isEligible), 근거(details)는 읽지 않음
+    @Query("SELECT r.scholarshipId, r.isEligible FROM ScholarshipResult r WHERE r.user.id = :userId")
+    List<Object[]> findVerdictsByUserId(@Param("userId") String userId);
+    
     void deleteByUserId(String userId);
 }
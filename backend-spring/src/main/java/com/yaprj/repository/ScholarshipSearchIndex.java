@@ -0,0 +1,66 @@
+package com.yaprj.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.StringJoiner;
+
+/**
+ * 장학금 전문 검색 인덱스 (MySQL FULLTEXT + ngram 파서, 상품명/운영기관명/지원내역)
+ * ddl-auto로는 FULLTEXT 인덱스를 만들 수 없어 기동 시 없으면 생성. 생성에 실패하면(ngram 파서 미지원 등)
+ * 검색은 기존 LIKE 쿼리로 동작
+ *
+ * ngram 토큰 길이(ngram_token_size, 기본 2)보다 짧은 검색어는 인덱스로 찾을 수 없으므로 역시 LIKE로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ScholarshipSearchIndex {
+
+    public static final String INDEX_NAME = "ft_scholarships_search";
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean available;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndex() {
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'scholarships' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            if (existing == null || existing == 0) {
+                log.info("전문 검색 인덱스 생성: {}", INDEX_NAME);
+                jdbcTemplate.execute("ALTER TABLE scholarships ADD FULLTEXT INDEX " + INDEX_NAME +
+                        " (name, organization, support_details) WITH PARSER ngram");
+            }
+            available = true;
+        } catch (Exception e) {
+            available = false;
+            log.warn("전문 검색 인덱스를 사용할 수 없어 LIKE 검색으로 동작: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색어 → BOOLEAN MODE 질의 (공백으로 나눈 단어마다 +"단어", 모두 포함해야 일치)
+     * @return 인덱스를 쓸 수 없으면 null (인덱스 없음, 빈 검색어, 토큰 길이보다 짧은 단어 포함)
+     */
+    public String toBooleanQuery(String search) {
+        if (!available || search == null) return null;
+
+        StringJoiner query = new StringJoiner(" ");
+        for (String word : search.trim().split("\\s+")) {
+            // BOOLEAN MODE 연산자/따옴표 제거
+            String term = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (term.isEmpty()) continue;
+            if (term.length() < MIN_TOKEN_LENGTH) return null;
+            query.add("+\"" + term + "\"");
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+}
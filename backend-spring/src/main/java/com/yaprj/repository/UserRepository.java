@@ -2,9 +2,14 @@ package com.yaprj.repository;
 
 import com.yaprj.entity.User;
 import com.yaprj.entity.enums.OAuthProvider;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,15 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     Optional<User> findByProviderAndProviderId(OAuthProvider provider, String providerId);
     boolean existsByEmail(String email);
+    
+    // 사용자 행 잠금 (SELECT ... FOR UPDATE, 같은 사용자의 결과 저장을 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") String id);
+    
+    // 자격 조건이 모두 입력된 사용자 프로필 (id, academicStatus, grade, gpa, incomeLevel)
+    @Query("SELECT u.id, u.academicStatus, u.grade, u.gpa, u.incomeLevel FROM User u " +
+           "WHERE u.academicStatus IS NOT NULL AND u.grade IS NOT NULL " +
+           "AND u.gpa IS NOT NULL AND u.incomeLevel IS NOT NULL")
+    List<Object[]> findEligibilityProfiles();
 }
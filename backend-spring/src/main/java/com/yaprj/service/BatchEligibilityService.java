@@ -0,0 +1,465 @@
+package com.yaprj.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.dto.response.BatchCheckSummary;
+import com.yaprj.entity.enums.AcademicStatus;
+import com.yaprj.service.eligibility.CheckConditions;
+import com.yaprj.service.eligibility.EligibilityClassification;
+import com.yaprj.service.eligibility.EligibilityEngine;
+import com.yaprj.service.eligibility.EligibilitySnapshot;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * 명단(학생 다수) 일괄 자격 확인
+ * 하나의 카탈로그 스냅샷에 대해 fork-join 풀로 병렬 판정하고 결과를 NDJSON/CSV로 스트리밍
+ */
+@Service
+@Slf4j
+public class BatchEligibilityService {
+
+    private static final int CHUNK_SIZE = 512;
+    private static final int RECENT_METRICS = 20;
+
+    // 명단 CSV 헤더 (영문/한글)
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("student_id", "student_id"), Map.entry("학번", "student_id"),
+            Map.entry("academic_status", "academic_status"), Map.entry("학적상태", "academic_status"),
+            Map.entry("grade", "grade"), Map.entry("학년", "grade"),
+            Map.entry("birth_year", "birth_year"), Map.entry("출생연도", "birth_year"),
+            Map.entry("gpa", "gpa"), Map.entry("성적", "gpa"),
+            Map.entry("income_level", "income_level"), Map.entry("소득분위", "income_level")
+    );
+
+    private static final String[] CSV_HEADER = {
+            "row", "student_id", "academic_status", "grade", "gpa", "income_level",
+            "eligible_count", "unknown_count", "not_eligible_count", "eligible_ids", "unknown_ids", "error"
+    };
+
+    private final EligibilityEngine eligibilityEngine;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final Deque<BatchCheckSummary> recentMetrics = new ConcurrentLinkedDeque<>();
+
+    public BatchEligibilityService(EligibilityEngine eligibilityEngine, Validator validator, ObjectMapper objectMapper) {
+        this.eligibilityEngine = eligibilityEngine;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 응답 스트리밍 중에도 읽을 수 있도록 CSV 명단을 임시 파일로 보관 (헤더 필수, student_id/학번 열은 선택)
+     */
+    public Path spoolCsv(MultipartFile file) {
+        Path spool = createSpool(".csv");
+        try {
+            file.transferTo(spool);
+            try (CSVReader reader = openCsv(spool)) {
+                if (reader.readNext() == null) {
+                    throw new IllegalArgumentException("CSV 파일이 비어있습니다.");
+                }
+            }
+            return spool;
+        } catch (IOException | CsvValidationException e) {
+            deleteQuietly(spool);
+            throw new RuntimeException("명단 CSV 처리 중 오류 발생: " + e.getMessage());
+        } catch (RuntimeException e) {
+            deleteQuietly(spool);
+            throw e;
+        }
+    }
+
+    /**
+     * JSON 배열 명단을 바인딩하지 않고 그대로 임시 파일로 보관 (배열 형식만 확인)
+     */
+    public Path spoolJson(InputStream body) {
+        Path spool = createSpool(".json");
+        try {
+            Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+            try (JsonParser parser = objectMapper.getFactory().createParser(spool.toFile())) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("명단은 JSON 배열이어야 합니다.");
+                }
+            }
+            return spool;
+        } catch (IOException e) {
+            deleteQuietly(spool);
+            throw new IllegalArgumentException("명단 JSON 처리 중 오류 발생: " + e.getMessage());
+        } catch (RuntimeException e) {
+            deleteQuietly(spool);
+            throw e;
+        }
+    }
+
+    /**
+     * 명단 일괄 판정 → 출력 스트림에 NDJSON 또는 CSV로 기록
+     * 보관한 명단을 청크 크기만큼 읽어 병렬 판정 후 순서대로 기록하므로 메모리는 청크 크기에 비례
+     * 끝나면 임시 파일 삭제
+     */
+    public void evaluate(Path spool, boolean csvInput, String format, String requestedBy, OutputStream out)
+            throws IOException {
+        try (RosterReader roster = csvInput ? new CsvRosterReader(openCsv(spool)) : new JsonRosterReader(spool)) {
+            evaluate(roster, format, requestedBy, out);
+        } finally {
+            deleteQuietly(spool);
+        }
+    }
+
+    private void evaluate(RosterReader roster, String format, String requestedBy, OutputStream out) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        EligibilitySnapshot snapshot = eligibilityEngine.current();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        String batchId = UUID.randomUUID().toString();
+        int total = 0;
+        int invalid = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVWriter csvWriter = csv ? new CSVWriter(writer) : null;
+        if (csvWriter != null) {
+            csvWriter.writeNext(CSV_HEADER, false);
+        }
+
+        List<RosterEntry> chunk = new ArrayList<>(CHUNK_SIZE);
+        boolean more = true;
+        while (more) {
+            chunk.clear();
+            RosterEntry entry;
+            while (chunk.size() < CHUNK_SIZE && (entry = roster.next()) != null) {
+                chunk.add(entry);
+            }
+            more = chunk.size() == CHUNK_SIZE;
+            total += chunk.size();
+            for (RosterResult result : evaluateChunk(snapshot, chunk)) {
+                if (result.error != null) invalid++;
+                if (csvWriter != null) {
+                    csvWriter.writeNext(toCsvRow(result), false);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(toJsonLine(result)));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        BatchCheckSummary summary = BatchCheckSummary.builder()
+                .batchId(batchId)
+                .requestedBy(requestedBy)
+                .startedAt(startedAt.toString())
+                .catalogVersion(snapshot.getVersion())
+                .catalogSize(snapshot.size())
+                .totalRows(total)
+                .evaluatedRows(total - invalid)
+                .invalidRows(invalid)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(elapsedMs > 0 ? total * 1000.0 / elapsedMs : total)
+                .parallelism(pool.getParallelism())
+                .build();
+        recordMetrics(summary);
+
+        if (csvWriter == null) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("type", "summary");
+            line.put("summary", summary);
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.write('\n');
+        }
+        if (csvWriter != null) {
+            csvWriter.flush();
+        }
+        writer.flush();
+
+        log.info("일괄 자격 확인 완료 - {}건 (오류 {}건), {}ms, {}건/초",
+                total, invalid, elapsedMs, String.format("%.0f", summary.getRowsPerSecond()));
+    }
+
+    public List<BatchCheckSummary> getRecentMetrics() {
+        return new ArrayList<>(recentMetrics);
+    }
+
+    private List<RosterResult> evaluateChunk(EligibilitySnapshot snapshot, List<RosterEntry> chunk) {
+        try {
+            return pool.submit(() -> chunk.parallelStream()
+                    .map(entry -> evaluateEntry(snapshot, entry))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("일괄 자격 확인이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("일괄 자격 확인 중 오류 발생: " + e.getCause().getMessage());
+        }
+    }
+
+    private RosterResult evaluateEntry(EligibilitySnapshot snapshot, RosterEntry entry) {
+        if (entry.error != null) {
+            return new RosterResult(entry, snapshot, null, entry.error);
+        }
+        Set<ConstraintViolation<ScholarshipCheckRequest>> violations = validator.validate(entry.request);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return new RosterResult(entry, snapshot, null, error);
+        }
+        return new RosterResult(entry, snapshot, snapshot.classify(CheckConditions.from(entry.request)), null);
+    }
+
+    private Map<String, Object> toJsonLine(RosterResult result) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", "result");
+        line.put("row", result.entry.row);
+        if (result.entry.studentId != null) {
+            line.put("student_id", result.entry.studentId);
+        }
+        if (result.error != null) {
+            line.put("error", result.error);
+            return line;
+        }
+        ScholarshipCheckRequest request = result.entry.request;
+        line.put("academic_status", request.getAcademicStatus().getValue());
+        line.put("grade", request.getGrade());
+        line.put("gpa", request.getGpa());
+        line.put("income_level", request.getIncomeLevel());
+        line.put("eligible_count", result.classification.getEligibleCount());
+        line.put("unknown_count", result.classification.getUnknownCount());
+        line.put("not_eligible_count", result.classification.getNotEligibleCount());
+        line.put("eligible_ids", result.ids(0, result.classification.getEligibleCount()));
+        line.put("unknown_ids", result.ids(result.classification.getEligibleCount(),
+                result.classification.getEligibleCount() + result.classification.getUnknownCount()));
+        return line;
+    }
+
+    private String[] toCsvRow(RosterResult result) {
+        String studentId = result.entry.studentId != null ? result.entry.studentId : "";
+        if (result.error != null) {
+            return new String[]{String.valueOf(result.entry.row), studentId, "", "", "", "", "", "", "", "", "", result.error};
+        }
+        ScholarshipCheckRequest request = result.entry.request;
+        EligibilityClassification c = result.classification;
+        return new String[]{
+                String.valueOf(result.entry.row),
+                studentId,
+                request.getAcademicStatus().getValue(),
+                String.valueOf(request.getGrade()),
+                request.getGpa().toPlainString(),
+                String.valueOf(request.getIncomeLevel()),
+                String.valueOf(c.getEligibleCount()),
+                String.valueOf(c.getUnknownCount()),
+                String.valueOf(c.getNotEligibleCount()),
+                String.join(";", result.ids(0, c.getEligibleCount())),
+                String.join(";", result.ids(c.getEligibleCount(), c.getEligibleCount() + c.getUnknownCount())),
+                ""
+        };
+    }
+
+    private void recordMetrics(BatchCheckSummary summary) {
+        recentMetrics.addFirst(summary);
+        while (recentMetrics.size() > RECENT_METRICS) {
+            recentMetrics.pollLast();
+        }
+    }
+
+    private Path createSpool(String suffix) {
+        try {
+            return Files.createTempFile("yaprj-roster-", suffix);
+        } catch (IOException e) {
+            log.error("명단 임시 파일 생성 실패", e);
+            throw new RuntimeException("명단 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("명단 임시 파일 삭제 실패: {}", spool);
+        }
+    }
+
+    private CSVReader openCsv(Path spool) throws IOException {
+        return new CSVReader(Files.newBufferedReader(spool, StandardCharsets.UTF_8));
+    }
+
+    private String cell(String[] row, Map<String, Integer> index, String key) {
+        Integer idx = index.get(key);
+        if (idx == null || idx >= row.length) return null;
+        String value = row[idx].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer parseInt(String value) {
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    /**
+     * 명단을 한 항목씩 읽는 커서 (끝이면 null)
+     */
+    private interface RosterReader extends Closeable {
+        RosterEntry next() throws IOException;
+    }
+
+    /**
+     * CSV 명단: 헤더로 열 위치를 정하고 readNext로 한 행씩 변환
+     */
+    private final class CsvRosterReader implements RosterReader {
+        private final CSVReader reader;
+        private final Map<String, Integer> index = new HashMap<>();
+        private int rowNum;
+
+        CsvRosterReader(CSVReader reader) throws IOException {
+            this.reader = reader;
+            String[] headers = readRow();
+            for (int i = 0; headers != null && i < headers.length; i++) {
+                String header = headers[i].replace("\uFEFF", "").trim().toLowerCase();
+                String key = HEADER_ALIASES.get(header);
+                if (key != null) index.put(key, i);
+            }
+        }
+
+        @Override
+        public RosterEntry next() throws IOException {
+            String[] row = readRow();
+            if (row == null) return null;
+            rowNum++;
+            String studentId = cell(row, index, "student_id");
+            try {
+                ScholarshipCheckRequest request = new ScholarshipCheckRequest();
+                request.setAcademicStatus(AcademicStatus.fromValue(cell(row, index, "academic_status")));
+                request.setGrade(parseInt(cell(row, index, "grade")));
+                request.setBirthYear(parseInt(cell(row, index, "birth_year")));
+                String gpa = cell(row, index, "gpa");
+                request.setGpa(gpa != null ? new BigDecimal(gpa) : null);
+                request.setIncomeLevel(parseInt(cell(row, index, "income_level")));
+                return new RosterEntry(rowNum, studentId, request, null);
+            } catch (IllegalArgumentException e) {
+                return new RosterEntry(rowNum, studentId, null, e.getMessage());
+            }
+        }
+
+        private String[] readRow() throws IOException {
+            try {
+                return reader.readNext();
+            } catch (CsvValidationException e) {
+                throw new IOException("명단 CSV 처리 중 오류 발생: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * JSON 배열 명단: 스트리밍 파서로 원소 하나씩만 트리로 읽어 바인딩 (원소 단위 바인딩 오류는 해당 행 오류)
+     */
+    private final class JsonRosterReader implements RosterReader {
+        private final JsonParser parser;
+        private int rowNum;
+
+        JsonRosterReader(Path spool) throws IOException {
+            this.parser = objectMapper.getFactory().createParser(spool.toFile());
+            parser.nextToken();  // START_ARRAY (보관 시 확인)
+        }
+
+        @Override
+        public RosterEntry next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) return null;
+            rowNum++;
+            JsonNode node = parser.readValueAsTree();
+            try {
+                return new RosterEntry(rowNum, null, objectMapper.treeToValue(node, ScholarshipCheckRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new RosterEntry(rowNum, null, null, e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    /**
+     * 명단 항목 (파싱 실패 시 error만 설정)
+     */
+    @Getter
+    public static class RosterEntry {
+        private final int row;
+        private final String studentId;
+        private final ScholarshipCheckRequest request;
+        private final String error;
+
+        public RosterEntry(int row, String studentId, ScholarshipCheckRequest request, String error) {
+            this.row = row;
+            this.studentId = studentId;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 명단 항목 1건의 판정 결과
+     */
+    private static final class RosterResult {
+        private final RosterEntry entry;
+        private final EligibilitySnapshot snapshot;
+        private final EligibilityClassification classification;
+        private final String error;
+
+        RosterResult(RosterEntry entry, EligibilitySnapshot snapshot, EligibilityClassification classification,
+                     String error) {
+            this.entry = entry;
+            this.snapshot = snapshot;
+            this.classification = classification;
+            this.error = error;
+        }
+
+        /**
+         * 판정 순서상 [from, to) 구간의 장학금 ID
+         */
+        List<String> ids(int from, int to) {
+            int[] order = classification.getOrder();
+            List<String> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(snapshot.getRule(order[i]).getId());
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.yaprj.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaprj.dto.response.CsvDryRunSummary;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.service.CsvParserService.ParsedRow;
+import com.yaprj.service.CsvParserService.PipelineStats;
+import com.yaprj.service.criteria.CriteriaExtractor;
+import com.yaprj.service.criteria.KeywordGroup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * CSV 검증 전용 업로드 (DB 미사용)
+ * 업로드와 같은 병렬 파싱 파이프라인으로 파일 전체를 파싱하고, 오류는 개수 제한 없이 모두 NDJSON으로 흘려보낸 뒤
+ * 마지막 줄에 정량 조건 추출 통계를 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CsvDryRunService {
+    
+    private final CsvParserService csvParserService;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 응답 스트리밍 중에도 읽을 수 있도록 업로드 파일을 임시 파일로 보관
+     */
+    public Path spool(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("CSV 파일이 비어있습니다.");
+        }
+        try {
+            Path spool = Files.createTempFile("yaprj-dry-run-", ".csv");
+            file.transferTo(spool);
+            return spool;
+        } catch (IOException e) {
+            log.error("검증용 업로드 파일 보관 실패", e);
+            throw new RuntimeException("업로드 파일 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 파일 전체 검증 → 출력 스트림에 NDJSON ({"type":"error",...} 행마다, 마지막에 {"type":"summary",...})
+     * 끝나면 임시 파일 삭제
+     */
+    public void validate(Path spool, String filename, OutputStream out) throws IOException {
+        try {
+            long started = System.nanoTime();
+            Charset charset;
+            try (InputStream in = Files.newInputStream(spool)) {
+                charset = csvParserService.detectCharset(in);
+            }
+            
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            PipelineStats stats = new PipelineStats();
+            Tally tally = new Tally();
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(spool))) {
+                csvParserService.parse(in, charset, 0, stats, batch -> {
+                    stats.write(batch.size(), () -> accept(batch, tally, writer));
+                    return true;
+                });
+            }
+            
+            long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+            int total = tally.valid + tally.failed;
+            Map<String, CsvDryRunSummary.FieldExtraction> extraction = new LinkedHashMap<>();
+            for (Field field : Field.values()) {
+                int[] c = tally.outcomes.get(field);
+                extraction.put(field.key, CsvDryRunSummary.FieldExtraction.builder()
+                        .source(field.source)
+                        .parsed(c[Outcome.PARSED.ordinal()])
+                        .noLimit(c[Outcome.NO_LIMIT.ordinal()])
+                        .rawOnly(c[Outcome.RAW_ONLY.ordinal()])
+                        .empty(c[Outcome.EMPTY.ordinal()])
+                        .build());
+            }
+            CsvDryRunSummary summary = CsvDryRunSummary.builder()
+                    .filename(filename)
+                    .charset(charset.name())
+                    .totalRows(total)
+                    .validRows(tally.valid)
+                    .failedRows(tally.failed)
+                    .elapsedMs(elapsedMs)
+                    .rowsPerSecond(total * 1000L / elapsedMs)
+                    .extraction(extraction)
+                    .stages(stats.toResponse())
+                    .build();
+            
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("type", "summary");
+            line.put("summary", summary);
+            writeLine(writer, line);
+            writer.flush();
+            
+            log.info("CSV 검증 완료: {} - {}행 (오류 {}건), {}ms", filename, total, tally.failed, elapsedMs);
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+    
+    /**
+     * 파싱된 묶음 집계 + 오류 행 기록 (파싱 순서대로 호출 스레드에서 실행)
+     */
+    private void accept(List<ParsedRow> batch, Tally tally, Writer writer) {
+        try {
+            for (ParsedRow parsed : batch) {
+                if (parsed.error() != null) {
+                    tally.failed++;
+                    writeLine(writer, errorLine(parsed));
+                } else if (parsed.scholarship() != null) {
+                    tally.valid++;
+                    for (Field field : Field.values()) {
+                        tally.outcomes.get(field)[field.classify(parsed.scholarship()).ordinal()]++;
+                    }
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 → 파싱 중단
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private Map<String, Object> errorLine(ParsedRow parsed) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", "error");
+        line.put("row", parsed.rowNum());
+        line.put("name", parsed.name() != null ? parsed.name() : "Unknown");
+        line.put("error", parsed.error());
+        return line;
+    }
+    
+    private void writeLine(Writer writer, Object line) throws IOException {
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.write('\n');
+    }
+    
+    private enum Outcome { PARSED, NO_LIMIT, RAW_ONLY, EMPTY }
+    
+    private static final class Tally {
+        final Map<Field, int[]> outcomes = new EnumMap<>(Field.class);
+        int valid;
+        int failed;
+        
+        Tally() {
+            for (Field field : Field.values()) {
+                outcomes.put(field, new int[Outcome.values().length]);
+            }
+        }
+    }
+    
+    /**
+     * 통계 대상 정량 조건: 추출 값 + 원문 컬럼 + 제한 없음 키워드
+     */
+    private enum Field {
+        MIN_GPA("min_gpa", "성적기준 상세내용", Scholarship::getMinGpa, Scholarship::getGradeCriteria,
+                KeywordGroup.GPA_NO_LIMIT),
+        MAX_INCOME_LEVEL("max_income_level", "소득기준 상세내용", Scholarship::getMaxIncomeLevel,
+                Scholarship::getIncomeCriteria, KeywordGroup.INCOME_NO_LIMIT),
+        ALLOWED_GRADES("allowed_grades", "학년구분", Scholarship::getAllowedGrades, Scholarship::getGradeSemester,
+                KeywordGroup.GRADE_ALL),
+        REGION_LIMIT("region_limit", "지역거주여부 상세내용", Scholarship::getRegionLimit,
+                Scholarship::getResidencyDetail, KeywordGroup.REGION_NATIONWIDE);
+        
+        final String key;
+        final String source;
+        final Function<Scholarship, Object> value;
+        final Function<Scholarship, String> raw;
+        final KeywordGroup noLimit;
+        
+        Field(String key, String source, Function<Scholarship, Object> value, Function<Scholarship, String> raw,
+              KeywordGroup noLimit) {
+            this.key = key;
+            this.source = source;
+            this.value = value;
+            this.raw = raw;
+            this.noLimit = noLimit;
+        }
+        
+        Outcome classify(Scholarship scholarship) {
+            if (value.apply(scholarship) != null) return Outcome.PARSED;
+            String text = raw.apply(scholarship);
+            if (text == null || text.isBlank()) return Outcome.EMPTY;
+            return CriteriaExtractor.scan(text).has(noLimit) ? Outcome.NO_LIMIT : Outcome.RAW_ONLY;
+        }
+    }
+}
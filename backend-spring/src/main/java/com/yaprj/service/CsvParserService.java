@@ -5,31 +5,40 @@ import com.opencsv.exceptions.CsvException;
 import com.yaprj.dto.response.CsvUploadResponse;
 import com.yaprj.entity.Scholarship;
 import com.yaprj.entity.enums.ScholarshipType;
-import com.yaprj.repository.ScholarshipRepository;
-import lombok.RequiredArgsConstructor;
+import com.yaprj.repository.TimeOrderedIds;
+import com.yaprj.service.criteria.CriteriaExtractor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CsvParserService {
     
-    private final ScholarshipRepository scholarshipRepository;
+    // 인코딩 감지에 사용할 앞부분 크기 (헤더 행이 포함되면 충분)
+    private static final int CHARSET_SNIFF_BYTES = 64 * 1024;
+    // 파싱 작업 1건당 행 수 / 읽기→저장 사이에 대기할 수 있는 파싱 작업 수 (메모리 상한 + 역압)
+    private static final int PARSE_BATCH_SIZE = 200;
+    private static final int PARSE_WORKERS = Runtime.getRuntime().availableProcessors();
+    private static final int PIPELINE_QUEUE_CAPACITY = PARSE_WORKERS * 4;
+    private static final Future<List<ParsedRow>> END_OF_ROWS = CompletableFuture.completedFuture(null);
+    
+    private final ExecutorService readerPool = Executors.newCachedThreadPool(new CustomizableThreadFactory("csv-read-"));
+    private final ExecutorService parsePool = Executors.newFixedThreadPool(PARSE_WORKERS, new CustomizableThreadFactory("csv-parse-"));
     
     // 날짜 포맷들
     private static final List<DateTimeFormatter> DATE_FORMATTERS = Arrays.asList(
@@ -51,108 +60,187 @@ public class CsvParserService {
             "제출서류 상세내용", "홈페이지 주소", "모집시작일", "모집종료일"
     };
     
-    @Transactional
-    public CsvUploadResponse parseAndSave(MultipartFile file, String mode, String uploadedBy) {
-        List<CsvUploadResponse.ErrorDetail> errors = new ArrayList<>();
-        int success = 0;
-        int failed = 0;
-        int deletedCount = 0;
-        int deactivatedCount = 0;
-        
-        Map<String, Long> previousStats = new HashMap<>();
-        previousStats.put("total", scholarshipRepository.count());
-        previousStats.put("active", scholarshipRepository.countByIsActiveTrue());
-        
-        // 모드에 따른 기존 데이터 처리
-        if ("replace".equalsIgnoreCase(mode)) {
-            deletedCount = (int) scholarshipRepository.count();
-            scholarshipRepository.deleteAll();
-            log.info("기존 데이터 {}건 삭제", deletedCount);
-        } else if ("deactivate".equalsIgnoreCase(mode)) {
-            deactivatedCount = scholarshipRepository.deactivateAll();
-            log.info("기존 데이터 {}건 비활성화", deactivatedCount);
-        }
-        
+    /**
+     * CSV 파싱 파이프라인: 읽기 스레드 → 병렬 파싱 → 호출 스레드(sink)
+     * 파싱 결과는 읽은 순서대로 sink에 전달되므로 행 순서/행 번호가 그대로 유지됨
+     * sink가 false를 반환하면 남은 행은 읽지 않고 중단
+     *
+     * @param resumeAfterRow 이 행 번호까지는 읽기만 하고 건너뜀 (이어하기, 0이면 처음부터)
+     */
+    public void parse(InputStream in, Charset charset, int resumeAfterRow, PipelineStats stats, RowBatchSink sink) {
         try {
-            // 인코딩 감지
-            Charset charset = detectCharset(file);
-            log.info("감지된 인코딩: {}", charset);
-            
-            BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), charset));
-            CSVReader csvReader = new CSVReader(reader);
-            
-            List<String[]> allRows = csvReader.readAll();
-            if (allRows.isEmpty()) {
+            CSVReader csvReader = new CSVReader(new BufferedReader(new InputStreamReader(in, charset)));
+            String[] headers = csvReader.readNext();
+            if (headers == null) {
+                csvReader.close();
                 throw new IllegalArgumentException("CSV 파일이 비어있습니다.");
             }
             
             // 헤더 파싱
-            String[] headers = allRows.get(0);
             Map<String, Integer> headerIndex = buildHeaderIndex(headers);
             log.info("CSV 헤더: {}", Arrays.toString(headers));
             log.info("헤더 인덱스 매핑: {}", headerIndex);
             
-            // 데이터 행 처리
-            for (int i = 1; i < allRows.size(); i++) {
-                String[] row = allRows.get(i);
-                int rowNum = i + 1;
-                
-                try {
-                    Scholarship scholarship = parseRow(row, headerIndex, rowNum);
-                    if (scholarship != null) {
-                        scholarshipRepository.save(scholarship);
-                        success++;
-                    }
-                } catch (Exception e) {
-                    failed++;
-                    String name = getCell(row, headerIndex, "상품명");
-                    log.warn("Row {} 파싱 실패: {} - {}", rowNum, name, e.getMessage());
-                    errors.add(CsvUploadResponse.ErrorDetail.builder()
-                            .row(rowNum)
-                            .error(e.getMessage())
-                            .name(name != null ? name : "Unknown")
-                            .build());
-                    if (errors.size() >= 30) {
-                        log.warn("에러가 30건 이상이므로 중단");
-                        break;
-                    }
+            BlockingQueue<Future<List<ParsedRow>>> queue = new ArrayBlockingQueue<>(PIPELINE_QUEUE_CAPACITY);
+            Future<?> reader = readerPool.submit(() -> readRows(csvReader, headerIndex, resumeAfterRow, queue, stats));
+            try {
+                while (true) {
+                    List<ParsedRow> batch = queue.take().get();
+                    if (batch == null || !sink.accept(batch)) break;
+                }
+            } finally {
+                // 조기 중단/오류 시 읽기 스레드와 남은 파싱 작업 정리
+                reader.cancel(true);
+                for (Future<List<ParsedRow>> pending : queue) {
+                    pending.cancel(true);
                 }
             }
             
-            csvReader.close();
-            
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.error("CSV 파싱 오류", cause);
+            throw new RuntimeException("CSV 파일 처리 중 오류 발생: " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("CSV 파일 처리가 중단되었습니다.");
         } catch (IOException | CsvException e) {
             log.error("CSV 파싱 오류", e);
             throw new RuntimeException("CSV 파일 처리 중 오류 발생: " + e.getMessage());
         }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        readerPool.shutdownNow();
+        parsePool.shutdown();
+    }
+    
+    /**
+     * 읽기 단계: 행을 PARSE_BATCH_SIZE씩 묶어 파싱 풀에 넘기고, 결과 Future를 읽은 순서대로 큐에 넣음
+     * 큐가 가득 차면 저장 단계가 따라올 때까지 대기 (읽기 속도가 저장 속도를 넘어 메모리에 쌓이지 않도록)
+     */
+    private void readRows(CSVReader csvReader, Map<String, Integer> headerIndex, int resumeAfterRow,
+                          BlockingQueue<Future<List<ParsedRow>>> queue, PipelineStats stats) {
+        try (csvReader) {
+            int nextRowNum = 2;  // 1행은 헤더
+            while (nextRowNum <= resumeAfterRow && csvReader.readNext() != null) {
+                nextRowNum++;
+            }
+            while (!Thread.currentThread().isInterrupted()) {
+                long readStarted = System.nanoTime();
+                List<String[]> rows = new ArrayList<>(PARSE_BATCH_SIZE);
+                String[] row;
+                while (rows.size() < PARSE_BATCH_SIZE && (row = csvReader.readNext()) != null) {
+                    rows.add(row);
+                }
+                stats.read.add(rows.size(), System.nanoTime() - readStarted);
+                if (rows.isEmpty()) break;
+                
+                int firstRowNum = nextRowNum;
+                nextRowNum += rows.size();
+                queue.put(parsePool.submit(() -> parseBatch(rows, firstRowNum, headerIndex, stats)));
+                if (rows.size() < PARSE_BATCH_SIZE) break;
+            }
+            queue.put(END_OF_ROWS);
+        } catch (InterruptedException e) {
+            // 저장 단계에서 중단 (에러 30건 초과 등)
+        } catch (Exception e) {
+            try {
+                queue.put(CompletableFuture.failedFuture(e));
+            } catch (InterruptedException ignored) {
+                // 저장 단계가 이미 중단됨
+            }
+        }
+    }
+    
+    /**
+     * 파싱 단계 (작업자 스레드): 행 묶음 → 장학금 또는 행별 오류
+     */
+    private List<ParsedRow> parseBatch(List<String[]> rows, int firstRowNum, Map<String, Integer> headerIndex,
+                                       PipelineStats stats) {
+        long parseStarted = System.nanoTime();
+        List<ParsedRow> parsed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            int rowNum = firstRowNum + i;
+            try {
+                parsed.add(new ParsedRow(rowNum, parseRow(row, headerIndex, rowNum), null, null));
+            } catch (Exception e) {
+                parsed.add(new ParsedRow(rowNum, null, e.getMessage(), getCell(row, headerIndex, "상품명")));
+            }
+        }
+        stats.parse.add(rows.size(), System.nanoTime() - parseStarted);
+        return parsed;
+    }
+    
+    /**
+     * 파싱된 행 1건 (scholarship과 error가 모두 null이면 건너뛴 행)
+     */
+    public record ParsedRow(int rowNum, Scholarship scholarship, String error, String name) {
+    }
+    
+    @FunctionalInterface
+    public interface RowBatchSink {
+        /**
+         * @return false면 파싱 중단
+         */
+        boolean accept(List<ParsedRow> batch);
+    }
+    
+    /**
+     * 단계별 처리량 (행 수 / 해당 단계가 실제로 일한 시간, 대기 시간 제외)
+     * 파싱 단계의 작업 시간은 작업자 전체 합계
+     */
+    public static final class PipelineStats {
+        private final Stage read = new Stage();
+        private final Stage parse = new Stage();
+        private final Stage write = new Stage();
         
-        Map<String, Long> newStats = new HashMap<>();
-        newStats.put("total", scholarshipRepository.count());
-        newStats.put("active", scholarshipRepository.countByIsActiveTrue());
+        /**
+         * 저장 단계 작업 실행 + 시간 기록
+         */
+        public void write(int rows, Runnable action) {
+            long started = System.nanoTime();
+            action.run();
+            write.add(rows, System.nanoTime() - started);
+        }
         
-        log.info("CSV 업로드 완료: 성공 {}건, 실패 {}건", success, failed);
+        public long parsedRows() {
+            return parse.rows.sum();
+        }
         
-        return CsvUploadResponse.builder()
-                .message("CSV 업로드 완료")
-                .filename(file.getOriginalFilename())
-                .uploadedBy(uploadedBy)
-                .mode(mode)
-                .totalRows(success + failed)
-                .success(success)
-                .failed(failed)
-                .deletedCount(deletedCount)
-                .deactivatedCount(deactivatedCount)
-                .previousStats(previousStats)
-                .newStats(newStats)
-                .errors(errors)
-                .build();
+        public List<CsvUploadResponse.StageStats> toResponse() {
+            return List.of(read.toResponse("read", 1), parse.toResponse("parse", PARSE_WORKERS),
+                    write.toResponse("write", 1));
+        }
+        
+        private static final class Stage {
+            final LongAdder rows = new LongAdder();
+            final LongAdder nanos = new LongAdder();
+            
+            void add(int count, long elapsedNanos) {
+                rows.add(count);
+                nanos.add(elapsedNanos);
+            }
+            
+            CsvUploadResponse.StageStats toResponse(String name, int workers) {
+                long busyMs = nanos.sum() / 1_000_000;
+                return CsvUploadResponse.StageStats.builder()
+                        .stage(name)
+                        .workers(workers)
+                        .rows(rows.sum())
+                        .busyMs(busyMs)
+                        .rowsPerSecond(rows.sum() * 1000L / Math.max(1, busyMs))
+                        .build();
+            }
+        }
     }
     
     /**
-     * 인코딩 자동 감지
+     * 인코딩 자동 감지 (파일 앞부분 CHARSET_SNIFF_BYTES만 읽어 판별)
      */
-    private Charset detectCharset(MultipartFile file) throws IOException {
-        byte[] bytes = file.getBytes();
+    public Charset detectCharset(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(CHARSET_SNIFF_BYTES);
         
         // BOM 체크 (UTF-8)
         if (bytes.length >= 3 && bytes[0] == (byte)0xEF && bytes[1] == (byte)0xBB && bytes[2] == (byte)0xBF) {
@@ -260,16 +348,16 @@ public class CsvParserService {
         LocalDate applyEnd = parseDate(applyEndStr);
         
         // 정량적 데이터 파싱
-        BigDecimal minGpa = extractMinGpa(gradeCriteria);
-        Integer maxIncomeLevel = extractMaxIncomeLevel(incomeCriteria);
-        String allowedAcademicStatus = extractAcademicStatus(universityCategory, specialQualification, eligibilityRestriction);
-        String allowedGrades = extractGrades(gradeSemester, eligibilityRestriction);
-        String allowedUniversityTypes = extractUniversityTypes(universityCategory);
-        String regionLimit = extractRegionLimit(residencyDetail);
-        ScholarshipType scholarshipType = detectScholarshipType(name, financialAidType, organization, productType);
+        BigDecimal minGpa = CriteriaExtractor.extractMinGpa(gradeCriteria);
+        Integer maxIncomeLevel = CriteriaExtractor.extractMaxIncomeLevel(incomeCriteria);
+        String allowedAcademicStatus = CriteriaExtractor.extractAcademicStatus(universityCategory, specialQualification, eligibilityRestriction);
+        String allowedGrades = CriteriaExtractor.extractGrades(gradeSemester, eligibilityRestriction);
+        String allowedUniversityTypes = CriteriaExtractor.extractUniversityTypes(universityCategory);
+        String regionLimit = CriteriaExtractor.extractRegionLimit(residencyDetail);
+        ScholarshipType scholarshipType = CriteriaExtractor.detectScholarshipType(name, financialAidType, organization, productType);
         
         return Scholarship.builder()
-                .id(UUID.randomUUID().toString())
+                .id(TimeOrderedIds.next())
                 // CSV 원본 데이터
                 .csvRowNumber(csvRowNumber)
                 .organization(organization)
@@ -304,9 +392,30 @@ public class CsvParserService {
                 // 관리용
                 .isActive(true)
                 .isFeatured(false)
+                .contentHash(contentHash(row, headerIndex))
                 .build();
     }
     
+    /**
+     * CSV 원본 컬럼 해시 (upsert 모드의 변경 감지용, 컬럼 순서 고정 + 구분자 U+001F)
+     */
+    private String contentHash(String[] row, Map<String, Integer> headerIndex) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String header : EXPECTED_HEADERS) {
+            String value = getCell(row, headerIndex, header);
+            if (value != null) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0x1F);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
     /**
      * 날짜 파싱
      */
@@ -329,306 +438,4 @@ public class CsvParserService {
         
         return null;
     }
-    
-    /**
-     * 성적 기준에서 최소 GPA 추출 (4.5 만점 기준)
-     */
-    private BigDecimal extractMinGpa(String text) {
-        if (text == null || text.isEmpty()) return null;
-        
-        // "제한없음", "무관" 등은 null
-        if (containsAny(text, "제한없음", "제한 없음", "무관", "해당없음", "해당 없음")) {
-            return null;
-        }
-        
-        // 패턴 1: "3.0/4.5", "3.0점/4.5점", "3.0 이상"
-        Pattern pattern1 = Pattern.compile("([0-9](?:\\.[0-9]{1,2})?)\\s*(?:점)?\\s*/\\s*4\\.5");
-        Matcher m1 = pattern1.matcher(text);
-        if (m1.find()) {
-            return new BigDecimal(m1.group(1));
-        }
-        
-        // 패턴 2: "평점 3.0 이상", "성적 3.0 이상", "학점 3.0 이상"
-        Pattern pattern2 = Pattern.compile("(?:평점|성적|학점|GPA)\\s*([0-9](?:\\.[0-9]{1,2})?)\\s*(?:점)?\\s*이상");
-        Matcher m2 = pattern2.matcher(text);
-        if (m2.find()) {
-            return new BigDecimal(m2.group(1));
-        }
-        
-        // 패턴 3: "3.0 이상", "3.0점 이상"
-        Pattern pattern3 = Pattern.compile("([0-9]\\.[0-9]{1,2})\\s*(?:점)?\\s*이상");
-        Matcher m3 = pattern3.matcher(text);
-        if (m3.find()) {
-            BigDecimal value = new BigDecimal(m3.group(1));
-            if (value.compareTo(new BigDecimal("5")) <= 0) {
-                return value;
-            }
-        }
-        
-        // 패턴 4: "B학점 이상", "B+ 이상" 등 학점 등급
-        Pattern pattern4 = Pattern.compile("([ABCD][+\\-]?)\\s*(?:학점)?\\s*이상");
-        Matcher m4 = pattern4.matcher(text.toUpperCase());
-        if (m4.find()) {
-            return convertLetterGradeToGpa(m4.group(1));
-        }
-        
-        // 패턴 5: 백분위 "80점 이상", "80% 이상" → 4.5로 환산
-        Pattern pattern5 = Pattern.compile("([0-9]{2,3})\\s*(?:점|%)\\s*이상");
-        Matcher m5 = pattern5.matcher(text);
-        if (m5.find()) {
-            int percent = Integer.parseInt(m5.group(1));
-            if (percent >= 60 && percent <= 100) {
-                // 60점 = 2.0, 100점 = 4.5 선형 환산
-                BigDecimal gpa = new BigDecimal(percent - 60)
-                        .multiply(new BigDecimal("2.5"))
-                        .divide(new BigDecimal("40"), 2, RoundingMode.HALF_UP)
-                        .add(new BigDecimal("2.0"));
-                return gpa;
-            }
-        }
-        
-        return null;
-    }
-    
-    /**
-     * 학점 등급을 GPA로 변환
-     */
-    private BigDecimal convertLetterGradeToGpa(String grade) {
-        Map<String, BigDecimal> gradeMap = new HashMap<>();
-        gradeMap.put("A+", new BigDecimal("4.5"));
-        gradeMap.put("A", new BigDecimal("4.0"));
-        gradeMap.put("A-", new BigDecimal("3.7"));
-        gradeMap.put("B+", new BigDecimal("3.3"));
-        gradeMap.put("B", new BigDecimal("3.0"));
-        gradeMap.put("B-", new BigDecimal("2.7"));
-        gradeMap.put("C+", new BigDecimal("2.3"));
-        gradeMap.put("C", new BigDecimal("2.0"));
-        gradeMap.put("C-", new BigDecimal("1.7"));
-        gradeMap.put("D+", new BigDecimal("1.3"));
-        gradeMap.put("D", new BigDecimal("1.0"));
-        return gradeMap.get(grade.toUpperCase());
-    }
-    
-    /**
-     * 소득 기준에서 최대 소득분위 추출
-     */
-    private Integer extractMaxIncomeLevel(String text) {
-        if (text == null || text.isEmpty()) return null;
-        
-        // "제한없음", "무관" 등은 null (제한 없음)
-        if (containsAny(text, "제한없음", "제한 없음", "무관", "해당없음", "해당 없음", "소득무관")) {
-            return null;
-        }
-        
-        // "기초생활수급자", "차상위계층" → 2분위
-        if (containsAny(text, "기초생활", "차상위")) {
-            return 2;
-        }
-        
-        // "8분위 이하", "소득 8분위 이하"
-        Pattern pattern1 = Pattern.compile("([0-9]{1,2})\\s*분위\\s*이하");
-        Matcher m1 = pattern1.matcher(text);
-        if (m1.find()) {
-            int level = Integer.parseInt(m1.group(1));
-            if (level >= 1 && level <= 10) return level;
-        }
-        
-        // "1~8분위", "1-8분위"
-        Pattern pattern2 = Pattern.compile("[1-9]\\s*[~\\-]\\s*([0-9]{1,2})\\s*분위");
-        Matcher m2 = pattern2.matcher(text);
-        if (m2.find()) {
-            int level = Integer.parseInt(m2.group(1));
-            if (level >= 1 && level <= 10) return level;
-        }
-        
-        // "8구간 이하"
-        Pattern pattern3 = Pattern.compile("([0-9]{1,2})\\s*구간\\s*이하");
-        Matcher m3 = pattern3.matcher(text);
-        if (m3.find()) {
-            int level = Integer.parseInt(m3.group(1));
-            if (level >= 1 && level <= 10) return level;
-        }
-        
-        // 단순히 "8분위"만 언급된 경우
-        Pattern pattern4 = Pattern.compile("([0-9])\\s*분위");
-        Matcher m4 = pattern4.matcher(text);
-        if (m4.find()) {
-            int level = Integer.parseInt(m4.group(1));
-            if (level >= 1 && level <= 10) return level;
-        }
-        
-        return null;
-    }
-    
-    /**
-     * 학적 상태 추출 (재학, 입학예정, 휴학)
-     */
-    private String extractAcademicStatus(String universityCategory, String specialQualification, String eligibilityRestriction) {
-        String combined = combineTexts(universityCategory, specialQualification, eligibilityRestriction);
-        if (combined.isEmpty()) return null;
-        
-        Set<String> statuses = new LinkedHashSet<>();
-        
-        if (containsAny(combined, "재학", "재학생", "재학 중")) {
-            statuses.add("enrolled");
-        }
-        if (containsAny(combined, "신입생", "입학예정", "입학 예정", "예비", "합격자", "신입")) {
-            statuses.add("expected");
-        }
-        if (containsAny(combined, "휴학", "휴학생")) {
-            statuses.add("leave");
-        }
-        
-        return statuses.isEmpty() ? null : String.join(",", statuses);
-    }
-    
-    /**
-     * 허용 학년 추출
-     */
-    private String extractGrades(String gradeSemester, String eligibilityRestriction) {
-        String combined = combineTexts(gradeSemester, eligibilityRestriction);
-        if (combined.isEmpty()) return null;
-        
-        // "전학년", "제한없음" → null (제한 없음)
-        if (containsAny(combined, "전학년", "전 학년", "제한없음", "제한 없음", "무관")) {
-            return null;
-        }
-        
-        Set<Integer> grades = new TreeSet<>();
-        
-        // "1~4학년", "1-4학년" 범위
-        Pattern rangePattern = Pattern.compile("([1-6])\\s*[~\\-]\\s*([1-6])\\s*학년");
-        Matcher rangeMatcher = rangePattern.matcher(combined);
-        if (rangeMatcher.find()) {
-            int start = Integer.parseInt(rangeMatcher.group(1));
-            int end = Integer.parseInt(rangeMatcher.group(2));
-            for (int i = start; i <= end; i++) {
-                grades.add(i);
-            }
-        }
-        
-        // 개별 "1학년", "2학년"
-        Pattern singlePattern = Pattern.compile("([1-6])\\s*학년");
-        Matcher singleMatcher = singlePattern.matcher(combined);
-        while (singleMatcher.find()) {
-            grades.add(Integer.parseInt(singleMatcher.group(1)));
-        }
-        
-        // "신입생" → 1학년
-        if (containsAny(combined, "신입생", "신입", "입학예정")) {
-            grades.add(1);
-        }
-        
-        return grades.isEmpty() ? null : grades.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-    }
-    
-    /**
-     * 대학 유형 추출
-     */
-    private String extractUniversityTypes(String universityCategory) {
-        if (universityCategory == null || universityCategory.isEmpty()) return null;
-        
-        Set<String> types = new LinkedHashSet<>();
-        
-        if (containsAny(universityCategory, "4년제", "4년", "대학교")) {
-            types.add("4년제");
-        }
-        if (containsAny(universityCategory, "전문대", "2년제", "2,3년제", "2년", "3년")) {
-            types.add("전문대");
-        }
-        if (containsAny(universityCategory, "대학원", "석사", "박사")) {
-            types.add("대학원");
-        }
-        if (containsAny(universityCategory, "사이버", "방송통신", "원격")) {
-            types.add("원격대학");
-        }
-        
-        return types.isEmpty() ? null : String.join(",", types);
-    }
-    
-    /**
-     * 지역 제한 추출
-     */
-    private String extractRegionLimit(String residencyDetail) {
-        if (residencyDetail == null || residencyDetail.isEmpty()) return null;
-        
-        // "전국", "제한없음" → null
-        if (containsAny(residencyDetail, "전국", "제한없음", "제한 없음", "무관")) {
-            return null;
-        }
-        
-        String[] regions = {
-                "서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종",
-                "경기", "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주"
-        };
-        
-        Set<String> foundRegions = new LinkedHashSet<>();
-        for (String region : regions) {
-            if (residencyDetail.contains(region)) {
-                foundRegions.add(region);
-            }
-        }
-        
-        return foundRegions.isEmpty() ? null : String.join(",", foundRegions);
-    }
-    
-    /**
-     * 장학금 유형 판별
-     */
-    private ScholarshipType detectScholarshipType(String name, String financialAidType, String organization, String productType) {
-        String combined = combineTexts(name, financialAidType, organization, productType).toLowerCase();
-        
-        if (containsAny(combined, "국가장학", "한국장학재단")) {
-            return ScholarshipType.NATIONAL;
-        }
-        if (containsAny(combined, "근로장학", "교내근로", "근로")) {
-            return ScholarshipType.WORK_STUDY;
-        }
-        if (containsAny(combined, "등록금대출", "학자금대출", "취업후상환", "icl")) {
-            return ScholarshipType.TUITION_LOAN;
-        }
-        if (containsAny(combined, "생활비대출", "생활비")) {
-            return ScholarshipType.LIVING_LOAN;
-        }
-        if (containsAny(combined, "지자체", "시청", "군청", "구청", "도청")) {
-            return ScholarshipType.LOCAL;
-        }
-        if (containsAny(combined, "교내", "대학교", "학교")) {
-            return ScholarshipType.UNIVERSITY;
-        }
-        if (containsAny(combined, "기업", "재단", "민간", "장학회")) {
-            return ScholarshipType.PRIVATE;
-        }
-        
-        return ScholarshipType.OTHER;
-    }
-    
-    /**
-     * 여러 텍스트 합치기
-     */
-    private String combineTexts(String... texts) {
-        StringBuilder sb = new StringBuilder();
-        for (String text : texts) {
-            if (text != null && !text.isEmpty()) {
-                sb.append(text).append(" ");
-            }
-        }
-        return sb.toString().trim();
-    }
-    
-    /**
-     * 텍스트에 특정 키워드 포함 여부
-     */
-    private boolean containsAny(String text, String... keywords) {
-        if (text == null) return false;
-        String lowerText = text.toLowerCase();
-        for (String keyword : keywords) {
-            if (lowerText.contains(keyword.toLowerCase())) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
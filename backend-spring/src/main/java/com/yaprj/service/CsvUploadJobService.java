@@ -0,0 +1,736 @@
+package com.yaprj.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaprj.dto.response.CsvUploadJobResponse;
+import com.yaprj.dto.response.CsvUploadResponse;
+import com.yaprj.entity.CsvUploadJob;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.entity.enums.UploadJobStatus;
+import com.yaprj.event.ScholarshipCatalogChangedEvent;
+import com.yaprj.event.ScholarshipsImportedEvent;
+import com.yaprj.repository.CsvUploadJobRepository;
+import com.yaprj.repository.ScholarshipJdbcRepository;
+import com.yaprj.repository.ScholarshipRepository;
+import com.yaprj.repository.TimeOrderedIds;
+import com.yaprj.service.CsvParserService.ParsedRow;
+import com.yaprj.service.CsvParserService.PipelineStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CSV 업로드 작업 관리
+ * 업로드 파일을 디스크에 보관하고 작업 ID를 즉시 반환한 뒤, 백그라운드에서 파싱 + 청크 단위 커밋
+ * 청크마다 장학금 INSERT와 작업 진행 상태(마지막 커밋 행, 집계, 오류 목록)를 같은 트랜잭션으로 커밋하므로
+ * 실패한 작업은 마지막 커밋 행 다음부터 이어서 처리 가능
+ *
+ * upsert 모드는 (번호, 운영기관명, 상품명)으로 기존 장학금과 매칭해 내용 해시가 달라진 행만 UPDATE,
+ * 새 행만 INSERT, 파일에서 빠진 행은 마지막에 일괄 비활성화 (삭제하지 않으므로 ID/북마크 유지)
+ *
+ * replace 모드는 작업별 스테이징 테이블에 적재하고 검증이 끝나면 테이블 이름 교체로 한 번에 게시
+ * (적재 중에도 조회 API는 기존 카탈로그를 그대로 보고, 직전 카탈로그는 rollbackReplace()로 되돌릴 수 있음)
+ */
+@Service
+@Slf4j
+public class CsvUploadJobService {
+
+    private static final int COMMIT_CHUNK_SIZE = 500;
+    private static final int MAX_ERRORS = 30;
+    private static final long PROGRESS_INTERVAL_MS = 1000;
+    private static final Duration EVENT_STREAM_TIMEOUT = Duration.ofMinutes(30);
+    private static final TypeReference<List<CsvUploadResponse.ErrorDetail>> ERROR_LIST = new TypeReference<>() { };
+    private static final TypeReference<Map<String, Long>> STATS = new TypeReference<>() { };
+
+    private final CsvParserService csvParserService;
+    private final ScholarshipRepository scholarshipRepository;
+    private final ScholarshipJdbcRepository scholarshipJdbcRepository;
+    private final CsvUploadJobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Path spoolDir;
+
+    // 작업은 한 번에 하나씩 (교체/비활성화 모드가 서로 겹치지 않도록)
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("csv-job-"));
+    private final ScheduledExecutorService progressScheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("csv-job-events-"));
+    private final Map<String, LiveProgress> running = new ConcurrentHashMap<>();
+
+    public CsvUploadJobService(CsvParserService csvParserService,
+                               ScholarshipRepository scholarshipRepository,
+                               ScholarshipJdbcRepository scholarshipJdbcRepository,
+                               CsvUploadJobRepository jobRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.upload.spool-dir:${java.io.tmpdir}/yaprj-uploads}") Path spoolDir) {
+        this.csvParserService = csvParserService;
+        this.scholarshipRepository = scholarshipRepository;
+        this.scholarshipJdbcRepository = scholarshipJdbcRepository;
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.spoolDir = spoolDir;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        progressScheduler.shutdownNow();
+    }
+
+    /**
+     * 서버 재시작으로 중단된 작업은 실패 처리 (이어하기로 재개)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        for (CsvUploadJob job : jobRepository.findByStatusIn(List.of(UploadJobStatus.QUEUED, UploadJobStatus.RUNNING))) {
+            job.setStatus(UploadJobStatus.FAILED);
+            job.setErrorMessage("서버 재시작으로 작업이 중단되었습니다.");
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            log.warn("중단된 CSV 업로드 작업 실패 처리: {}", job.getId());
+        }
+    }
+
+    /**
+     * 업로드 접수: 파일을 보관하고 작업 ID 반환 (처리는 백그라운드)
+     */
+    public CsvUploadJobResponse submit(MultipartFile file, String mode, String uploadedBy) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("CSV 파일이 비어있습니다.");
+        }
+
+        String jobId = TimeOrderedIds.next();
+        Path spool = spoolDir.resolve(jobId + ".csv");
+        try {
+            Files.createDirectories(spoolDir);
+            file.transferTo(spool);
+        } catch (IOException e) {
+            log.error("업로드 파일 보관 실패", e);
+            throw new RuntimeException("업로드 파일 저장 중 오류 발생: " + e.getMessage());
+        }
+
+        CsvUploadJob job = jobRepository.save(CsvUploadJob.builder()
+                .id(jobId)
+                .filename(file.getOriginalFilename())
+                .mode(mode)
+                .uploadedBy(uploadedBy)
+                .status(UploadJobStatus.QUEUED)
+                .spoolPath(spool.toString())
+                .fileSize(file.getSize())
+                .build());
+        jobExecutor.execute(() -> run(jobId));
+
+        log.info("CSV 업로드 작업 접수: {} ({}, {} bytes, mode={})", jobId, file.getOriginalFilename(), file.getSize(), mode);
+        return toResponse(job);
+    }
+
+    /**
+     * 실패한 작업을 마지막 커밋 행 다음부터 재개
+     */
+    public CsvUploadJobResponse resume(String jobId) {
+        CsvUploadJob job = findJob(jobId);
+        if (!isResumable(job)) {
+            throw new IllegalArgumentException("이어서 처리할 수 없는 작업입니다. (상태: " + job.getStatus().getValue() + ")");
+        }
+
+        job.setStatus(UploadJobStatus.QUEUED);
+        job.setErrorMessage(null);
+        job.setFinishedAt(null);
+        job = jobRepository.save(job);
+        jobExecutor.execute(() -> run(jobId));
+
+        log.info("CSV 업로드 작업 재개: {} ({}행부터)", jobId, job.getCommittedRow() + 1);
+        return toResponse(job);
+    }
+
+    /**
+     * 마지막 교체(replace) 업로드 되돌리기: 보관 중인 직전 카탈로그와 운영 테이블을 맞바꿈
+     * (다시 호출하면 되돌리기 전 카탈로그로 복귀)
+     * @return 되돌린 뒤 장학금 수 (total, active)
+     */
+    public Map<String, Long> rollbackReplace() {
+        if (!running.isEmpty()) {
+            throw new IllegalArgumentException("진행 중인 업로드 작업이 있어 되돌릴 수 없습니다.");
+        }
+        if (!scholarshipJdbcRepository.swapWithPrevious()) {
+            throw new IllegalArgumentException("되돌릴 이전 카탈로그가 없습니다.");
+        }
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("total", scholarshipRepository.count());
+        stats.put("active", scholarshipRepository.countByIsActiveTrue());
+        log.info("교체 업로드 되돌리기 완료: {}", stats);
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("csv-rollback"));
+        return stats;
+    }
+
+    public CsvUploadJobResponse getJob(String jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    public List<CsvUploadJobResponse> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByCreatedAtDesc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * 진행 상황 SSE (PROGRESS_INTERVAL_MS마다 전송, 작업이 끝나면 마지막 상태를 보내고 종료)
+     */
+    public SseEmitter subscribe(String jobId) {
+        findJob(jobId);
+
+        SseEmitter emitter = new SseEmitter(EVENT_STREAM_TIMEOUT.toMillis());
+        AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+        Runnable cancel = () -> {
+            ScheduledFuture<?> scheduled = task.get();
+            if (scheduled != null) scheduled.cancel(false);
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+
+        task.set(progressScheduler.scheduleAtFixedRate(() -> {
+            try {
+                CsvUploadJobResponse progress = getJob(jobId);
+                emitter.send(SseEmitter.event().name("progress").data(progress));
+                if (progress.getStatus().isFinished()) {
+                    emitter.complete();
+                    cancel.run();
+                }
+            } catch (Exception e) {
+                // 클라이언트 연결 종료 등
+                emitter.completeWithError(e);
+                cancel.run();
+            }
+        }, 0, PROGRESS_INTERVAL_MS, TimeUnit.MILLISECONDS));
+        return emitter;
+    }
+
+    // ===== 작업 실행 (csv-job 스레드) =====
+
+    private void run(String jobId) {
+        CsvUploadJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != UploadJobStatus.QUEUED) return;
+
+        if (isUpsert(job) && job.getCommittedRow() > 0) {
+            // upsert는 빠진 행 판별에 파일 전체가 필요하므로 처음부터 다시 스캔 (이미 반영된 행은 해시가 같아 변경 없음으로 집계)
+            resetProgress(job);
+        }
+        if (isReplace(job) && Boolean.TRUE.equals(job.getPrepared())
+                && !scholarshipJdbcRepository.tableExists(ScholarshipJdbcRepository.stagingTable(jobId))) {
+            // 스테이징 테이블이 없어졌으면 처음부터 다시 적재
+            log.warn("스테이징 테이블이 없어 처음부터 다시 적재: {}", jobId);
+            resetProgress(job);
+            job.setPrepared(false);
+        }
+        JobRun run = new JobRun(job);
+        try {
+            Path spool = Path.of(job.getSpoolPath());
+            job.setStatus(UploadJobStatus.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+            if (job.getCharset() == null) {
+                try (InputStream in = Files.newInputStream(spool)) {
+                    job.setCharset(csvParserService.detectCharset(in).name());
+                }
+                log.info("감지된 인코딩: {}", job.getCharset());
+            }
+            run.job = jobRepository.save(job);
+
+            // 신규 장학금 판별 (비활성화 모드에서 다시 올라온 기존 장학금은 알림 대상 아님, 교체 모드는 게시 후 판별)
+            if (run.staging == null) {
+                run.existingKeys.addAll(scholarshipRepository.findActiveCatalogKeys());
+            }
+            if (!Boolean.TRUE.equals(run.job.getPrepared())) {
+                prepare(run);
+            }
+            if (isUpsert(run.job)) {
+                run.catalog = loadCatalog();
+            }
+
+            try (CountingInputStream in = new CountingInputStream(Files.newInputStream(spool))) {
+                running.put(jobId, new LiveProgress(run, in));
+                csvParserService.parse(in, Charset.forName(run.job.getCharset()), run.job.getCommittedRow(),
+                        run.stats, batch -> accept(run, batch));
+            }
+            commit(run);
+            if (run.catalog != null && !run.stopped) {
+                deactivateVanished(run);
+            }
+            if (run.staging != null) {
+                publishStaging(run);
+            }
+            complete(run);
+        } catch (Exception e) {
+            fail(jobId, e);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void resetProgress(CsvUploadJob job) {
+        job.setCommittedRow(0);
+        job.setSuccessCount(0);
+        job.setFailedCount(0);
+        job.setErrors(null);
+        job.setInsertedCount(0);
+        job.setUpdatedCount(0);
+        job.setUnchangedCount(0);
+        job.setVanishedCount(0);
+    }
+
+    /**
+     * 모드에 따른 기존 데이터 처리 (작업당 한 번, 업로드 전 통계와 함께 커밋)
+     * upsert 모드는 기존 데이터를 건드리지 않음, replace 모드는 빈 스테이징 테이블만 만들고 교체는 게시 시점에
+     */
+    private void prepare(JobRun run) {
+        if (run.staging != null) {
+            scholarshipJdbcRepository.createStagingTable(run.staging);
+            log.info("스테이징 테이블 생성: {}", run.staging);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            CsvUploadJob job = run.job;
+            Map<String, Long> previousStats = new HashMap<>();
+            previousStats.put("total", scholarshipRepository.count());
+            previousStats.put("active", scholarshipRepository.countByIsActiveTrue());
+            job.setPreviousStats(toJson(previousStats));
+
+            if ("deactivate".equalsIgnoreCase(job.getMode())) {
+                job.setDeactivatedCount(scholarshipRepository.deactivateAll(LocalDateTime.now()));
+                log.info("기존 데이터 {}건 비활성화", job.getDeactivatedCount());
+            }
+            job.setPrepared(true);
+            run.job = jobRepository.save(job);
+        });
+    }
+
+    /**
+     * 파싱된 행 묶음 처리 (읽은 순서대로 전달됨)
+     * @return false면 파싱 중단 (오류 MAX_ERRORS건 도달)
+     */
+    private boolean accept(JobRun run, List<ParsedRow> batch) {
+        for (ParsedRow parsed : batch) {
+            run.lastRow = parsed.rowNum();
+            if (parsed.error() != null) {
+                run.failed++;
+                log.warn("Row {} 파싱 실패: {} - {}", parsed.rowNum(), parsed.name(), parsed.error());
+                run.errors.add(CsvUploadResponse.ErrorDetail.builder()
+                        .row(parsed.rowNum())
+                        .error(parsed.error())
+                        .name(parsed.name() != null ? parsed.name() : "Unknown")
+                        .build());
+                if (run.errors.size() >= MAX_ERRORS) {
+                    log.warn("에러가 {}건 이상이므로 중단", MAX_ERRORS);
+                    run.stopped = true;
+                    return false;
+                }
+            } else if (parsed.scholarship() != null) {
+                Scholarship scholarship = parsed.scholarship();
+                run.success++;
+                if (run.catalog == null) {
+                    insert(run, scholarship);
+                } else {
+                    upsert(run, scholarship);
+                }
+                if (run.chunk.size() + run.updates.size() >= COMMIT_CHUNK_SIZE) {
+                    commit(run);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void insert(JobRun run, Scholarship scholarship) {
+        run.chunk.add(scholarship);
+        if (run.staging == null && run.existingKeys.add(scholarship.getOrganization() + "|" + scholarship.getName())) {
+            run.importedIds.add(scholarship.getId());
+        }
+    }
+
+    /**
+     * upsert 분류: 매칭 없음 → 추가, 해시가 다르거나 비활성 → 수정(기존 ID 유지, 재활성화), 그 외 → 변경 없음
+     * 매칭된 항목은 카탈로그에서 제거하므로 남은 항목이 파일에서 빠진 행 (같은 키가 파일에 또 나오면 추가로 처리)
+     */
+    private void upsert(JobRun run, Scholarship scholarship) {
+        CatalogEntry existing = run.catalog.remove(naturalKey(
+                scholarship.getCsvRowNumber(), scholarship.getOrganization(), scholarship.getName()));
+        if (existing == null) {
+            insert(run, scholarship);
+            run.inserted++;
+        } else if (existing.active() && Objects.equals(existing.contentHash(), scholarship.getContentHash())) {
+            run.unchanged++;
+        } else {
+            scholarship.setId(existing.id());
+            run.updates.add(scholarship);
+            run.updated++;
+        }
+    }
+
+    /**
+     * 청크 커밋: 장학금 INSERT/UPDATE + 작업 진행 상태를 한 트랜잭션으로
+     */
+    private void commit(JobRun run) {
+        List<Scholarship> chunk = run.chunk;
+        List<Scholarship> updates = run.updates;
+        run.stats.write(chunk.size() + updates.size(), () -> transactionTemplate.executeWithoutResult(status -> {
+            if (run.staging != null) {
+                scholarshipJdbcRepository.insertAll(run.staging, chunk);
+            } else {
+                scholarshipJdbcRepository.insertAll(chunk);
+            }
+            scholarshipJdbcRepository.updateAll(updates);
+
+            CsvUploadJob job = run.job;
+            job.setCommittedRow(run.lastRow);
+            job.setSuccessCount(run.success);
+            job.setFailedCount(run.failed);
+            job.setErrors(toJson(run.errors));
+            job.setInsertedCount(run.inserted);
+            job.setUpdatedCount(run.updated);
+            job.setUnchangedCount(run.unchanged);
+            run.job = jobRepository.save(job);
+        }));
+        chunk.clear();
+        updates.clear();
+    }
+
+    /**
+     * upsert: 파일에서 빠진 활성 장학금을 COMMIT_CHUNK_SIZE건씩 일괄 비활성화
+     */
+    private void deactivateVanished(JobRun run) {
+        List<String> vanishedIds = run.catalog.values().stream()
+                .filter(CatalogEntry::active)
+                .map(CatalogEntry::id)
+                .toList();
+        for (int from = 0; from < vanishedIds.size(); from += COMMIT_CHUNK_SIZE) {
+            List<String> ids = vanishedIds.subList(from, Math.min(from + COMMIT_CHUNK_SIZE, vanishedIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                run.vanished += scholarshipJdbcRepository.deactivateAll(ids);
+                CsvUploadJob job = run.job;
+                job.setVanishedCount(run.vanished);
+                run.job = jobRepository.save(job);
+            });
+        }
+        log.info("파일에서 빠진 장학금 {}건 비활성화", run.vanished);
+    }
+
+    /**
+     * replace: 스테이징 적재 결과 검증 후 운영 테이블과 교체, 직전 카탈로그에 없던 장학금은 신규 알림
+     */
+    private void publishStaging(JobRun run) {
+        if (run.stopped) {
+            // 이어하기로 재개하면 중단 여부가 초기화되므로 보관 파일을 지워 재개 불가로 만듦
+            deleteSpool(run.job);
+            CsvUploadJob job = run.job;
+            job.setSpoolPath(null);
+            run.job = jobRepository.save(job);
+            throw new IllegalStateException("오류가 " + MAX_ERRORS + "건 이상이어서 기존 카탈로그를 유지합니다.");
+        }
+        long staged = scholarshipJdbcRepository.count(run.staging);
+        if (staged == 0) {
+            throw new IllegalStateException("적재된 장학금이 없어 기존 카탈로그를 유지합니다.");
+        }
+        if (staged != run.success) {
+            throw new IllegalStateException("스테이징 적재 건수가 일치하지 않습니다. (적재 " + staged + "건, 성공 " + run.success + "건)");
+        }
+        log.info("스테이징 검증 완료: {}건 (활성 {}건)", staged, scholarshipJdbcRepository.countActive(run.staging));
+
+        int replaced = (int) scholarshipRepository.count();
+        scholarshipJdbcRepository.publishStaging(run.staging);
+        CsvUploadJob job = run.job;
+        job.setDeletedCount(replaced);
+        run.job = jobRepository.save(job);
+        log.info("스테이징 테이블 게시: 기존 {}건 → {}건 (기존 카탈로그는 보관)", replaced, staged);
+
+        List<String> importedIds = scholarshipJdbcRepository.findIdsNewSincePrevious();
+        if (!importedIds.isEmpty()) {
+            eventPublisher.publishEvent(new ScholarshipsImportedEvent(importedIds, "csv-upload"));
+        }
+    }
+
+    private void complete(JobRun run) {
+        CsvUploadJob job = run.job;
+        Map<String, Long> newStats = new HashMap<>();
+        newStats.put("total", scholarshipRepository.count());
+        newStats.put("active", scholarshipRepository.countByIsActiveTrue());
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - run.startedNanos) / 1_000_000);
+        long rowsPerSecond = run.stats.parsedRows() * 1000L / elapsedMs;
+        boolean upsert = run.catalog != null;
+        CsvUploadResponse result = CsvUploadResponse.builder()
+                .message("CSV 업로드 완료")
+                .filename(job.getFilename())
+                .uploadedBy(job.getUploadedBy())
+                .mode(job.getMode())
+                .totalRows(run.success + run.failed)
+                .success(run.success)
+                .failed(run.failed)
+                .deletedCount(job.getDeletedCount())
+                .deactivatedCount(job.getDeactivatedCount())
+                .insertedCount(upsert ? run.inserted : null)
+                .updatedCount(upsert ? run.updated : null)
+                .unchangedCount(upsert ? run.unchanged : null)
+                .vanishedCount(upsert ? run.vanished : null)
+                .previousStats(fromJson(job.getPreviousStats(), STATS))
+                .newStats(newStats)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond)
+                .stages(run.stats.toResponse())
+                .errors(run.errors)
+                .build();
+
+        deleteSpool(job);
+        job.setSpoolPath(null);
+        job.setStatus(UploadJobStatus.COMPLETED);
+        job.setResult(toJson(result));
+        job.setFinishedAt(LocalDateTime.now());
+        jobRepository.save(job);
+
+        log.info("CSV 업로드 완료: 성공 {}건, 실패 {}건, {}ms ({}행/초)", run.success, run.failed, elapsedMs, rowsPerSecond);
+
+        if (upsert) {
+            log.info("upsert 결과: 추가 {}건, 수정 {}건, 변경 없음 {}건, 비활성화 {}건",
+                    run.inserted, run.updated, run.unchanged, run.vanished);
+        }
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("csv-upload"));
+        // 신규 알림은 작업당 한 번 (사용자 역색인을 청크마다 다시 만들지 않도록)
+        if (!run.importedIds.isEmpty()) {
+            eventPublisher.publishEvent(new ScholarshipsImportedEvent(List.copyOf(run.importedIds), "csv-upload"));
+        }
+    }
+
+    /**
+     * 실패 처리: 진행 상태는 마지막 커밋 시점 값으로 남김 (메모리 집계는 커밋되지 않은 행을 포함할 수 있음)
+     */
+    private void fail(String jobId, Exception e) {
+        log.error("CSV 업로드 작업 실패: {}", jobId, e);
+        CsvUploadJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) return;
+
+        job.setStatus(UploadJobStatus.FAILED);
+        job.setErrorMessage(truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName(), 1000));
+        job.setFinishedAt(LocalDateTime.now());
+        jobRepository.save(job);
+
+        // 이미 커밋된 청크(또는 비활성화)가 있으면 카탈로그가 바뀐 상태 (교체 모드는 스테이징을 게시한 뒤에만)
+        boolean changed = isReplace(job)
+                ? Boolean.TRUE.equals(job.getPrepared())
+                        && !scholarshipJdbcRepository.tableExists(ScholarshipJdbcRepository.stagingTable(jobId))
+                : job.getCommittedRow() > 0 || Boolean.TRUE.equals(job.getPrepared());
+        if (changed) {
+            eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("csv-upload"));
+        }
+    }
+
+    // ===== 조회 =====
+
+    private CsvUploadJob findJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("업로드 작업을 찾을 수 없습니다."));
+    }
+
+    private static boolean isReplace(CsvUploadJob job) {
+        return "replace".equalsIgnoreCase(job.getMode());
+    }
+
+    private static boolean isUpsert(CsvUploadJob job) {
+        return "upsert".equalsIgnoreCase(job.getMode());
+    }
+
+    /**
+     * upsert 매칭용 기존 장학금 (자연 키 → id/해시/활성 여부)
+     */
+    private Map<String, CatalogEntry> loadCatalog() {
+        List<Object[]> rows = scholarshipRepository.findCsvCatalogEntries();
+        Map<String, CatalogEntry> catalog = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            catalog.put(naturalKey((Integer) row[1], (String) row[2], (String) row[3]),
+                    new CatalogEntry((String) row[0], (String) row[4], Boolean.TRUE.equals(row[5])));
+        }
+        return catalog;
+    }
+
+    private static String naturalKey(Integer csvRowNumber, String organization, String name) {
+        return csvRowNumber + "|" + organization + "|" + name;
+    }
+
+    private boolean isResumable(CsvUploadJob job) {
+        return job.getStatus() == UploadJobStatus.FAILED
+                && job.getSpoolPath() != null && Files.exists(Path.of(job.getSpoolPath()));
+    }
+
+    private CsvUploadJobResponse toResponse(CsvUploadJob job) {
+        int committedRow = job.getCommittedRow();
+        CsvUploadJobResponse.CsvUploadJobResponseBuilder response = CsvUploadJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .filename(job.getFilename())
+                .mode(job.getMode())
+                .rowsParsed(Math.max(0, committedRow - 1))
+                .rowsWritten(job.getSuccessCount())
+                .rowsFailed(job.getFailedCount())
+                .committedRow(committedRow)
+                .errorMessage(job.getErrorMessage())
+                .resumable(isResumable(job))
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt());
+
+        LiveProgress live = running.get(job.getId());
+        if (job.getStatus() == UploadJobStatus.COMPLETED) {
+            response.progress(1.0).etaSeconds(0L).result(fromJson(job.getResult(), CsvUploadResponse.class));
+        } else if (live != null) {
+            live.fill(response);
+        }
+        return response.build();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("업로드 작업 상태 직렬화 실패: " + e.getMessage());
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("업로드 작업 상태 역직렬화 실패: " + e.getMessage());
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("업로드 작업 상태 역직렬화 실패: " + e.getMessage());
+        }
+    }
+
+    private void deleteSpool(CsvUploadJob job) {
+        try {
+            Files.deleteIfExists(Path.of(job.getSpoolPath()));
+        } catch (IOException e) {
+            log.warn("업로드 보관 파일 삭제 실패: {}", job.getSpoolPath());
+        }
+    }
+
+    private static String truncate(String text, int maxLen) {
+        return text.length() > maxLen ? text.substring(0, maxLen) : text;
+    }
+
+    /**
+     * 실행 중인 작업 1건의 상태 (csv-job 스레드 전용, 재개 시 마지막 커밋 값에서 시작)
+     */
+    private final class JobRun {
+        CsvUploadJob job;
+        final PipelineStats stats = new PipelineStats();
+        final long startedNanos = System.nanoTime();
+        final int resumedRows;
+        final List<CsvUploadResponse.ErrorDetail> errors;
+        final Set<String> existingKeys = new HashSet<>();
+        final List<Scholarship> chunk = new ArrayList<>(COMMIT_CHUNK_SIZE);
+        // 이번 실행에서 새로 추가된 장학금 (완료 시 한 번에 알림, replace 모드는 게시 후 판별)
+        final List<String> importedIds = new ArrayList<>();
+        // replace 모드 전용 스테이징 테이블 (그 외 모드에서는 null)
+        final String staging;
+        // upsert 모드 전용 (그 외 모드에서는 catalog == null)
+        Map<String, CatalogEntry> catalog;
+        final List<Scholarship> updates = new ArrayList<>();
+        int inserted;
+        int updated;
+        int unchanged;
+        int vanished;
+        boolean stopped;
+        int success;
+        int failed;
+        int lastRow;
+
+        JobRun(CsvUploadJob job) {
+            this.job = job;
+            this.staging = isReplace(job) ? ScholarshipJdbcRepository.stagingTable(job.getId()) : null;
+            this.success = job.getSuccessCount();
+            this.failed = job.getFailedCount();
+            this.lastRow = job.getCommittedRow();
+            this.inserted = job.getInsertedCount();
+            this.updated = job.getUpdatedCount();
+            this.unchanged = job.getUnchangedCount();
+            this.vanished = job.getVanishedCount();
+            this.resumedRows = Math.max(0, job.getCommittedRow() - 1);
+            List<CsvUploadResponse.ErrorDetail> committed = fromJson(job.getErrors(), ERROR_LIST);
+            this.errors = committed != null ? new ArrayList<>(committed) : new ArrayList<>();
+        }
+    }
+
+    private record CatalogEntry(String id, String contentHash, boolean active) {
+    }
+
+    /**
+     * 폴링/SSE용 실시간 진행률 (읽은 바이트 비율로 진행률과 남은 시간 추정)
+     */
+    private record LiveProgress(JobRun run, CountingInputStream in) {
+
+        void fill(CsvUploadJobResponse.CsvUploadJobResponseBuilder response) {
+            response.rowsParsed(run.resumedRows + run.stats.parsedRows());
+            Long fileSize = run.job.getFileSize();
+            long read = in.count;
+            if (fileSize == null || fileSize <= 0 || read <= 0) return;
+
+            double progress = Math.min(1.0, (double) read / fileSize);
+            long elapsedMs = (System.nanoTime() - run.startedNanos) / 1_000_000;
+            response.progress(progress)
+                    .etaSeconds((long) (elapsedMs * (1 - progress) / progress / 1000));
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        volatile long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
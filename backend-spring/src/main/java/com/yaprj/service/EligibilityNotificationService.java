@@ -0,0 +1,101 @@
+package com.yaprj.service;
+
+import com.yaprj.entity.Scholarship;
+import com.yaprj.event.ScholarshipsImportedEvent;
+import com.yaprj.repository.EligibilityNotificationJdbcRepository;
+import com.yaprj.repository.EligibilityNotificationJdbcRepository.NotificationRow;
+import com.yaprj.repository.ScholarshipRepository;
+import com.yaprj.repository.UserRepository;
+import com.yaprj.service.eligibility.EligibilityRule;
+import com.yaprj.service.eligibility.UserProfileIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 신규 장학금 적재 후 새로 자격이 생긴 사용자를 찾아 알림 아웃박스에 기록
+ * 업로드 작업 완료 후 작업당 한 번 백그라운드에서 실행 (사용자 프로필 역색인으로 장학금별 구간 조회)
+ */
+@Service
+@Slf4j
+public class EligibilityNotificationService {
+
+    private static final int SCHOLARSHIP_CHUNK = 500;
+    private static final int WRITE_CHUNK = 1000;
+
+    private final UserRepository userRepository;
+    private final ScholarshipRepository scholarshipRepository;
+    private final EligibilityNotificationJdbcRepository notificationJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public EligibilityNotificationService(UserRepository userRepository,
+                                          ScholarshipRepository scholarshipRepository,
+                                          EligibilityNotificationJdbcRepository notificationJdbcRepository,
+                                          PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.scholarshipRepository = scholarshipRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScholarshipsImported(ScholarshipsImportedEvent event) {
+        List<String> ids = event.getScholarshipIds();
+        if (ids.isEmpty()) return;
+
+        // 비동기 리스너의 예외는 호출자에게 전달되지 않으므로 여기서 기록
+        try {
+            notify(ids, event.getSource());
+        } catch (Exception e) {
+            log.error("신규 장학금 알림 대상 탐색 실패 - 장학금 {}건: {}", ids.size(), e.getMessage(), e);
+        }
+    }
+
+    private void notify(List<String> ids, String source) {
+        long started = System.currentTimeMillis();
+        UserProfileIndex index = UserProfileIndex.build(userRepository.findEligibilityProfiles());
+        if (index.size() == 0) return;
+
+        int matched = 0;
+        List<NotificationRow> pending = new ArrayList<>(WRITE_CHUNK);
+        for (int from = 0; from < ids.size(); from += SCHOLARSHIP_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(from + SCHOLARSHIP_CHUNK, ids.size()));
+            for (Scholarship scholarship : scholarshipRepository.findAllById(chunk)) {
+                if (!Boolean.TRUE.equals(scholarship.getIsActive())) continue;
+
+                EligibilityRule rule = EligibilityRule.compile(scholarship);
+                List<String> userIds = new ArrayList<>();
+                index.forEachEligible(rule, userIds::add);
+                for (String userId : userIds) {
+                    pending.add(new NotificationRow(userId, scholarship.getId()));
+                    if (pending.size() >= WRITE_CHUNK) {
+                        matched += write(pending, source);
+                    }
+                }
+            }
+        }
+        matched += write(pending, source);
+
+        log.info("신규 장학금 알림 대상 탐색 완료 - 장학금 {}건 × 사용자 {}명, 알림 {}건, {}ms",
+                ids.size(), index.size(), matched, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 청크 단위 커밋 (대량 매칭 시 한 트랜잭션이 과도하게 커지지 않도록)
+     */
+    private int write(List<NotificationRow> pending, String source) {
+        if (pending.isEmpty()) return 0;
+        int count = pending.size();
+        List<NotificationRow> batch = new ArrayList<>(pending);
+        transactionTemplate.executeWithoutResult(status -> notificationJdbcRepository.insertIgnoreAll(batch, source));
+        pending.clear();
+        return count;
+    }
+}
@@ -0,0 +1,60 @@
+package com.yaprj.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 목록 커서 (마지막으로 내려준 행의 정렬 키, 클라이언트에는 불투명한 문자열로 전달)
+ * 사용자 목록: 추천 여부 DESC, 모집종료일 ASC(null 먼저), id ASC
+ * 관리자 목록: 활성 여부 DESC, 수정일 DESC, id DESC
+ */
+record ScholarshipCursor(Kind kind, boolean flag, String sortValue, String id) {
+
+    enum Kind { PUBLIC, ADMIN }
+
+    private static final String VERSION = "v1";
+
+    static ScholarshipCursor ofPublic(boolean featured, LocalDate applyEnd, String id) {
+        return new ScholarshipCursor(Kind.PUBLIC, featured, applyEnd != null ? applyEnd.toString() : "", id);
+    }
+
+    static ScholarshipCursor ofAdmin(boolean active, LocalDateTime updatedAt, String id) {
+        return new ScholarshipCursor(Kind.ADMIN, active, updatedAt != null ? updatedAt.toString() : "", id);
+    }
+
+    String encode() {
+        String raw = String.join("|", VERSION, kind.name(), flag ? "1" : "0", sortValue, id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 다르거나 다른 목록의 커서
+     */
+    static ScholarshipCursor decode(String cursor, Kind expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0]) || !expected.name().equals(parts[1]) || parts[4].isEmpty()) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            ScholarshipCursor decoded = new ScholarshipCursor(expected, "1".equals(parts[2]), parts[3], parts[4]);
+            // 정렬 키 형식 검증
+            if (expected == Kind.PUBLIC) decoded.applyEnd();
+            else decoded.updatedAt();
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    LocalDate applyEnd() {
+        return sortValue.isEmpty() ? null : LocalDate.parse(sortValue);
+    }
+
+    LocalDateTime updatedAt() {
+        return sortValue.isEmpty() ? null : LocalDateTime.parse(sortValue);
+    }
+}
@@ -0,0 +1,110 @@
+package com.yaprj.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVWriter;
+import com.yaprj.entity.enums.ScholarshipType;
+import com.yaprj.repository.ScholarshipExportRepository;
+import com.yaprj.repository.ScholarshipExportRepository.Column;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 장학금 카탈로그 내보내기 (CSV 또는 NDJSON)
+ * DB 커서에서 읽은 행을 엔티티로 만들지 않고 바로 응답 스트림에 쓰므로 건수와 무관하게 메모리 일정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScholarshipExportService {
+    
+    private static final int FLUSH_EVERY = 1000;
+    private static final List<Column> COLUMNS = ScholarshipExportRepository.COLUMNS;
+    
+    private final ScholarshipExportRepository scholarshipExportRepository;
+    private final ObjectMapper objectMapper;
+    
+    public void export(String format, String search, ScholarshipType type, Boolean isActive, Boolean isFeatured,
+                       OutputStream out) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        long started = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] rows = new long[1];
+        
+        try {
+            if (csv) {
+                // 엑셀에서 한글이 깨지지 않도록 BOM (업로드 시 헤더에서 제거됨)
+                writer.write('\uFEFF');
+                CSVWriter csvWriter = new CSVWriter(writer);
+                csvWriter.writeNext(COLUMNS.stream().map(Column::header).toArray(String[]::new), false);
+                String[] line = new String[COLUMNS.size()];
+                scholarshipExportRepository.stream(search, type, isActive, isFeatured, rs -> {
+                    for (int i = 0; i < line.length; i++) {
+                        line[i] = rs.getString(i + 1);
+                    }
+                    csvWriter.writeNext(line, false);
+                    if (++rows[0] % FLUSH_EVERY == 0) flush(writer);
+                });
+                csvWriter.flush();
+            } else {
+                JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+                json.setRootValueSeparator(null);
+                scholarshipExportRepository.stream(search, type, isActive, isFeatured, rs -> {
+                    writeJsonLine(json, rs);
+                    if (++rows[0] % FLUSH_EVERY == 0) flush(json);
+                });
+                json.flush();
+            }
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료
+            throw e.getCause();
+        }
+        
+        log.info("장학금 내보내기 완료 ({}): {}건, {}ms", csv ? "csv" : "ndjson", rows[0],
+                (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    private void writeJsonLine(JsonGenerator json, ResultSet rs) throws SQLException {
+        try {
+            json.writeStartObject();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                Column column = COLUMNS.get(i);
+                json.writeFieldName(column.name());
+                switch (column.kind()) {
+                    case NUMBER -> {
+                        BigDecimal value = rs.getBigDecimal(i + 1);
+                        if (value == null) json.writeNull();
+                        else json.writeNumber(value);
+                    }
+                    case BOOLEAN -> {
+                        boolean value = rs.getBoolean(i + 1);
+                        if (rs.wasNull()) json.writeNull();
+                        else json.writeBoolean(value);
+                    }
+                    default -> json.writeString(rs.getString(i + 1));
+                }
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void flush(Flushable target) {
+        try {
+            target.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
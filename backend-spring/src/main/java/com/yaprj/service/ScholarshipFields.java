@@ -0,0 +1,155 @@
+package com.yaprj.service;
+
+import com.yaprj.entity.enums.ScholarshipType;
+import com.yaprj.repository.ScholarshipProjectionRepository.Column;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.yaprj.repository.ScholarshipProjectionRepository.*;
+
+/**
+ * 목록 응답 필드 선택 (fields=name,apply_end,...)
+ * 응답 키 → 컬럼 허용 목록이며, 선택한 컬럼만 ScholarshipProjectionRepository SELECT 절에 들어감
+ * id는 상세 조회/커서에 필요해서 항상 포함
+ */
+final class ScholarshipFields {
+
+    // 사용자 목록 (기존 toSimpleMap과 같은 키)
+    private static final Map<String, Column> PUBLIC = catalog(
+            "name", NAME,
+            "organization", ORGANIZATION,
+            "type", SCHOLARSHIP_TYPE,
+            "description", SUPPORT_DETAILS,
+            "apply_start", APPLY_START,
+            "apply_end", APPLY_END,
+            "website_url", WEBSITE_URL,
+            "is_featured", IS_FEATURED
+    );
+
+    // 관리자 목록 (ScholarshipResponse와 같은 키)
+    private static final Map<String, Column> ADMIN = catalog(
+            "name", NAME,
+            "organization", ORGANIZATION,
+            "organization_type", ORGANIZATION_TYPE,
+            "product_type", PRODUCT_TYPE,
+            "financial_aid_type", FINANCIAL_AID_TYPE,
+            "scholarship_type", SCHOLARSHIP_TYPE,
+            "university_category", UNIVERSITY_CATEGORY,
+            "grade_semester", GRADE_SEMESTER,
+            "major_category", MAJOR_CATEGORY,
+            "grade_criteria", GRADE_CRITERIA,
+            "income_criteria", INCOME_CRITERIA,
+            "support_details", SUPPORT_DETAILS,
+            "special_qualification", SPECIAL_QUALIFICATION,
+            "residency_detail", RESIDENCY_DETAIL,
+            "selection_method", SELECTION_METHOD,
+            "selection_count", SELECTION_COUNT,
+            "eligibility_restriction", ELIGIBILITY_RESTRICTION,
+            "recommendation_required", RECOMMENDATION_REQUIRED,
+            "required_documents", REQUIRED_DOCUMENTS,
+            "website_url", WEBSITE_URL,
+            "apply_start", APPLY_START,
+            "apply_end", APPLY_END,
+            "min_gpa", MIN_GPA,
+            "max_income_level", MAX_INCOME_LEVEL,
+            "allowed_academic_status", ALLOWED_ACADEMIC_STATUS,
+            "allowed_grades", ALLOWED_GRADES,
+            "allowed_university_types", ALLOWED_UNIVERSITY_TYPES,
+            "region_limit", REGION_LIMIT,
+            "is_active", IS_ACTIVE,
+            "is_featured", IS_FEATURED,
+            "created_at", CREATED_AT,
+            "updated_at", UPDATED_AT
+    );
+
+    private static final ScholarshipFields PUBLIC_DEFAULT = new ScholarshipFields(PUBLIC.keySet(), PUBLIC);
+    private static final ScholarshipFields ADMIN_DEFAULT = new ScholarshipFields(ADMIN.keySet(), ADMIN);
+
+    private final List<String> keys;
+    private final List<Column> columns;
+
+    private ScholarshipFields(Set<String> keys, Map<String, Column> catalog) {
+        this.keys = List.copyOf(keys);
+        List<Column> columns = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            columns.add(catalog.get(key));
+        }
+        this.columns = Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * 사용자 목록/추천/모집중 필드 (지정하지 않으면 기존 9개)
+     */
+    static ScholarshipFields forPublic(String fields) {
+        return parse(fields, PUBLIC, PUBLIC_DEFAULT);
+    }
+
+    /**
+     * 관리자 목록 필드 (지정하지 않으면 ScholarshipResponse 전체)
+     */
+    static ScholarshipFields forAdmin(String fields) {
+        return parse(fields, ADMIN, ADMIN_DEFAULT);
+    }
+
+    private static ScholarshipFields parse(String fields, Map<String, Column> catalog, ScholarshipFields defaults) {
+        if (fields == null || fields.isBlank()) return defaults;
+
+        // 순서는 응답 키 순서(카탈로그 순서)로 고정
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String key = field.trim();
+            if (key.isEmpty() || "id".equals(key)) continue;
+            if (!catalog.containsKey(key)) {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + key);
+            }
+            requested.add(key);
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String key : catalog.keySet()) {
+            if (requested.contains(key)) keys.add(key);
+        }
+        return new ScholarshipFields(keys, catalog);
+    }
+
+    List<Column> columns() {
+        return columns;
+    }
+
+    /**
+     * 조회 행 [id, 값...] → 응답 맵
+     */
+    Map<String, Object> toMap(Object[] row) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", row[0]);
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), format(columns.get(i), row[i + 1]));
+        }
+        return map;
+    }
+
+    private static Object format(Column column, Object value) {
+        switch (column.kind()) {
+            case TYPE:
+                return value != null ? ((ScholarshipType) value).getValue() : "other";
+            case DATE:
+            case DATETIME:
+                return value != null ? value.toString() : null;
+            default:
+                return value;
+        }
+    }
+
+    private static Map<String, Column> catalog(Object... entries) {
+        Map<String, Column> catalog = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            catalog.put((String) entries[i], (Column) entries[i + 1]);
+        }
+        return Collections.unmodifiableMap(catalog);
+    }
+}
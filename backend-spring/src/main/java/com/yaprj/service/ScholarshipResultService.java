@@ -0,0 +1,106 @@
+package com.yaprj.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaprj.entity.User;
+import com.yaprj.repository.ScholarshipResultJdbcRepository;
+import com.yaprj.repository.ScholarshipResultJdbcRepository.ResultRow;
+import com.yaprj.repository.ScholarshipResultRepository;
+import com.yaprj.repository.UserRepository;
+import com.yaprj.service.eligibility.CheckConditions;
+import com.yaprj.service.eligibility.EligibilityClassification;
+import com.yaprj.service.eligibility.EligibilityRule;
+import com.yaprj.service.eligibility.EligibilitySnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 로그인 사용자의 자격 확인 결과 저장
+ * 응답은 공유 판정(동치류 테이블/결과 캐시)으로 만들고, 저장은 응답 후 백그라운드에서 바뀐 행만 기록
+ * 적격/확인필요 결과만 저장 (저장되지 않은 장학금 = 부적격)
+ * 결과의 기준 조건은 별도 컬럼(resultsConditions)에 두고, 사용자 프로필은 건드리지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScholarshipResultService {
+
+    // 수정 시각은 커밋 전에 기록되므로, 스냅샷 조회 직전에 수정된 행도 근거를 다시 쓰도록 여유를 둠
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final ScholarshipResultRepository scholarshipResultRepository;
+    private final ScholarshipResultJdbcRepository scholarshipResultJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 판정 결과 저장 (저장된 판정과 비교해 추가/변경/삭제분만 기록)
+     * 같은 사용자의 동시 저장은 사용자 행 잠금으로 직렬화하고, 같은 조건/스냅샷이거나 더 새 스냅샷으로 이미 저장됐으면 건너뜀
+     */
+    @Async
+    @Transactional
+    public void record(String userId, EligibilitySnapshot snapshot, EligibilityClassification classification,
+                       CheckConditions conditions) {
+        User user = userRepository.findByIdForUpdate(userId).orElse(null);
+        if (user == null) return;
+        LocalDateTime checkedAt = user.getResultsCheckedAt();
+        if (checkedAt != null && checkedAt.isAfter(snapshot.getLoadedAt())) return;
+
+        // 조건이 같으면 판정이 그대로인 행은 마지막 확인 이후 수정된 장학금만 근거를 다시 씀
+        boolean sameConditions = checkedAt != null && conditions.key().equals(user.getResultsConditions());
+        if (sameConditions && checkedAt.equals(snapshot.getLoadedAt())) return;
+        LocalDateTime since = sameConditions ? checkedAt.minus(CLOCK_SKEW) : null;
+
+        Map<String, Boolean> stored = new HashMap<>();
+        for (Object[] row : scholarshipResultRepository.findVerdictsByUserId(userId)) {
+            stored.put((String) row[0], (Boolean) row[1]);
+        }
+
+        int[] order = classification.getOrder();
+        int kept = classification.getEligibleCount() + classification.getUnknownCount();
+        List<ResultRow> writes = new ArrayList<>();
+        for (int i = 0; i < kept; i++) {
+            int position = order[i];
+            EligibilityRule rule = snapshot.getRule(position);
+            Boolean isEligible = toIsEligible(classification.verdictAt(i));
+            boolean existed = stored.containsKey(rule.getId());
+            Boolean previous = stored.remove(rule.getId());
+            if (!existed || !Objects.equals(previous, isEligible) || since == null
+                    || snapshot.isUpdatedAfter(position, since)) {
+                writes.add(new ResultRow(rule.getId(), isEligible, toDetails(rule, conditions)));
+            }
+        }
+        // 남은 행 = 부적격이 됐거나 비활성화/삭제된 장학금
+        List<String> deletes = new ArrayList<>(stored.keySet());
+
+        scholarshipResultJdbcRepository.deleteAll(userId, deletes);
+        scholarshipResultJdbcRepository.upsertAll(userId, writes);
+        user.setResultsConditions(conditions.key());
+        user.setResultsCheckedAt(snapshot.getLoadedAt());
+
+        log.info("자격 확인 결과 저장 - 사용자 {}, 적격/확인필요 {}건 중 {}건 기록, {}건 삭제",
+                userId, kept, writes.size(), deletes.size());
+    }
+
+    /**
+     * 저장 시점의 판정 근거 (근거 코드 JSON)
+     */
+    private String toDetails(EligibilityRule rule, CheckConditions conditions) {
+        try {
+            return objectMapper.writeValueAsString(rule.reasons(conditions));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private Boolean toIsEligible(int verdict) {
+        return verdict == EligibilityRule.ELIGIBLE ? Boolean.TRUE : null;
+    }
+}
@@ -1,17 +1,34 @@
 package com.yaprj.service;
 
+import com.yaprj.dto.request.ScholarshipBulkRequest;
 import com.yaprj.dto.request.ScholarshipCheckRequest;
 import com.yaprj.dto.request.ScholarshipCreateRequest;
 import com.yaprj.dto.request.ScholarshipUpdateRequest;
+import com.yaprj.dto.response.BulkOperationResponse;
 import com.yaprj.dto.response.DashboardStatsResponse;
 import com.yaprj.dto.response.ScholarshipCheckResponse;
 import com.yaprj.dto.response.ScholarshipCheckResponse.*;
 import com.yaprj.dto.response.ScholarshipResponse;
 import com.yaprj.entity.Scholarship;
 import com.yaprj.entity.enums.ScholarshipType;
+import com.yaprj.event.ScholarshipCatalogChangedEvent;
+import com.yaprj.repository.ScholarshipBulkRepository;
+import com.yaprj.repository.ScholarshipProjectionRepository;
 import com.yaprj.repository.ScholarshipRepository;
+import com.yaprj.repository.ScholarshipRepository.AdminSeekKey;
+import com.yaprj.repository.ScholarshipRepository.PublicSeekKey;
+import com.yaprj.repository.ScholarshipSearchIndex;
+import com.yaprj.service.cache.ApproximateTotalCache;
+import com.yaprj.service.eligibility.CheckConditions;
+import com.yaprj.service.eligibility.EligibilityClassification;
+import com.yaprj.service.eligibility.EligibilityEngine;
+import com.yaprj.service.eligibility.EligibilityResultCache;
+import com.yaprj.service.eligibility.EligibilityResultCache.CachedCheck;
+import com.yaprj.service.eligibility.EligibilityRule;
+import com.yaprj.service.eligibility.EligibilitySnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,10 +36,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,37 +46,96 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ScholarshipService {
     
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int MAX_BULK_IDS = 10_000;
+    
     private final ScholarshipRepository scholarshipRepository;
+    private final ScholarshipBulkRepository scholarshipBulkRepository;
+    private final ScholarshipProjectionRepository scholarshipProjectionRepository;
+    private final ScholarshipSearchIndex scholarshipSearchIndex;
+    private final ApproximateTotalCache approximateTotalCache;
+    private final EligibilityEngine eligibilityEngine;
+    private final EligibilityResultCache eligibilityResultCache;
+    private final ScholarshipResultService scholarshipResultService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // ========== 사용자 API ==========
     
+    /**
+     * 장학금 목록
+     * 검색어가 없으면 커서 페이지네이션 (cursor 없이 page=1이면 첫 페이지, 응답의 next_cursor로 다음 페이지)
+     * 검색 결과는 관련도 순이라 기존 page 번호 방식, cursor 없이 page > 1이면 역시 page 번호 방식
+     * fields 지정 시 해당 컬럼만 조회 (id는 항상 포함)
+     */
     public Map<String, Object> getScholarships(int page, int perPage, String search, 
-                                                ScholarshipType type, boolean onlyAccepting) {
+                                                ScholarshipType type, boolean onlyAccepting, String cursor,
+                                                String fields) {
+        ScholarshipFields selected = ScholarshipFields.forPublic(fields);
+        // 모집 중 필터는 오늘 기준
+        LocalDate acceptingOn = onlyAccepting ? LocalDate.now() : null;
+        if ((search == null || search.isEmpty()) && (cursor != null || page == 1)) {
+            return getScholarshipsAfter(perPage, type, acceptingOn, cursor, selected);
+        }
+        
         Pageable pageable = PageRequest.of(page - 1, perPage, 
                 Sort.by(Sort.Direction.DESC, "isFeatured").and(Sort.by(Sort.Direction.ASC, "applyEnd")));
         
-        Page<Scholarship> scholarshipPage;
+        Page<String> idPage;
+        String fullTextQuery = scholarshipSearchIndex.toBooleanQuery(search);
         
-        if (search != null && !search.isEmpty()) {
-            scholarshipPage = scholarshipRepository.searchByKeyword(search, pageable);
+        if (fullTextQuery != null) {
+            // 전문 검색은 관련도 순
+            idPage = scholarshipRepository.searchIdsFullText(fullTextQuery, type != null ? type.name() : null,
+                    acceptingOn, PageRequest.of(page - 1, perPage));
+        } else if (search != null && !search.isEmpty()) {
+            idPage = scholarshipRepository.searchIdsByKeyword(search, type, acceptingOn, pageable);
         } else {
-            scholarshipPage = scholarshipRepository.findByIsActiveTrue(pageable);
+            idPage = scholarshipRepository.findActiveIdsWithFilters(type, acceptingOn, pageable);
         }
         
-        List<Map<String, Object>> scholarships = scholarshipPage.getContent().stream()
-                .map(this::toSimpleMap)
-                .collect(Collectors.toList());
-        
         Map<String, Object> result = new HashMap<>();
-        result.put("scholarships", scholarships);
-        result.put("total", scholarshipPage.getTotalElements());
+        result.put("scholarships", loadFields(idPage.getContent(), selected));
+        result.put("total", idPage.getTotalElements());
         result.put("page", page);
         result.put("per_page", perPage);
+        result.put("has_more", idPage.hasNext());
         result.put("source", "database");
         
         return result;
     }
     
+    private Map<String, Object> getScholarshipsAfter(int perPage, ScholarshipType type, LocalDate acceptingOn,
+                                                     String cursor, ScholarshipFields selected) {
+        ScholarshipCursor after = cursor != null
+                ? ScholarshipCursor.decode(cursor, ScholarshipCursor.Kind.PUBLIC) : null;
+        // 한 건 더 읽어서 다음 페이지 여부 판단
+        List<PublicSeekKey> rows = scholarshipRepository.findActiveAfter(type, acceptingOn,
+                after != null && after.flag(), after != null ? after.applyEnd() : null,
+                after != null ? after.id() : null, PageRequest.of(0, perPage + 1));
+        
+        boolean hasMore = rows.size() > perPage;
+        List<PublicSeekKey> content = hasMore ? rows.subList(0, perPage) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PublicSeekKey last = content.get(content.size() - 1);
+            nextCursor = ScholarshipCursor.ofPublic(Boolean.TRUE.equals(last.getIsFeatured()), last.getApplyEnd(),
+                    last.getId()).encode();
+        }
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("scholarships", loadFields(content.stream().map(PublicSeekKey::getId).toList(), selected));
+        result.put("total", approximateTotalCache.get("public|" + type + "|" + acceptingOn,
+                () -> scholarshipRepository.countActiveWithFilters(type, acceptingOn)));
+        result.put("total_approximate", true);
+        // 커서로 넘어온 페이지는 번호를 알 수 없음
+        result.put("page", after == null ? 1 : null);
+        result.put("per_page", perPage);
+        result.put("next_cursor", nextCursor);
+        result.put("has_more", hasMore);
+        result.put("source", "database");
+        return result;
+    }
+    
     public Map<String, Object> getScholarshipDetail(String id) {
         Scholarship s = scholarshipRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("장학금을 찾을 수 없습니다."));
@@ -73,249 +147,160 @@ public class ScholarshipService {
         return toDetailMap(s);
     }
     
+    public ScholarshipCheckResponse checkEligibility(ScholarshipCheckRequest request) {
+        return checkEligibility(request, null);
+    }
+    
     /**
      * 사용자 조건 기반 장학금 자격 확인
+     * page 지정 시: 전체 카탈로그는 적격/부적격/확인필요 분류만 하고, 해당 페이지 결과에만 설명 생성
+     * userId 지정 시(로그인 사용자): 응답은 같은 공유 판정으로 만들고, 결과 저장은 백그라운드에서 바뀐 행만
      */
-    public ScholarshipCheckResponse checkEligibility(ScholarshipCheckRequest request) {
-        List<Scholarship> scholarships = scholarshipRepository.findByIsActiveTrueOrderByIsFeaturedDescUpdatedAtDesc();
+    public ScholarshipCheckResponse checkEligibility(ScholarshipCheckRequest request, String userId) {
+        EligibilitySnapshot snapshot = eligibilityEngine.current();
         
-        log.info("자격 확인 시작 - 총 {}개 장학금", scholarships.size());
+        log.info("자격 확인 시작 - 총 {}개 장학금", snapshot.size());
         log.info("사용자 조건: 학적={}, 학년={}, GPA={}, 소득분위={}", 
                 request.getAcademicStatus(), request.getGrade(), request.getGpa(), request.getIncomeLevel());
         
-        Map<String, Object> userConditions = new HashMap<>();
-        userConditions.put("academic_status", request.getAcademicStatus().getValue());
-        userConditions.put("grade", request.getGrade());
-        userConditions.put("birth_year", request.getBirthYear());
-        userConditions.put("gpa", request.getGpa());
-        userConditions.put("income_level", request.getIncomeLevel());
-        
-        List<ScholarshipMatchResult> results = scholarships.stream()
-                .map(s -> checkSingleScholarship(s, request))
-                .sorted((a, b) -> {
-                    // 정렬: 적격(true) > 확인필요(null) > 부적격(false)
-                    if (Boolean.TRUE.equals(a.getIsEligible()) && !Boolean.TRUE.equals(b.getIsEligible())) return -1;
-                    if (!Boolean.TRUE.equals(a.getIsEligible()) && Boolean.TRUE.equals(b.getIsEligible())) return 1;
-                    if (a.getIsEligible() == null && Boolean.FALSE.equals(b.getIsEligible())) return -1;
-                    if (Boolean.FALSE.equals(a.getIsEligible()) && b.getIsEligible() == null) return 1;
-                    return 0;
-                })
-                .collect(Collectors.toList());
+        CheckConditions conditions = CheckConditions.from(request);
+        boolean reasonCodes = isReasonCodes(request);
+        if (userId != null) {
+            scholarshipResultService.record(userId, snapshot, snapshot.classify(conditions), conditions);
+        }
         
-        int eligibleCount = (int) results.stream().filter(r -> Boolean.TRUE.equals(r.getIsEligible())).count();
-        int notEligibleCount = (int) results.stream().filter(r -> Boolean.FALSE.equals(r.getIsEligible())).count();
-        int unknownCount = (int) results.stream().filter(r -> r.getIsEligible() == null).count();
+        if (request.getPage() != null) {
+            return checkEligibilityPage(snapshot, snapshot.classify(conditions), conditions, request);
+        }
         
-        log.info("자격 확인 완료 - 적격: {}건, 부적격: {}건, 확인필요: {}건", eligibleCount, notEligibleCount, unknownCount);
+        CachedCheck body = eligibilityResultCache.get(snapshot, conditions, reasonCodes,
+                () -> evaluate(snapshot, snapshot.classify(conditions), conditions, reasonCodes));
         
         return ScholarshipCheckResponse.builder()
-                .results(results)
+                .results(body.getResults())
                 .checkedAt(LocalDateTime.now().toString())
-                .summary(CheckSummary.builder()
-                        .eligibleCount(eligibleCount)
-                        .totalCount(results.size())
-                        .aiAnalyzedCount(0)
-                        .publicDataCount(scholarships.size())
-                        .build())
-                .userConditions(userConditions)
+                .summary(body.getSummary())
+                .userConditions(toUserConditions(request))
                 .build();
     }
     
     /**
-     * 개별 장학금 자격 확인
+     * 페이지 단위 자격 확인 (분류 건수 + 요청 페이지의 결과만 설명 포함)
      */
-    private ScholarshipMatchResult checkSingleScholarship(Scholarship s, ScholarshipCheckRequest request) {
-        List<String> satisfied = new ArrayList<>();
-        List<String> notSatisfied = new ArrayList<>();
-        List<String> unknown = new ArrayList<>();
-        
-        String userStatus = request.getAcademicStatus().getValue();
-        int userGrade = request.getGrade();
-        BigDecimal userGpa = request.getGpa();
-        int userIncome = request.getIncomeLevel();
-        
-        Map<String, String> statusKorean = Map.of("enrolled", "재학", "expected", "입학예정", "leave", "휴학");
-        
-        // 1. 학적상태 체크
-        String allowedStatus = s.getAllowedAcademicStatus();
-        if (allowedStatus != null && !allowedStatus.isEmpty()) {
-            List<String> statusList = Arrays.asList(allowedStatus.split(","));
-            if (statusList.stream().anyMatch(st -> st.trim().equalsIgnoreCase(userStatus))) {
-                satisfied.add("학적상태 충족 (" + statusKorean.getOrDefault(userStatus, userStatus) + ")");
-            } else {
-                String allowed = statusList.stream()
-                        .map(st -> statusKorean.getOrDefault(st.trim(), st.trim()))
-                        .collect(Collectors.joining("/"));
-                notSatisfied.add("학적상태 미충족 (요구: " + allowed + ")");
-            }
-        } else {
-            // 원본 텍스트에서 힌트 찾기
-            String hint = combineTexts(s.getUniversityCategory(), s.getSpecialQualification());
-            if (!hint.isEmpty() && containsAny(hint, "재학", "신입", "휴학", "입학")) {
-                unknown.add("학적상태 직접 확인 필요");
-            }
-        }
-        
-        // 2. 학년 체크
-        String allowedGrades = s.getAllowedGrades();
-        if (allowedGrades != null && !allowedGrades.isEmpty()) {
-            List<Integer> gradeList = Arrays.stream(allowedGrades.split(","))
-                    .map(String::trim)
-                    .filter(g -> g.matches("\\d+"))
-                    .map(Integer::parseInt)
-                    .collect(Collectors.toList());
-            
-            if (!gradeList.isEmpty()) {
-                if (gradeList.contains(userGrade)) {
-                    satisfied.add("학년 충족 (" + userGrade + "학년)");
-                } else {
-                    String allowed = gradeList.stream().map(g -> g + "학년").collect(Collectors.joining("/"));
-                    notSatisfied.add("학년 미충족 (요구: " + allowed + ")");
-                }
-            }
-        } else if (s.getGradeSemester() != null && !s.getGradeSemester().isEmpty()) {
-            // 파싱 안됐지만 원본 데이터 있음
-            if (!containsAny(s.getGradeSemester(), "전학년", "제한없음", "무관")) {
-                unknown.add("학년 조건 직접 확인: " + truncate(s.getGradeSemester(), 20));
-            }
-        }
-        
-        // 3. 성적(GPA) 체크
-        BigDecimal minGpa = s.getMinGpa();
-        if (minGpa != null) {
-            if (userGpa.compareTo(minGpa) >= 0) {
-                satisfied.add(String.format("성적 충족 (%.1f ≥ %.1f)", userGpa, minGpa));
-            } else {
-                notSatisfied.add(String.format("성적 미충족 (%.1f < %.1f 이상 필요)", userGpa, minGpa));
-            }
-        } else if (s.getGradeCriteria() != null && !s.getGradeCriteria().isEmpty()) {
-            // 파싱 안됐지만 원본 데이터 있음
-            if (containsAny(s.getGradeCriteria(), "제한없음", "무관", "해당없음")) {
-                satisfied.add("성적 제한 없음");
-            } else {
-                unknown.add("성적 조건 직접 확인: " + truncate(s.getGradeCriteria(), 25));
-            }
-        }
-        
-        // 4. 소득분위 체크
-        Integer maxIncome = s.getMaxIncomeLevel();
-        if (maxIncome != null) {
-            if (userIncome <= maxIncome) {
-                satisfied.add(String.format("소득분위 충족 (%d분위 ≤ %d분위 이하)", userIncome, maxIncome));
-            } else {
-                notSatisfied.add(String.format("소득분위 미충족 (%d분위 > %d분위 이하 필요)", userIncome, maxIncome));
-            }
-        } else if (s.getIncomeCriteria() != null && !s.getIncomeCriteria().isEmpty()) {
-            // 파싱 안됐지만 원본 데이터 있음
-            if (containsAny(s.getIncomeCriteria(), "제한없음", "무관", "해당없음", "소득무관")) {
-                satisfied.add("소득 제한 없음");
-            } else {
-                unknown.add("소득 조건 직접 확인: " + truncate(s.getIncomeCriteria(), 25));
-            }
+    private ScholarshipCheckResponse checkEligibilityPage(EligibilitySnapshot snapshot,
+                                                          EligibilityClassification classification,
+                                                          CheckConditions conditions,
+                                                          ScholarshipCheckRequest request) {
+        int page = request.getPage();
+        int perPage = request.getPerPage() != null ? request.getPerPage() : 20;
+        int from = (int) Math.min((long) (page - 1) * perPage, classification.size());
+        int to = Math.min(from + perPage, classification.size());
+        
+        boolean reasonCodes = isReasonCodes(request);
+        int[] order = classification.getOrder();
+        List<ScholarshipMatchResult> results = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            results.add(toMatchResult(snapshot, order[i], classification.verdictAt(i), conditions, reasonCodes));
         }
         
-        // 5. 지역 체크
-        String regionLimit = s.getRegionLimit();
-        if (regionLimit != null && !regionLimit.isEmpty()) {
-            unknown.add("지역 제한 확인 필요: " + regionLimit);
-        } else if (s.getResidencyDetail() != null && !s.getResidencyDetail().isEmpty()) {
-            if (!containsAny(s.getResidencyDetail(), "전국", "제한없음", "무관")) {
-                unknown.add("지역 조건 직접 확인 필요");
-            }
+        return ScholarshipCheckResponse.builder()
+                .results(results)
+                .checkedAt(LocalDateTime.now().toString())
+                .summary(toSummary(snapshot, classification))
+                .userConditions(toUserConditions(request))
+                .page(page)
+                .perPage(perPage)
+                .totalPages((classification.size() + perPage - 1) / perPage)
+                .build();
+    }
+    
+    /**
+     * 개별 장학금 자격 확인 (페이지 모드에서 상세 설명 온디맨드 조회)
+     */
+    public ScholarshipMatchResult checkScholarshipEligibility(String id, ScholarshipCheckRequest request) {
+        EligibilitySnapshot snapshot = eligibilityEngine.current();
+        int position = snapshot.positionOf(id);
+        if (position < 0) {
+            throw new IllegalArgumentException("장학금을 찾을 수 없습니다.");
         }
         
-        // 6. 특정자격 체크
-        if (s.getSpecialQualification() != null && !s.getSpecialQualification().isEmpty()) {
-            if (!containsAny(s.getSpecialQualification(), "제한없음", "무관", "해당없음")) {
-                unknown.add("특정자격 확인 필요: " + truncate(s.getSpecialQualification(), 30));
-            }
+        CheckConditions conditions = CheckConditions.from(request);
+        return toMatchResult(snapshot, position, snapshot.getRule(position).classify(conditions), conditions,
+                isReasonCodes(request));
+    }
+    
+    /**
+     * 전체 카탈로그 판정 + 결과 목록 생성 (캐시 미적중 시에만 실행)
+     */
+    private CachedCheck evaluate(EligibilitySnapshot snapshot, EligibilityClassification classification,
+                                 CheckConditions conditions, boolean reasonCodes) {
+        // 정렬: 적격(true) > 확인필요(null) > 부적격(false)
+        int[] order = classification.getOrder();
+        List<ScholarshipMatchResult> results = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            results.add(toMatchResult(snapshot, order[i], classification.verdictAt(i), conditions, reasonCodes));
         }
         
-        // 적격 여부 판정
-        Boolean isEligible;
-        if (!notSatisfied.isEmpty()) {
-            // 하나라도 미충족이면 부적격
-            isEligible = false;
-        } else if (satisfied.size() >= 1) {
-            // 미충족 없고 최소 1개 충족이면 적격
-            isEligible = true;
-        } else {
-            // 판단할 조건이 없음 → 확인 필요
-            isEligible = null;
-            if (unknown.isEmpty()) {
-                unknown.add("상세 조건 직접 확인 필요");
-            }
-        }
+        log.info("자격 확인 완료 - 적격: {}건, 부적격: {}건, 확인필요: {}건", 
+                classification.getEligibleCount(), classification.getNotEligibleCount(), classification.getUnknownCount());
         
-        // 신청 기간
-        String applyPeriod = null;
-        if (s.getApplyStart() != null || s.getApplyEnd() != null) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM.dd");
-            String start = s.getApplyStart() != null ? s.getApplyStart().format(formatter) : "?";
-            String end = s.getApplyEnd() != null ? s.getApplyEnd().format(formatter) : "?";
-            applyPeriod = start + " ~ " + end;
-        }
+        return new CachedCheck(results, toSummary(snapshot, classification));
+    }
+    
+    private CheckSummary toSummary(EligibilitySnapshot snapshot, EligibilityClassification classification) {
+        return CheckSummary.builder()
+                .eligibleCount(classification.getEligibleCount())
+                .notEligibleCount(classification.getNotEligibleCount())
+                .unknownCount(classification.getUnknownCount())
+                .totalCount(classification.size())
+                .aiAnalyzedCount(0)
+                .publicDataCount(snapshot.size())
+                .build();
+    }
+    
+    private Map<String, Object> toUserConditions(ScholarshipCheckRequest request) {
+        Map<String, Object> userConditions = new HashMap<>();
+        userConditions.put("academic_status", request.getAcademicStatus().getValue());
+        userConditions.put("grade", request.getGrade());
+        userConditions.put("birth_year", request.getBirthYear());
+        userConditions.put("gpa", request.getGpa());
+        userConditions.put("income_level", request.getIncomeLevel());
+        return userConditions;
+    }
+    
+    /**
+     * 개별 장학금 판정 결과 (근거 코드 또는 호환 모드 문구 포함)
+     */
+    private ScholarshipMatchResult toMatchResult(EligibilitySnapshot snapshot, int position, int verdict,
+                                                 CheckConditions conditions, boolean reasonCodes) {
+        Boolean isEligible = verdict == EligibilityRule.ELIGIBLE ? Boolean.TRUE
+                : verdict == EligibilityRule.NOT_ELIGIBLE ? Boolean.FALSE : null;
+        EligibilityRule rule = snapshot.getRule(position);
         
         return ScholarshipMatchResult.builder()
-                .scholarship(ScholarshipInfo.builder()
-                        .id(s.getId())
-                        .name(s.getName())
-                        .type(s.getScholarshipType() != null ? s.getScholarshipType().getValue() : "other")
-                        .description(s.getSupportDetails())
-                        .applyStart(s.getApplyStart() != null ? s.getApplyStart().toString() : null)
-                        .applyEnd(s.getApplyEnd() != null ? s.getApplyEnd().toString() : null)
-                        .externalUrl(s.getWebsiteUrl())
-                        .isActive(s.getIsActive())
-                        .organization(s.getOrganization())
-                        .build())
+                .scholarship(snapshot.getInfo(position))
                 .isEligible(isEligible)
-                .eligibilityDetail(EligibilityDetail.builder()
-                        .satisfied(satisfied)
-                        .notSatisfied(notSatisfied)
-                        .unknown(unknown)
-                        .build())
-                .applyPeriod(applyPeriod)
+                .eligibilityDetail(reasonCodes ? null : rule.explain(conditions))
+                .reasons(reasonCodes ? rule.reasons(conditions) : null)
+                .applyPeriod(snapshot.getApplyPeriod(position))
                 .build();
     }
     
-    // ========== Helper Methods ==========
-    
-    private String truncate(String text, int maxLen) {
-        if (text == null) return "";
-        return text.length() > maxLen ? text.substring(0, maxLen) + "..." : text;
+    private boolean isReasonCodes(ScholarshipCheckRequest request) {
+        return "codes".equals(request.getDetailFormat());
     }
     
-    private String combineTexts(String... texts) {
-        StringBuilder sb = new StringBuilder();
-        for (String text : texts) {
-            if (text != null && !text.isEmpty()) {
-                sb.append(text).append(" ");
-            }
-        }
-        return sb.toString().trim();
-    }
+    // ========== Helper Methods ==========
     
-    private boolean containsAny(String text, String... keywords) {
-        if (text == null) return false;
-        String lower = text.toLowerCase();
-        for (String kw : keywords) {
-            if (lower.contains(kw.toLowerCase())) return true;
-        }
-        return false;
+    /**
+     * 목록 페이지의 id → 선택 컬럼만 PK로 조회 (id 순서 유지)
+     */
+    private List<Map<String, Object>> loadFields(List<String> ids, ScholarshipFields selected) {
+        return toMaps(scholarshipProjectionRepository.findByIds(ids, selected.columns()), selected);
     }
     
-    private Map<String, Object> toSimpleMap(Scholarship s) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", s.getId());
-        map.put("name", s.getName());
-        map.put("organization", s.getOrganization());
-        map.put("type", s.getScholarshipType() != null ? s.getScholarshipType().getValue() : "other");
-        map.put("description", s.getSupportDetails());
-        map.put("apply_start", s.getApplyStart() != null ? s.getApplyStart().toString() : null);
-        map.put("apply_end", s.getApplyEnd() != null ? s.getApplyEnd().toString() : null);
-        map.put("website_url", s.getWebsiteUrl());
-        map.put("is_featured", s.getIsFeatured());
-        return map;
+    private List<Map<String, Object>> toMaps(List<Object[]> rows, ScholarshipFields selected) {
+        return rows.stream().map(selected::toMap).collect(Collectors.toList());
     }
     
     private Map<String, Object> toDetailMap(Scholarship s) {
@@ -348,17 +333,14 @@ public class ScholarshipService {
     
     // ========== Featured & Accepting ==========
     
-    public List<Map<String, Object>> getFeaturedScholarships() {
-        return scholarshipRepository.findByIsFeaturedTrueAndIsActiveTrueOrderByUpdatedAtDesc().stream()
-                .map(this::toSimpleMap)
-                .collect(Collectors.toList());
+    public List<Map<String, Object>> getFeaturedScholarships(String fields) {
+        ScholarshipFields selected = ScholarshipFields.forPublic(fields);
+        return toMaps(scholarshipProjectionRepository.findFeatured(selected.columns()), selected);
     }
     
-    public List<Map<String, Object>> getAcceptingScholarships() {
-        LocalDate today = LocalDate.now();
-        return scholarshipRepository.findAcceptingApplications(today).stream()
-                .map(this::toSimpleMap)
-                .collect(Collectors.toList());
+    public List<Map<String, Object>> getAcceptingScholarships(String fields) {
+        ScholarshipFields selected = ScholarshipFields.forPublic(fields);
+        return toMaps(scholarshipProjectionRepository.findAccepting(selected.columns(), LocalDate.now()), selected);
     }
     
     // ========== Admin API ==========
@@ -368,7 +350,7 @@ public class ScholarshipService {
         long active = scholarshipRepository.countByIsActiveTrue();
         long inactive = scholarshipRepository.countByIsActiveFalse();
         long featured = scholarshipRepository.countByIsFeaturedTrue();
-        long accepting = scholarshipRepository.findAcceptingApplications(LocalDate.now()).size();
+        long accepting = scholarshipRepository.countAcceptingApplications(LocalDate.now());
         
         Map<String, Long> byType = new HashMap<>();
         try {
@@ -404,25 +386,68 @@ public class ScholarshipService {
                 .build();
     }
     
+    /**
+     * 관리자 목록 (검색어가 없으면 사용자 목록과 같은 규칙으로 커서 페이지네이션)
+     * fields 지정 시 해당 컬럼만 조회, 없으면 ScholarshipResponse 전체 필드
+     */
     public Map<String, Object> getAdminScholarships(int page, int perPage, String search,
-                                                     ScholarshipType type, Boolean isActive, Boolean isFeatured) {
+                                                     ScholarshipType type, Boolean isActive, Boolean isFeatured,
+                                                     String cursor, String fields) {
+        ScholarshipFields selected = ScholarshipFields.forAdmin(fields);
+        if ((search == null || search.isEmpty()) && (cursor != null || page == 1)) {
+            return getAdminScholarshipsAfter(perPage, type, isActive, isFeatured, cursor, selected);
+        }
+        
         Pageable pageable = PageRequest.of(page - 1, perPage,
                 Sort.by(Sort.Direction.DESC, "isActive").and(Sort.by(Sort.Direction.DESC, "updatedAt")));
         
-        Page<Scholarship> scholarshipPage = scholarshipRepository.findWithFilters(
-                search, type, isActive, isFeatured, pageable);
-        
-        List<ScholarshipResponse> scholarships = scholarshipPage.getContent().stream()
-                .map(ScholarshipResponse::from)
-                .collect(Collectors.toList());
+        String fullTextQuery = scholarshipSearchIndex.toBooleanQuery(search);
+        Page<String> idPage = fullTextQuery != null
+                ? scholarshipRepository.findIdsWithFiltersFullText(fullTextQuery, type != null ? type.name() : null,
+                        isActive, isFeatured, PageRequest.of(page - 1, perPage))
+                : scholarshipRepository.findIdsWithFilters(search, type, isActive, isFeatured, pageable);
         
         Map<String, Object> result = new HashMap<>();
-        result.put("scholarships", scholarships);
-        result.put("total", scholarshipPage.getTotalElements());
+        result.put("scholarships", loadFields(idPage.getContent(), selected));
+        result.put("total", idPage.getTotalElements());
         result.put("page", page);
         result.put("per_page", perPage);
-        result.put("total_pages", scholarshipPage.getTotalPages());
+        result.put("total_pages", idPage.getTotalPages());
+        result.put("has_more", idPage.hasNext());
+        
+        return result;
+    }
+    
+    private Map<String, Object> getAdminScholarshipsAfter(int perPage, ScholarshipType type, Boolean isActive,
+                                                          Boolean isFeatured, String cursor,
+                                                          ScholarshipFields selected) {
+        ScholarshipCursor after = cursor != null
+                ? ScholarshipCursor.decode(cursor, ScholarshipCursor.Kind.ADMIN) : null;
+        List<AdminSeekKey> rows = scholarshipRepository.findWithFiltersAfter(type, isActive, isFeatured,
+                after != null && after.flag(), after != null ? after.updatedAt() : null,
+                after != null ? after.id() : null, PageRequest.of(0, perPage + 1));
+        
+        boolean hasMore = rows.size() > perPage;
+        List<AdminSeekKey> content = hasMore ? rows.subList(0, perPage) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            AdminSeekKey last = content.get(content.size() - 1);
+            nextCursor = ScholarshipCursor.ofAdmin(Boolean.TRUE.equals(last.getIsActive()), last.getUpdatedAt(),
+                    last.getId()).encode();
+        }
         
+        Map<String, Object> result = new HashMap<>();
+        result.put("scholarships", loadFields(content.stream().map(AdminSeekKey::getId).toList(), selected));
+        long total = approximateTotalCache.get("admin|" + type + "|" + isActive + "|" + isFeatured,
+                () -> scholarshipRepository.countWithFilters(type, isActive, isFeatured));
+        result.put("total", total);
+        result.put("total_approximate", true);
+        // 커서로 넘어온 페이지는 번호를 알 수 없음
+        result.put("page", after == null ? 1 : null);
+        result.put("per_page", perPage);
+        result.put("total_pages", (total + perPage - 1) / perPage);
+        result.put("next_cursor", nextCursor);
+        result.put("has_more", hasMore);
         return result;
     }
     
@@ -460,7 +485,9 @@ public class ScholarshipService {
             scholarship.setApplyEnd(LocalDate.parse(request.getApplyEnd()));
         }
         
-        return ScholarshipResponse.from(scholarshipRepository.save(scholarship));
+        ScholarshipResponse response = ScholarshipResponse.from(scholarshipRepository.save(scholarship));
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("create"));
+        return response;
     }
     
     @Transactional
@@ -479,7 +506,9 @@ public class ScholarshipService {
         if (request.getIsFeatured() != null) scholarship.setIsFeatured(request.getIsFeatured());
         if (request.getWebsiteUrl() != null) scholarship.setWebsiteUrl(request.getWebsiteUrl());
         
-        return ScholarshipResponse.from(scholarshipRepository.save(scholarship));
+        ScholarshipResponse response = ScholarshipResponse.from(scholarshipRepository.save(scholarship));
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("update"));
+        return response;
     }
     
     @Transactional
@@ -488,34 +517,149 @@ public class ScholarshipService {
             throw new IllegalArgumentException("장학금을 찾을 수 없습니다.");
         }
         scholarshipRepository.deleteById(id);
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("delete"));
     }
     
-    @Transactional
     public int deleteAllScholarships() {
-        int count = (int) scholarshipRepository.count();
-        scholarshipRepository.deleteAll();
+        int count = deleteInChunks(new ScholarshipBulkRequest.Filter()).affected();
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("delete-all"));
         return count;
     }
     
-    @Transactional
     public int deactivateAllScholarships() {
-        return scholarshipRepository.deactivateAll();
+        int count = updateInChunks(new ScholarshipBulkRequest.Filter(), false, null).affected();
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("deactivate-all"));
+        return count;
     }
     
-    @Transactional
     public int deleteInactiveScholarships() {
-        return scholarshipRepository.deleteInactive();
+        ScholarshipBulkRequest.Filter inactive = new ScholarshipBulkRequest.Filter();
+        inactive.setIsActive(false);
+        int count = deleteInChunks(inactive).affected();
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("delete-inactive"));
+        return count;
     }
     
-    @Transactional
-    public void bulkUpdateScholarships(List<String> ids, Boolean isActive, Boolean isFeatured) {
-        List<Scholarship> scholarships = scholarshipRepository.findAllById(ids);
+    // ========== 일괄 작업 ==========
+    // 엔티티를 읽지 않는 단일 문장 UPDATE/DELETE를 BULK_CHUNK_SIZE건씩 반복 (문장마다 커밋되어 잠금이 짧음)
+    
+    /**
+     * 일괄 수정 (ids 또는 filter 대상, 값이 이미 같은 행은 제외)
+     */
+    public BulkOperationResponse bulkUpdateScholarships(ScholarshipBulkRequest request) {
+        if (request.getIsActive() == null && request.getIsFeatured() == null) {
+            throw new IllegalArgumentException("변경할 값(is_active, is_featured)을 지정해주세요.");
+        }
+        long started = System.currentTimeMillis();
+        List<String> ids = bulkIds(request);
+        BulkResult result;
+        if (ids != null) {
+            int affected = 0;
+            for (List<String> chunk : chunks(ids)) {
+                affected += scholarshipBulkRepository.updateByIds(chunk, request.getIsActive(), request.getIsFeatured());
+            }
+            result = new BulkResult(affected, chunks(ids).size());
+        } else {
+            result = updateInChunks(request.getFilter(), request.getIsActive(), request.getIsFeatured());
+        }
         
-        for (Scholarship s : scholarships) {
-            if (isActive != null) s.setIsActive(isActive);
-            if (isFeatured != null) s.setIsFeatured(isFeatured);
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("bulk-update"));
+        return bulkResponse("일괄 수정되었습니다.", "update", ids, result, started);
+    }
+    
+    /**
+     * 일괄 삭제 (ids 또는 filter 대상)
+     */
+    public BulkOperationResponse bulkDeleteScholarships(ScholarshipBulkRequest request) {
+        long started = System.currentTimeMillis();
+        List<String> ids = bulkIds(request);
+        BulkResult result;
+        if (ids != null) {
+            int affected = 0;
+            for (List<String> chunk : chunks(ids)) {
+                affected += scholarshipBulkRepository.deleteByIds(chunk);
+            }
+            result = new BulkResult(affected, chunks(ids).size());
+        } else {
+            result = deleteInChunks(request.getFilter());
         }
         
-        scholarshipRepository.saveAll(scholarships);
+        eventPublisher.publishEvent(new ScholarshipCatalogChangedEvent("bulk-delete"));
+        return bulkResponse("일괄 삭제되었습니다.", "delete", ids, result, started);
+    }
+    
+    /**
+     * 대상 검증: ids와 filter 중 하나만, ids는 중복 제거 후 MAX_BULK_IDS건까지
+     * @return id 목록 (filter 대상이면 null)
+     */
+    private List<String> bulkIds(ScholarshipBulkRequest request) {
+        boolean hasIds = request.getIds() != null;
+        if (hasIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("ids 또는 filter 중 하나만 지정해주세요.");
+        }
+        if (!hasIds) return null;
+        
+        List<String> ids = request.getIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("대상 장학금 ID가 비어있습니다.");
+        }
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("ID 목록은 한 번에 최대 " + MAX_BULK_IDS + "건까지 가능합니다. 더 많은 대상은 filter를 사용해주세요.");
+        }
+        return ids;
+    }
+    
+    private static List<List<String>> chunks(List<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+    
+    /**
+     * 조건 대상 수정: 바뀐 행은 조건에서 빠지므로 영향 행 수가 BULK_CHUNK_SIZE보다 작아질 때까지 반복
+     */
+    private BulkResult updateInChunks(ScholarshipBulkRequest.Filter filter, Boolean isActive, Boolean isFeatured) {
+        int total = 0;
+        int statements = 0;
+        int updated;
+        do {
+            updated = scholarshipBulkRepository.updateByFilter(filter.getSearch(), filter.getType(),
+                    filter.getIsActive(), filter.getIsFeatured(), isActive, isFeatured, BULK_CHUNK_SIZE);
+            total += updated;
+            statements++;
+        } while (updated == BULK_CHUNK_SIZE);
+        return new BulkResult(total, statements);
+    }
+    
+    private BulkResult deleteInChunks(ScholarshipBulkRequest.Filter filter) {
+        int total = 0;
+        int statements = 0;
+        int deleted;
+        do {
+            deleted = scholarshipBulkRepository.deleteByFilter(filter.getSearch(), filter.getType(),
+                    filter.getIsActive(), filter.getIsFeatured(), BULK_CHUNK_SIZE);
+            total += deleted;
+            statements++;
+        } while (deleted == BULK_CHUNK_SIZE);
+        return new BulkResult(total, statements);
+    }
+    
+    private BulkOperationResponse bulkResponse(String message, String operation, List<String> ids,
+                                               BulkResult result, long started) {
+        long elapsedMs = System.currentTimeMillis() - started;
+        log.info("장학금 일괄 {}: {}건 ({}문장, {}ms)", operation, result.affected(), result.statements(), elapsedMs);
+        return BulkOperationResponse.builder()
+                .message(message)
+                .operation(operation)
+                .target(ids != null ? "ids" : "filter")
+                .affected(result.affected())
+                .statements(result.statements())
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+    
+    private record BulkResult(int affected, int statements) {
     }
 }
@@ -0,0 +1,43 @@
+package com.yaprj.service.cache;
+
+import com.yaprj.event.ScholarshipCatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 건수 캐시 (커서 페이지네이션 응답의 근사 total)
+ * 요청마다 COUNT(*)를 돌리지 않도록 조건별로 TTL 동안 재사용하고, 카탈로그 변경 시 비움
+ */
+@Component
+@Slf4j
+public class ApproximateTotalCache {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final LruCache<String, Entry> totals = new LruCache<>(MAX_ENTRIES);
+
+    public long get(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        Entry entry = totals.get(key);
+        if (entry != null && now - entry.countedAt < TTL.toNanos()) {
+            return entry.total;
+        }
+        long total = counter.getAsLong();
+        totals.put(key, new Entry(total, now));
+        return total;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ScholarshipCatalogChangedEvent event) {
+        log.debug("목록 건수 캐시 초기화 - 적중 {}건, 미적중 {}건", totals.getHits(), totals.getMisses());
+        totals.clear();
+    }
+
+    private record Entry(long total, long countedAt) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.yaprj.service.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기 제한 LRU 캐시 (스레드 안전)
+ * 항목 수 대신 항목별 가중치 합으로 제한할 수 있음 (값 크기가 크게 다를 때)
+ */
+public class LruCache<K, V> {
+    
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+    private long hits;
+    private long misses;
+    
+    public LruCache(int maxEntries) {
+        this(maxEntries, value -> 1);
+    }
+    
+    /**
+     * 가중치 합 제한 (한 항목이 제한을 넘으면 저장하지 않음)
+     */
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+    
+    public synchronized V get(K key) {
+        V value = map.get(key);
+        if (value != null) hits++;
+        else misses++;
+        return value;
+    }
+    
+    public synchronized void put(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        V previous = map.remove(key);
+        if (previous != null) totalWeight -= weigher.applyAsLong(previous);
+        if (weight > maxWeight) return;
+        
+        map.put(key, value);
+        totalWeight += weight;
+        // 접근 순서 기준 가장 오래된 항목부터 제거
+        Iterator<Map.Entry<K, V>> eldest = map.entrySet().iterator();
+        while (totalWeight > maxWeight) {
+            totalWeight -= weigher.applyAsLong(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+    
+    /**
+     * 없으면 계산 후 저장 (계산은 락 밖에서 수행)
+     */
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) put(key, value);
+        }
+        return value;
+    }
+    
+    public synchronized void clear() {
+        map.clear();
+        totalWeight = 0;
+    }
+    
+    public synchronized int size() {
+        return map.size();
+    }
+    
+    public synchronized long weight() {
+        return totalWeight;
+    }
+    
+    public synchronized long getHits() {
+        return hits;
+    }
+    
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,265 @@
+package com.yaprj.service.criteria;
+
+import com.yaprj.entity.enums.ScholarshipType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 원문 → 정량 조건 추출기
+ * 키워드 사전은 하나의 오토마톤으로 텍스트(필드 조합)당 1회만 순회하고, 정규식은 클래스 로딩 시 한 번만 컴파일
+ * 결과는 기존 CsvParserService 추출 메서드와 동일 (같은 우선순위/같은 텍스트 조합)
+ */
+public final class CriteriaExtractor {
+
+    private static final KeywordAutomaton KEYWORDS = KeywordAutomaton.build(KeywordGroup.values());
+
+    // 성적: "3.0/4.5", "평점 3.0 이상", "3.0 이상", "B학점 이상", 백분위 "80점 이상"
+    private static final Pattern GPA_OUT_OF_45 = Pattern.compile("([0-9](?:\\.[0-9]{1,2})?)\\s*(?:점)?\\s*/\\s*4\\.5");
+    private static final Pattern GPA_LABELED = Pattern.compile("(?:평점|성적|학점|GPA)\\s*([0-9](?:\\.[0-9]{1,2})?)\\s*(?:점)?\\s*이상");
+    private static final Pattern GPA_DECIMAL = Pattern.compile("([0-9]\\.[0-9]{1,2})\\s*(?:점)?\\s*이상");
+    private static final Pattern GPA_LETTER = Pattern.compile("([ABCD][+\\-]?)\\s*(?:학점)?\\s*이상");
+    private static final Pattern GPA_PERCENT = Pattern.compile("([0-9]{2,3})\\s*(?:점|%)\\s*이상");
+
+    // 소득: "8분위 이하", "1~8분위", "8구간 이하", "8분위"
+    private static final Pattern INCOME_LEVEL_OR_BELOW = Pattern.compile("([0-9]{1,2})\\s*분위\\s*이하");
+    private static final Pattern INCOME_RANGE = Pattern.compile("[1-9]\\s*[~\\-]\\s*([0-9]{1,2})\\s*분위");
+    private static final Pattern INCOME_BRACKET_OR_BELOW = Pattern.compile("([0-9]{1,2})\\s*구간\\s*이하");
+    private static final Pattern INCOME_LEVEL = Pattern.compile("([0-9])\\s*분위");
+    private static final Pattern[] INCOME_PATTERNS = {
+            INCOME_LEVEL_OR_BELOW, INCOME_RANGE, INCOME_BRACKET_OR_BELOW, INCOME_LEVEL
+    };
+
+    // 학년: "1~4학년", "2학년"
+    private static final Pattern GRADE_RANGE = Pattern.compile("([1-6])\\s*[~\\-]\\s*([1-6])\\s*학년");
+    private static final Pattern GRADE_SINGLE = Pattern.compile("([1-6])\\s*학년");
+
+    private static final BigDecimal FIVE = new BigDecimal("5");
+
+    private static final Map<String, BigDecimal> LETTER_GRADES = Map.ofEntries(
+            Map.entry("A+", new BigDecimal("4.5")),
+            Map.entry("A", new BigDecimal("4.0")),
+            Map.entry("A-", new BigDecimal("3.7")),
+            Map.entry("B+", new BigDecimal("3.3")),
+            Map.entry("B", new BigDecimal("3.0")),
+            Map.entry("B-", new BigDecimal("2.7")),
+            Map.entry("C+", new BigDecimal("2.3")),
+            Map.entry("C", new BigDecimal("2.0")),
+            Map.entry("C-", new BigDecimal("1.7")),
+            Map.entry("D+", new BigDecimal("1.3")),
+            Map.entry("D", new BigDecimal("1.0"))
+    );
+
+    private CriteriaExtractor() {
+    }
+
+    /**
+     * 텍스트 1회 순회로 모든 키워드 그룹 적중 여부 확인
+     */
+    public static KeywordHits scan(String text) {
+        return KEYWORDS.scan(text);
+    }
+
+    /**
+     * 성적 기준에서 최소 GPA 추출 (4.5 만점 기준)
+     */
+    public static BigDecimal extractMinGpa(String text) {
+        if (text == null || text.isEmpty()) return null;
+
+        // "제한없음", "무관" 등은 null
+        if (scan(text).has(KeywordGroup.GPA_NO_LIMIT)) {
+            return null;
+        }
+
+        Matcher m1 = GPA_OUT_OF_45.matcher(text);
+        if (m1.find()) {
+            return new BigDecimal(m1.group(1));
+        }
+
+        Matcher m2 = GPA_LABELED.matcher(text);
+        if (m2.find()) {
+            return new BigDecimal(m2.group(1));
+        }
+
+        Matcher m3 = GPA_DECIMAL.matcher(text);
+        if (m3.find()) {
+            BigDecimal value = new BigDecimal(m3.group(1));
+            if (value.compareTo(FIVE) <= 0) {
+                return value;
+            }
+        }
+
+        Matcher m4 = GPA_LETTER.matcher(text.toUpperCase());
+        if (m4.find()) {
+            return LETTER_GRADES.get(m4.group(1));
+        }
+
+        Matcher m5 = GPA_PERCENT.matcher(text);
+        if (m5.find()) {
+            int percent = Integer.parseInt(m5.group(1));
+            if (percent >= 60 && percent <= 100) {
+                // 60점 = 2.0, 100점 = 4.5 선형 환산
+                return new BigDecimal(percent - 60)
+                        .multiply(new BigDecimal("2.5"))
+                        .divide(new BigDecimal("40"), 2, RoundingMode.HALF_UP)
+                        .add(new BigDecimal("2.0"));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 소득 기준에서 최대 소득분위 추출
+     */
+    public static Integer extractMaxIncomeLevel(String text) {
+        if (text == null || text.isEmpty()) return null;
+
+        KeywordHits hits = scan(text);
+        // "제한없음", "무관" 등은 null (제한 없음)
+        if (hits.has(KeywordGroup.INCOME_NO_LIMIT)) {
+            return null;
+        }
+        // "기초생활수급자", "차상위계층" → 2분위
+        if (hits.has(KeywordGroup.INCOME_LOW)) {
+            return 2;
+        }
+
+        for (Pattern pattern : INCOME_PATTERNS) {
+            Matcher m = pattern.matcher(text);
+            if (m.find()) {
+                int level = Integer.parseInt(m.group(1));
+                if (level >= 1 && level <= 10) return level;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 학적 상태 추출 (재학, 입학예정, 휴학)
+     */
+    public static String extractAcademicStatus(String universityCategory, String specialQualification,
+                                               String eligibilityRestriction) {
+        String combined = combineTexts(universityCategory, specialQualification, eligibilityRestriction);
+        if (combined.isEmpty()) return null;
+
+        KeywordHits hits = scan(combined);
+        Set<String> statuses = new LinkedHashSet<>();
+        if (hits.has(KeywordGroup.STATUS_ENROLLED)) statuses.add("enrolled");
+        if (hits.has(KeywordGroup.STATUS_EXPECTED)) statuses.add("expected");
+        if (hits.has(KeywordGroup.STATUS_LEAVE)) statuses.add("leave");
+
+        return statuses.isEmpty() ? null : String.join(",", statuses);
+    }
+
+    /**
+     * 허용 학년 추출
+     */
+    public static String extractGrades(String gradeSemester, String eligibilityRestriction) {
+        String combined = combineTexts(gradeSemester, eligibilityRestriction);
+        if (combined.isEmpty()) return null;
+
+        KeywordHits hits = scan(combined);
+        // "전학년", "제한없음" → null (제한 없음)
+        if (hits.has(KeywordGroup.GRADE_ALL)) {
+            return null;
+        }
+
+        Set<Integer> grades = new TreeSet<>();
+
+        Matcher rangeMatcher = GRADE_RANGE.matcher(combined);
+        if (rangeMatcher.find()) {
+            int start = Integer.parseInt(rangeMatcher.group(1));
+            int end = Integer.parseInt(rangeMatcher.group(2));
+            for (int i = start; i <= end; i++) {
+                grades.add(i);
+            }
+        }
+
+        Matcher singleMatcher = GRADE_SINGLE.matcher(combined);
+        while (singleMatcher.find()) {
+            grades.add(Integer.parseInt(singleMatcher.group(1)));
+        }
+
+        // "신입생" → 1학년
+        if (hits.has(KeywordGroup.GRADE_FRESHMAN)) {
+            grades.add(1);
+        }
+
+        return grades.isEmpty() ? null : grades.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 대학 유형 추출
+     */
+    public static String extractUniversityTypes(String universityCategory) {
+        if (universityCategory == null || universityCategory.isEmpty()) return null;
+
+        KeywordHits hits = scan(universityCategory);
+        Set<String> types = new LinkedHashSet<>();
+        if (hits.has(KeywordGroup.UNIVERSITY_FOUR_YEAR)) types.add("4년제");
+        if (hits.has(KeywordGroup.UNIVERSITY_JUNIOR)) types.add("전문대");
+        if (hits.has(KeywordGroup.UNIVERSITY_GRADUATE)) types.add("대학원");
+        if (hits.has(KeywordGroup.UNIVERSITY_REMOTE)) types.add("원격대학");
+
+        return types.isEmpty() ? null : String.join(",", types);
+    }
+
+    /**
+     * 지역 제한 추출
+     */
+    public static String extractRegionLimit(String residencyDetail) {
+        if (residencyDetail == null || residencyDetail.isEmpty()) return null;
+
+        KeywordHits hits = scan(residencyDetail);
+        // "전국", "제한없음" → null
+        if (hits.has(KeywordGroup.REGION_NATIONWIDE)) {
+            return null;
+        }
+
+        StringJoiner regions = new StringJoiner(",");
+        for (KeywordGroup region : KeywordGroup.REGIONS) {
+            if (hits.has(region)) {
+                regions.add(region.label());
+            }
+        }
+        return regions.length() == 0 ? null : regions.toString();
+    }
+
+    /**
+     * 장학금 유형 판별 (앞 순서 우선)
+     */
+    public static ScholarshipType detectScholarshipType(String name, String financialAidType, String organization,
+                                                        String productType) {
+        KeywordHits hits = scan(combineTexts(name, financialAidType, organization, productType));
+
+        if (hits.has(KeywordGroup.TYPE_NATIONAL)) return ScholarshipType.NATIONAL;
+        if (hits.has(KeywordGroup.TYPE_WORK_STUDY)) return ScholarshipType.WORK_STUDY;
+        if (hits.has(KeywordGroup.TYPE_TUITION_LOAN)) return ScholarshipType.TUITION_LOAN;
+        if (hits.has(KeywordGroup.TYPE_LIVING_LOAN)) return ScholarshipType.LIVING_LOAN;
+        if (hits.has(KeywordGroup.TYPE_LOCAL)) return ScholarshipType.LOCAL;
+        if (hits.has(KeywordGroup.TYPE_UNIVERSITY)) return ScholarshipType.UNIVERSITY;
+        if (hits.has(KeywordGroup.TYPE_PRIVATE)) return ScholarshipType.PRIVATE;
+
+        return ScholarshipType.OTHER;
+    }
+
+    /**
+     * 여러 텍스트 합치기 (공백 구분)
+     */
+    public static String combineTexts(String... texts) {
+        StringBuilder sb = new StringBuilder();
+        for (String text : texts) {
+            if (text != null && !text.isEmpty()) {
+                sb.append(text).append(" ");
+            }
+        }
+        return sb.toString().trim();
+    }
+}
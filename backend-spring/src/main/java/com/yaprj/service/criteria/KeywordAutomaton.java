@@ -0,0 +1,120 @@
+package com.yaprj.service.criteria;
+
+import java.util.*;
+
+/**
+ * 키워드 사전 전체를 합친 Aho-Corasick 오토마톤
+ * 텍스트를 한 번 순회하면서 적중한 모든 키워드 그룹을 비트마스크(KeywordGroup.ordinal)로 모음
+ * 구성 후에는 불변이라 여러 스레드에서 공유 가능
+ */
+final class KeywordAutomaton {
+
+    // 상태별 전이 (문자 오름차순 정렬 → 이진 탐색)
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    // 상태 도달 시 적중하는 그룹 (실패 링크를 따라 접미사 키워드까지 합친 값)
+    private final long[] output;
+
+    private KeywordAutomaton(char[][] labels, int[][] targets, int[] fail, long[] output) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.output = output;
+    }
+
+    static KeywordAutomaton build(KeywordGroup[] groups) {
+        if (groups.length > Long.SIZE) {
+            throw new IllegalArgumentException("키워드 그룹은 최대 " + Long.SIZE + "개까지 지원합니다.");
+        }
+
+        // 1. 트라이 (키워드는 containsAny와 같이 소문자로 비교)
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Long> out = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        out.add(0L);
+        for (KeywordGroup group : groups) {
+            for (String keyword : group.keywords()) {
+                int state = 0;
+                for (char c : keyword.toLowerCase().toCharArray()) {
+                    Integer next = trie.get(state).get(c);
+                    if (next == null) {
+                        next = trie.size();
+                        trie.get(state).put(c, next);
+                        trie.add(new TreeMap<>());
+                        out.add(0L);
+                    }
+                    state = next;
+                }
+                out.set(state, out.get(state) | group.bit());
+            }
+        }
+
+        int size = trie.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            labels[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i++] = edge.getValue();
+            }
+        }
+
+        // 2. 실패 링크 (BFS 순서로 계산하면 부모 쪽 링크가 항상 먼저 완성됨)
+        int[] fail = new int[size];
+        long[] output = new long[size];
+        for (int state = 0; state < size; state++) {
+            output[state] = out.get(state);
+        }
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        KeywordAutomaton automaton = new KeywordAutomaton(labels, targets, fail, output);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                int f = fail[state];
+                int next;
+                while ((next = automaton.step(f, labels[state][i])) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = next < 0 || next == child ? 0 : next;
+                output[child] |= output[fail[child]];
+                queue.add(child);
+            }
+        }
+        return automaton;
+    }
+
+    /**
+     * 텍스트 1회 순회 → 적중한 그룹 전체
+     */
+    KeywordHits scan(String text) {
+        if (text == null || text.isEmpty()) return KeywordHits.NONE;
+
+        String lower = text.toLowerCase();
+        long hits = 0L;
+        int state = 0;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            int next;
+            while ((next = step(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next < 0 ? 0 : next;
+            hits |= output[state];
+        }
+        return new KeywordHits(hits);
+    }
+
+    private int step(int state, char c) {
+        int k = Arrays.binarySearch(labels[state], c);
+        return k < 0 ? -1 : targets[state][k];
+    }
+}
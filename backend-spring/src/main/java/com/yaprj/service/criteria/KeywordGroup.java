@@ -0,0 +1,89 @@
+package com.yaprj.service.criteria;
+
+/**
+ * 조건 추출 키워드 사전
+ * 그룹 하나가 기존 containsAny(...) 호출 하나에 해당 (키워드 중 하나라도 포함되면 적중)
+ * 모든 그룹이 하나의 Aho-Corasick 오토마톤으로 합쳐져 텍스트 1회 순회로 판정됨
+ */
+public enum KeywordGroup {
+
+    // ===== CSV 적재 시 추출 =====
+
+    GPA_NO_LIMIT("제한없음", "제한 없음", "무관", "해당없음", "해당 없음"),
+    INCOME_NO_LIMIT("제한없음", "제한 없음", "무관", "해당없음", "해당 없음", "소득무관"),
+    INCOME_LOW("기초생활", "차상위"),
+
+    STATUS_ENROLLED("재학", "재학생", "재학 중"),
+    STATUS_EXPECTED("신입생", "입학예정", "입학 예정", "예비", "합격자", "신입"),
+    STATUS_LEAVE("휴학", "휴학생"),
+
+    GRADE_ALL("전학년", "전 학년", "제한없음", "제한 없음", "무관"),
+    GRADE_FRESHMAN("신입생", "신입", "입학예정"),
+
+    UNIVERSITY_FOUR_YEAR("4년제", "4년", "대학교"),
+    UNIVERSITY_JUNIOR("전문대", "2년제", "2,3년제", "2년", "3년"),
+    UNIVERSITY_GRADUATE("대학원", "석사", "박사"),
+    UNIVERSITY_REMOTE("사이버", "방송통신", "원격"),
+
+    REGION_NATIONWIDE("전국", "제한없음", "제한 없음", "무관"),
+    REGION_SEOUL("서울"),
+    REGION_BUSAN("부산"),
+    REGION_DAEGU("대구"),
+    REGION_INCHEON("인천"),
+    REGION_GWANGJU("광주"),
+    REGION_DAEJEON("대전"),
+    REGION_ULSAN("울산"),
+    REGION_SEJONG("세종"),
+    REGION_GYEONGGI("경기"),
+    REGION_GANGWON("강원"),
+    REGION_CHUNGBUK("충북"),
+    REGION_CHUNGNAM("충남"),
+    REGION_JEONBUK("전북"),
+    REGION_JEONNAM("전남"),
+    REGION_GYEONGBUK("경북"),
+    REGION_GYEONGNAM("경남"),
+    REGION_JEJU("제주"),
+
+    TYPE_NATIONAL("국가장학", "한국장학재단"),
+    TYPE_WORK_STUDY("근로장학", "교내근로", "근로"),
+    TYPE_TUITION_LOAN("등록금대출", "학자금대출", "취업후상환", "icl"),
+    TYPE_LIVING_LOAN("생활비대출", "생활비"),
+    TYPE_LOCAL("지자체", "시청", "군청", "구청", "도청"),
+    TYPE_UNIVERSITY("교내", "대학교", "학교"),
+    TYPE_PRIVATE("기업", "재단", "민간", "장학회"),
+
+    // ===== 판정 규칙 컴파일 시 (원문만 있는 조건의 확인 필요 여부) =====
+
+    RULE_STATUS_HINT("재학", "신입", "휴학", "입학"),
+    RULE_GRADE_ALL("전학년", "제한없음", "무관"),
+    RULE_NO_LIMIT("제한없음", "무관", "해당없음"),
+    RULE_INCOME_NO_LIMIT("제한없음", "무관", "해당없음", "소득무관"),
+    RULE_REGION_NATIONWIDE("전국", "제한없음", "무관");
+
+    static final KeywordGroup[] REGIONS = {
+            REGION_SEOUL, REGION_BUSAN, REGION_DAEGU, REGION_INCHEON, REGION_GWANGJU, REGION_DAEJEON,
+            REGION_ULSAN, REGION_SEJONG, REGION_GYEONGGI, REGION_GANGWON, REGION_CHUNGBUK, REGION_CHUNGNAM,
+            REGION_JEONBUK, REGION_JEONNAM, REGION_GYEONGBUK, REGION_GYEONGNAM, REGION_JEJU
+    };
+
+    private final String[] keywords;
+
+    KeywordGroup(String... keywords) {
+        this.keywords = keywords;
+    }
+
+    String[] keywords() {
+        return keywords;
+    }
+
+    /**
+     * 지역 그룹의 표시 이름 (키워드 1개)
+     */
+    String label() {
+        return keywords[0];
+    }
+
+    long bit() {
+        return 1L << ordinal();
+    }
+}
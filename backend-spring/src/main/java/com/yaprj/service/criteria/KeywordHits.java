@@ -0,0 +1,13 @@
+package com.yaprj.service.criteria;
+
+/**
+ * 텍스트 1건에서 적중한 키워드 그룹 집합
+ */
+public record KeywordHits(long mask) {
+
+    static final KeywordHits NONE = new KeywordHits(0L);
+
+    public boolean has(KeywordGroup group) {
+        return (mask & group.bit()) != 0;
+    }
+}
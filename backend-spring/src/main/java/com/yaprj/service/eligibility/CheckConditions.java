@@ -0,0 +1,54 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.entity.enums.AcademicStatus;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 정규화된 사용자 조건 (판정에 필요한 값만 원시 타입으로 보관)
+ */
+@Getter
+public final class CheckConditions {
+
+    private final AcademicStatus academicStatus;
+    private final int grade;
+    private final int gpaHundredths;   // GPA × 100 (소수 셋째 자리 이하 버림)
+    private final int incomeLevel;
+
+    public CheckConditions(AcademicStatus academicStatus, int grade, int gpaHundredths, int incomeLevel) {
+        this.academicStatus = academicStatus;
+        this.grade = grade;
+        this.gpaHundredths = gpaHundredths;
+        this.incomeLevel = incomeLevel;
+    }
+
+    public static CheckConditions from(ScholarshipCheckRequest request) {
+        return new CheckConditions(
+                request.getAcademicStatus(),
+                request.getGrade(),
+                toHundredths(request.getGpa(), RoundingMode.FLOOR),
+                request.getIncomeLevel());
+    }
+
+    /**
+     * BigDecimal → 정수 1/100 단위 변환
+     * 기준값(소수 둘째 자리)과의 대소 비교 결과는 변환 전과 동일
+     */
+    static int toHundredths(BigDecimal value, RoundingMode mode) {
+        return value.movePointRight(2).setScale(0, mode).intValue();
+    }
+
+    /**
+     * 판정 결과를 구분하는 조건 키 (학적|학년|GPA×100|소득분위)
+     */
+    public String key() {
+        return academicStatus + "|" + grade + "|" + gpaHundredths + "|" + incomeLevel;
+    }
+
+    public BigDecimal getGpa() {
+        return BigDecimal.valueOf(gpaHundredths, 2);
+    }
+}
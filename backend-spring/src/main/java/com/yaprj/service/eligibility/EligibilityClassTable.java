@@ -0,0 +1,110 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.entity.enums.AcademicStatus;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 전체 조건 공간의 동치류별 판정 결과 사전 계산 테이블
+ * 조건 공간(학적상태 × 학년 × GPA 구간 × 소득 구간)을 열거하고,
+ * 결과가 같은 동치류끼리는 하나의 판정 결과를 공유
+ */
+final class EligibilityClassTable {
+
+    private final EligibilityIndex index;
+    private final EligibilityClassification[] classes;
+    private final int distinctCount;
+
+    private EligibilityClassTable(EligibilityIndex index, EligibilityClassification[] classes, int distinctCount) {
+        this.index = index;
+        this.classes = classes;
+        this.distinctCount = distinctCount;
+    }
+
+    /**
+     * 동치류 테이블 생성 (공유 결과의 총 크기가 maxCells를 넘으면 null)
+     */
+    static EligibilityClassTable build(EligibilityIndex index, long maxCells) {
+        int statuses = AcademicStatus.values().length;
+        int gpaClasses = index.gpaClassCount();
+        int incomeClasses = index.incomeClassCount();
+        EligibilityClassification[] classes =
+                new EligibilityClassification[statuses * EligibilityIndex.MAX_GRADE * gpaClasses * incomeClasses];
+
+        Map<ResultKey, EligibilityClassification> distinct = new HashMap<>();
+        long cells = 0;
+        for (int st = 0; st < statuses; st++) {
+            for (int grade = 1; grade <= EligibilityIndex.MAX_GRADE; grade++) {
+                for (int g = 0; g < gpaClasses; g++) {
+                    for (int in = 0; in < incomeClasses; in++) {
+                        EligibilityClassification computed = index.classify(st, grade, g - 1, in);
+                        ResultKey key = new ResultKey(computed);
+                        EligibilityClassification shared = distinct.get(key);
+                        if (shared == null) {
+                            cells += computed.size();
+                            if (cells > maxCells) return null;
+                            distinct.put(key, computed);
+                            shared = computed;
+                        }
+                        classes[classId(st, grade, g, in, gpaClasses, incomeClasses)] = shared;
+                    }
+                }
+            }
+        }
+        return new EligibilityClassTable(index, classes, distinct.size());
+    }
+
+    /**
+     * 사용자 조건의 동치류 결과 (이진 탐색 2회 + 배열 조회)
+     */
+    EligibilityClassification get(CheckConditions c) {
+        int grade = c.getGrade();
+        if (grade < 1 || grade > EligibilityIndex.MAX_GRADE) {
+            return index.classify(c);
+        }
+        int g = index.gpaClass(c.getGpaHundredths()) + 1;
+        int in = index.incomeClass(c.getIncomeLevel());
+        return classes[classId(c.getAcademicStatus().ordinal(), grade, g, in,
+                index.gpaClassCount(), index.incomeClassCount())];
+    }
+
+    int classCount() {
+        return classes.length;
+    }
+
+    int distinctCount() {
+        return distinctCount;
+    }
+
+    private static int classId(int status, int grade, int gpaClass, int incomeClass, int gpaClasses, int incomeClasses) {
+        return ((status * EligibilityIndex.MAX_GRADE + (grade - 1)) * gpaClasses + gpaClass) * incomeClasses + incomeClass;
+    }
+
+    /**
+     * 판정 결과 동등성 비교용 키
+     */
+    private static final class ResultKey {
+        private final EligibilityClassification value;
+        private final int hash;
+
+        ResultKey(EligibilityClassification value) {
+            this.value = value;
+            this.hash = 31 * Arrays.hashCode(value.getOrder()) + value.getEligibleCount() * 17 + value.getUnknownCount();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ResultKey other)) return false;
+            return value.getEligibleCount() == other.value.getEligibleCount()
+                    && value.getUnknownCount() == other.value.getUnknownCount()
+                    && Arrays.equals(value.getOrder(), other.value.getOrder());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.yaprj.service.eligibility;
+
+import lombok.Getter;
+
+/**
+ * 전체 카탈로그 판정 결과
+ * order는 스냅샷 내 위치를 적격 → 확인필요 → 부적격 순으로 나열 (각 그룹 내부는 카탈로그 순서 유지)
+ */
+@Getter
+public final class EligibilityClassification {
+
+    private final int[] order;
+    private final int eligibleCount;
+    private final int unknownCount;
+    private final int notEligibleCount;
+
+    public EligibilityClassification(int[] order, int eligibleCount, int unknownCount, int notEligibleCount) {
+        this.order = order;
+        this.eligibleCount = eligibleCount;
+        this.unknownCount = unknownCount;
+        this.notEligibleCount = notEligibleCount;
+    }
+
+    /**
+     * 위치별 판정값 → 분류 결과 (저장된 결과와 재판정 결과를 병합할 때 사용)
+     */
+    public static EligibilityClassification fromVerdicts(int[] verdicts) {
+        int eligibleCount = 0;
+        int unknownCount = 0;
+        for (int verdict : verdicts) {
+            if (verdict == EligibilityRule.ELIGIBLE) eligibleCount++;
+            else if (verdict == EligibilityRule.UNKNOWN) unknownCount++;
+        }
+
+        int[] order = new int[verdicts.length];
+        int eligiblePos = 0;
+        int unknownPos = eligibleCount;
+        int notEligiblePos = eligibleCount + unknownCount;
+        for (int i = 0; i < verdicts.length; i++) {
+            if (verdicts[i] == EligibilityRule.ELIGIBLE) order[eligiblePos++] = i;
+            else if (verdicts[i] == EligibilityRule.UNKNOWN) order[unknownPos++] = i;
+            else order[notEligiblePos++] = i;
+        }
+        return new EligibilityClassification(order, eligibleCount, unknownCount,
+                verdicts.length - eligibleCount - unknownCount);
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * order 상의 i번째 결과의 판정값
+     */
+    public int verdictAt(int i) {
+        if (i < eligibleCount) return EligibilityRule.ELIGIBLE;
+        if (i < eligibleCount + unknownCount) return EligibilityRule.UNKNOWN;
+        return EligibilityRule.NOT_ELIGIBLE;
+    }
+}
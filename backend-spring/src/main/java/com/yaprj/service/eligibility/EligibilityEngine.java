@@ -0,0 +1,103 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.entity.Scholarship;
+import com.yaprj.event.ScholarshipCatalogChangedEvent;
+import com.yaprj.repository.ScholarshipRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자격 판정 엔진
+ * 활성 장학금을 판정 규칙으로 컴파일한 스냅샷을 메모리에 유지하고, 카탈로그 변경 시에만 재생성
+ * 재생성 후에는 백그라운드에서 전체 조건 공간의 동치류 결과를 사전 계산
+ */
+@Component
+@Slf4j
+public class EligibilityEngine {
+    
+    private final ScholarshipRepository scholarshipRepository;
+    private final TaskExecutor taskExecutor;
+    private final long classTableMaxCells;
+    
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+    private volatile EligibilitySnapshot snapshot;
+    
+    public EligibilityEngine(ScholarshipRepository scholarshipRepository,
+                             TaskExecutor taskExecutor,
+                             @Value("${app.eligibility.class-table.max-cells:10000000}") long classTableMaxCells) {
+        this.scholarshipRepository = scholarshipRepository;
+        this.taskExecutor = taskExecutor;
+        this.classTableMaxCells = classTableMaxCells;
+    }
+    
+    /**
+     * 현재 카탈로그 버전의 스냅샷 (변경이 있었으면 재생성)
+     */
+    public EligibilitySnapshot current() {
+        EligibilitySnapshot s = snapshot;
+        if (s != null && s.getVersion() == catalogVersion.get()) {
+            return s;
+        }
+        synchronized (this) {
+            s = snapshot;
+            long version = catalogVersion.get();
+            if (s == null || s.getVersion() != version) {
+                s = rebuild(version);
+                snapshot = s;
+            }
+            return s;
+        }
+    }
+    
+    /**
+     * 카탈로그 변경 커밋 후 버전 증가 → 백그라운드에서 스냅샷 재생성 및 동치류 사전 계산
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ScholarshipCatalogChangedEvent event) {
+        long version = catalogVersion.incrementAndGet();
+        log.debug("카탈로그 변경 감지 ({}) - 버전 {}", event.getReason(), version);
+        taskExecutor.execute(this::warmUp);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::warmUp);
+    }
+    
+    /**
+     * 최신 스냅샷 준비 + 동치류 테이블 사전 계산
+     */
+    void warmUp() {
+        try {
+            EligibilitySnapshot s = current();
+            long started = System.currentTimeMillis();
+            if (s.precomputeClasses(classTableMaxCells)) {
+                log.info("동치류 사전 계산 완료 - 버전 {}, 동치류 {}개 → 고유 결과 {}개, {}ms",
+                        s.getVersion(), s.classCount(), s.distinctClassCount(), System.currentTimeMillis() - started);
+            } else {
+                log.warn("동치류 결과가 메모리 한도({}셀)를 초과하여 비트셋 연산으로 응답", classTableMaxCells);
+            }
+        } catch (Exception e) {
+            log.warn("자격 판정 스냅샷 준비 실패: {}", e.getMessage());
+        }
+    }
+    
+    private EligibilitySnapshot rebuild(long version) {
+        long started = System.currentTimeMillis();
+        LocalDateTime loadedAt = LocalDateTime.now();
+        List<Scholarship> scholarships = scholarshipRepository.findByIsActiveTrueOrderByIsFeaturedDescUpdatedAtDesc();
+        EligibilitySnapshot built = EligibilitySnapshot.build(version, loadedAt, scholarships);
+        log.info("자격 판정 스냅샷 생성 - 버전 {}, {}건, {}ms",
+                version, built.size(), System.currentTimeMillis() - started);
+        return built;
+    }
+}
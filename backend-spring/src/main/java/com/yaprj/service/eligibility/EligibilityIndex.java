@@ -0,0 +1,206 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.entity.enums.AcademicStatus;
+
+import java.util.Arrays;
+
+import static com.yaprj.service.eligibility.EligibilityRule.*;
+
+/**
+ * 조건별 비트셋 인덱스
+ * 학적상태/학년별 허용 비트셋과 GPA·소득분위 기준값 누적 비트셋으로
+ * 적격/부적격/확인필요 집합을 워드 단위 AND/ANDNOT 연산으로 계산
+ */
+final class EligibilityIndex {
+
+    static final int MAX_GRADE = 6;
+
+    private final int size;
+    private final int words;
+
+    private final long[] statusSet;
+    private final long[][] statusAllows;   // [AcademicStatus ordinal]
+    private final long[] gradeSet;
+    private final long[][] gradeAllows;    // [1..6]
+
+    private final long[] gpaSet;
+    private final int[] gpaThresholds;     // 오름차순 고유 최소 GPA (1/100 단위)
+    private final long[][] gpaPass;        // [k] = 최소 GPA ≤ gpaThresholds[k] 인 행
+    private final long[] incomeSet;
+    private final int[] incomeThresholds;  // 오름차순 고유 최대 소득분위
+    private final long[][] incomePass;     // [k] = 최대 소득분위 ≥ incomeThresholds[k] 인 행
+
+    private final long[] noLimit;          // 원본 텍스트상 성적/소득 제한 없음 (그 자체로 충족)
+
+    EligibilityIndex(EligibilityRule[] rules) {
+        this.size = rules.length;
+        this.words = (size + 63) >>> 6;
+
+        statusSet = new long[words];
+        statusAllows = new long[AcademicStatus.values().length][words];
+        gradeSet = new long[words];
+        gradeAllows = new long[MAX_GRADE + 1][words];
+        gpaSet = new long[words];
+        incomeSet = new long[words];
+        noLimit = new long[words];
+
+        for (int i = 0; i < size; i++) {
+            EligibilityRule rule = rules[i];
+            int flags = rule.getFlags();
+            if ((flags & STATUS_SET) != 0) {
+                set(statusSet, i);
+                for (int st = 0; st < statusAllows.length; st++) {
+                    if ((rule.getStatusMask() & (1 << st)) != 0) set(statusAllows[st], i);
+                }
+            }
+            if ((flags & GRADE_SET) != 0) {
+                set(gradeSet, i);
+                for (int g = 1; g <= MAX_GRADE; g++) {
+                    if ((rule.getGradeMask() & (1 << g)) != 0) set(gradeAllows[g], i);
+                }
+            }
+            if ((flags & GPA_SET) != 0) set(gpaSet, i);
+            if ((flags & INCOME_SET) != 0) set(incomeSet, i);
+            if ((flags & (GPA_NO_LIMIT | INCOME_NO_LIMIT)) != 0) set(noLimit, i);
+        }
+
+        // GPA: 기준값 오름차순 누적 (기준이 낮을수록 더 많은 사용자가 충족)
+        gpaThresholds = distinct(rules, GPA_SET, true);
+        gpaPass = bucket(rules, GPA_SET, true, gpaThresholds);
+        for (int k = 1; k < gpaPass.length; k++) {
+            or(gpaPass[k], gpaPass[k - 1]);
+        }
+
+        // 소득분위: 기준값 내림차순 누적 (최대 분위가 높을수록 더 많은 사용자가 충족)
+        incomeThresholds = distinct(rules, INCOME_SET, false);
+        incomePass = bucket(rules, INCOME_SET, false, incomeThresholds);
+        for (int k = incomePass.length - 2; k >= 0; k--) {
+            or(incomePass[k], incomePass[k + 1]);
+        }
+    }
+
+    /**
+     * 집합 연산으로 전체 판정
+     */
+    EligibilityClassification classify(CheckConditions c) {
+        return classify(c.getAcademicStatus().ordinal(), c.getGrade(),
+                gpaClass(c.getGpaHundredths()), incomeClass(c.getIncomeLevel()));
+    }
+
+    /**
+     * 동치류(학적상태, 학년, GPA 구간, 소득 구간) 단위 판정
+     * 같은 동치류에 속하는 조건은 모두 동일한 결과를 가짐
+     */
+    EligibilityClassification classify(int statusOrdinal, int grade, int gpaClass, int incomeClass) {
+        long[] allowsStatus = statusAllows[statusOrdinal];
+        long[] allowsGrade = grade >= 1 && grade <= MAX_GRADE ? gradeAllows[grade] : null;
+        long[] passGpa = gpaClass >= 0 ? gpaPass[gpaClass] : null;
+        long[] passIncome = incomeClass < incomePass.length ? incomePass[incomeClass] : null;
+
+        long[] eligible = new long[words];
+        long[] unknown = new long[words];
+        long[] notEligible = new long[words];
+        int eligibleCount = 0;
+        int unknownCount = 0;
+
+        for (int w = 0; w < words; w++) {
+            long statusBits = allowsStatus[w];
+            long gradeBits = allowsGrade != null ? allowsGrade[w] : 0L;
+            long gpaBits = passGpa != null ? passGpa[w] : 0L;
+            long incomeBits = passIncome != null ? passIncome[w] : 0L;
+
+            long fail = (statusSet[w] & ~statusBits) | (gradeSet[w] & ~gradeBits)
+                    | (gpaSet[w] & ~gpaBits) | (incomeSet[w] & ~incomeBits);
+            long pass = statusBits | gradeBits | gpaBits | incomeBits | noLimit[w];
+
+            eligible[w] = pass & ~fail;
+            unknown[w] = ~(pass | fail) & liveMask(w);
+            notEligible[w] = fail;
+            eligibleCount += Long.bitCount(eligible[w]);
+            unknownCount += Long.bitCount(unknown[w]);
+        }
+
+        int[] order = new int[size];
+        int pos = drain(eligible, order, 0);
+        pos = drain(unknown, order, pos);
+        drain(notEligible, order, pos);
+        return new EligibilityClassification(order, eligibleCount, unknownCount, size - eligibleCount - unknownCount);
+    }
+
+    /**
+     * GPA 구간 번호: 사용자 GPA 이하인 가장 큰 기준값의 위치 (-1이면 모든 기준 미달)
+     */
+    int gpaClass(int gpaHundredths) {
+        int k = Arrays.binarySearch(gpaThresholds, gpaHundredths);
+        return k >= 0 ? k : -k - 2;
+    }
+
+    /**
+     * 소득 구간 번호: 사용자 분위 이상인 가장 작은 기준값의 위치 (기준 개수와 같으면 모든 기준 초과)
+     */
+    int incomeClass(int incomeLevel) {
+        int k = Arrays.binarySearch(incomeThresholds, incomeLevel);
+        return k >= 0 ? k : -k - 1;
+    }
+
+    int gpaClassCount() {
+        return gpaThresholds.length + 1;
+    }
+
+    int incomeClassCount() {
+        return incomeThresholds.length + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private long liveMask(int w) {
+        int remaining = size - (w << 6);
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+
+    private static int drain(long[] bits, int[] order, int pos) {
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                order[pos++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return pos;
+    }
+
+    private static int[] distinct(EligibilityRule[] rules, int flag, boolean gpa) {
+        return Arrays.stream(rules)
+                .filter(r -> (r.getFlags() & flag) != 0)
+                .mapToInt(r -> gpa ? r.getMinGpaHundredths() : r.getMaxIncome())
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * 기준값별로 해당 값을 가진 행의 비트셋 생성
+     */
+    private long[][] bucket(EligibilityRule[] rules, int flag, boolean gpa, int[] thresholds) {
+        long[][] buckets = new long[thresholds.length][words];
+        for (int i = 0; i < size; i++) {
+            EligibilityRule r = rules[i];
+            if ((r.getFlags() & flag) == 0) continue;
+            int k = Arrays.binarySearch(thresholds, gpa ? r.getMinGpaHundredths() : r.getMaxIncome());
+            set(buckets[k], i);
+        }
+        return buckets;
+    }
+
+    private static void or(long[] target, long[] other) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] |= other[w];
+        }
+    }
+
+    private static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+}
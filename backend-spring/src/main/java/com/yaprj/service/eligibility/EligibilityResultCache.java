@@ -0,0 +1,129 @@
+package com.yaprj.service.eligibility;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yaprj.dto.response.ScholarshipCheckResponse.CheckSummary;
+import com.yaprj.dto.response.ScholarshipCheckResponse.ScholarshipMatchResult;
+import com.yaprj.event.ScholarshipCatalogChangedEvent;
+import com.yaprj.service.cache.LruCache;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 자격 확인 결과 캐시 (1차: 프로세스 내 LRU, 2차: Redis 선택)
+ * 키 = 정규화된 사용자 조건 + 카탈로그 지문 → 카탈로그가 바뀌면 이전 키는 자연히 무효화
+ * 항목마다 카탈로그 전체 결과를 담으므로 LRU는 항목 수가 아니라 캐시된 결과 행 수 합계로 제한
+ */
+@Component
+@Slf4j
+public class EligibilityResultCache {
+
+    private static final String REDIS_PREFIX = "yaprj:eligibility:";
+
+    private final LruCache<String, CachedCheck> local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    // 근거의 user/required(Object)는 소수를 BigDecimal로 읽어야 원본과 같음 (기본은 Double → 3.00이 3.0으로 바뀜)
+    private final ObjectReader cachedReader;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+
+    public EligibilityResultCache(StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${app.eligibility.cache.max-rows:200000}") long maxRows,
+                                  @Value("${app.eligibility.cache.redis-enabled:false}") boolean redisEnabled,
+                                  @Value("${app.eligibility.cache.redis-ttl:1h}") Duration redisTtl) {
+        this.local = new LruCache<>(maxRows, EligibilityResultCache::rows);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cachedReader = objectMapper.readerFor(CachedCheck.class)
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+    }
+
+    /**
+     * 캐시 조회 → 없으면 계산 후 양쪽 계층에 저장
+     */
+    public CachedCheck get(EligibilitySnapshot snapshot, CheckConditions conditions, boolean reasonCodes,
+                           Supplier<CachedCheck> loader) {
+        String key = key(snapshot, conditions, reasonCodes);
+
+        CachedCheck cached = local.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        cached = readRedis(key);
+        if (cached == null) {
+            cached = loader.get();
+            writeRedis(key, cached);
+        }
+        local.put(key, cached);
+        return cached;
+    }
+
+    /**
+     * 카탈로그 변경 시 이전 버전 항목 정리 (Redis 항목은 키에 지문이 포함되어 TTL로 만료)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ScholarshipCatalogChangedEvent event) {
+        log.debug("자격 확인 캐시 초기화 - 항목 {}건({}행), 적중 {}건, 미적중 {}건",
+                local.size(), local.weight(), local.getHits(), local.getMisses());
+        local.clear();
+    }
+
+    private static long rows(CachedCheck value) {
+        return value.getResults() != null ? Math.max(1, value.getResults().size()) : 1;
+    }
+
+    private String key(EligibilitySnapshot snapshot, CheckConditions c, boolean reasonCodes) {
+        return snapshot.getCatalogHash() + ":" + c.getAcademicStatus().getValue() + ":" + c.getGrade()
+                + ":" + c.getGpaHundredths() + ":" + c.getIncomeLevel() + (reasonCodes ? ":codes" : ":text");
+    }
+
+    private CachedCheck readRedis(String key) {
+        if (!redisEnabled) return null;
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_PREFIX + key);
+            return json != null ? cachedReader.readValue(json) : null;
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, CachedCheck value) {
+        if (!redisEnabled) return;
+        try {
+            redisTemplate.opsForValue().set(REDIS_PREFIX + key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("자격 확인 결과 직렬화 실패: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시되는 응답 본문 (요청마다 달라지는 checkedAt, userConditions 제외)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedCheck {
+        private List<ScholarshipMatchResult> results;
+        private CheckSummary summary;
+    }
+}
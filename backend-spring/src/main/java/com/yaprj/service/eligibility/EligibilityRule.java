@@ -0,0 +1,315 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.response.ScholarshipCheckResponse.EligibilityDetail;
+import com.yaprj.dto.response.ScholarshipCheckResponse.EligibilityReason;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.entity.enums.AcademicStatus;
+import com.yaprj.entity.enums.ReasonCode;
+import com.yaprj.service.criteria.CriteriaExtractor;
+import com.yaprj.service.criteria.KeywordGroup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.yaprj.service.criteria.CriteriaExtractor.scan;
+
+/**
+ * 장학금 1건의 자격 조건을 원시 타입으로 컴파일한 판정 규칙
+ * 판정(classify)은 비트마스크/정수 비교만 수행하고, 판정 근거는 reasons/explain에서만 생성
+ */
+public final class EligibilityRule {
+
+    // 판정 결과 (정렬 순서: 적격 > 확인필요 > 부적격)
+    public static final int ELIGIBLE = 0;
+    public static final int UNKNOWN = 1;
+    public static final int NOT_ELIGIBLE = 2;
+
+    // 조건 플래그
+    static final int STATUS_SET = 1;          // 학적상태 파싱됨
+    static final int GRADE_SET = 1 << 1;      // 학년 파싱됨
+    static final int GPA_SET = 1 << 2;        // 최소 성적 파싱됨
+    static final int INCOME_SET = 1 << 3;     // 최대 소득분위 파싱됨
+    static final int GPA_NO_LIMIT = 1 << 4;   // 원본 텍스트상 성적 제한 없음
+    static final int INCOME_NO_LIMIT = 1 << 5; // 원본 텍스트상 소득 제한 없음
+    static final int STATUS_RAW = 1 << 6;     // 원본 텍스트만 있음 (미파싱)
+    static final int GRADE_RAW = 1 << 7;
+    static final int GPA_RAW = 1 << 8;
+    static final int INCOME_RAW = 1 << 9;
+    static final int REGION_RAW = 1 << 10;
+    static final int SPECIAL_RAW = 1 << 11;
+
+    private static final EligibilityReason GPA_NO_LIMIT_REASON = reason(ReasonCode.GPA_NO_LIMIT, null, null, null);
+    private static final EligibilityReason INCOME_NO_LIMIT_REASON = reason(ReasonCode.INCOME_NO_LIMIT, null, null, null);
+    private static final EligibilityReason DETAILS_UNVERIFIED_REASON =
+            reason(ReasonCode.DETAILS_UNVERIFIED, null, null, null);
+
+    private final String id;
+    private final int flags;
+    private final byte statusMask;   // AcademicStatus ordinal 비트
+    private final byte gradeMask;    // 1~6학년 비트
+    private final short minGpa;      // 1/100 단위
+    private final byte maxIncome;
+
+    // 판정 근거용 (판정에는 사용하지 않음, 규칙마다 고정인 근거는 미리 생성)
+    private final EligibilityReason statusMismatch;
+    private final EligibilityReason gradeMismatch;
+    private final EligibilityReason[] unknownReasons;
+
+    private EligibilityRule(String id, int flags, byte statusMask, byte gradeMask, short minGpa, byte maxIncome,
+                            EligibilityReason statusMismatch, EligibilityReason gradeMismatch,
+                            EligibilityReason[] unknownReasons) {
+        this.id = id;
+        this.flags = flags;
+        this.statusMask = statusMask;
+        this.gradeMask = gradeMask;
+        this.minGpa = minGpa;
+        this.maxIncome = maxIncome;
+        this.statusMismatch = statusMismatch;
+        this.gradeMismatch = gradeMismatch;
+        this.unknownReasons = unknownReasons;
+    }
+
+    /**
+     * Scholarship 엔티티 → 판정 규칙 컴파일
+     */
+    public static EligibilityRule compile(Scholarship s) {
+        int flags = 0;
+        int statusMask = 0;
+        int gradeMask = 0;
+        int minGpa = 0;
+        int maxIncome = 0;
+        EligibilityReason statusMismatch = null;
+        EligibilityReason gradeMismatch = null;
+        EligibilityReason[] unknown = new EligibilityReason[6];
+
+        // 1. 학적상태
+        String allowedStatus = s.getAllowedAcademicStatus();
+        if (allowedStatus != null && !allowedStatus.isEmpty()) {
+            flags |= STATUS_SET;
+            List<String> required = new ArrayList<>();
+            for (String token : allowedStatus.split(",")) {
+                String st = token.trim();
+                for (AcademicStatus status : AcademicStatus.values()) {
+                    if (st.equalsIgnoreCase(status.getValue())) {
+                        statusMask |= 1 << status.ordinal();
+                    }
+                }
+                required.add(st);
+            }
+            statusMismatch = reason(ReasonCode.STATUS_MISMATCH, null, List.copyOf(required), null);
+        } else {
+            String hint = CriteriaExtractor.combineTexts(s.getUniversityCategory(), s.getSpecialQualification());
+            if (!hint.isEmpty() && scan(hint).has(KeywordGroup.RULE_STATUS_HINT)) {
+                flags |= STATUS_RAW;
+                unknown[0] = reason(ReasonCode.STATUS_UNVERIFIED, null, null, null);
+            }
+        }
+
+        // 2. 학년
+        String allowedGrades = s.getAllowedGrades();
+        if (allowedGrades != null && !allowedGrades.isEmpty()) {
+            List<String> required = new ArrayList<>();
+            for (String token : allowedGrades.split(",")) {
+                String g = token.trim();
+                if (!g.matches("\\d+")) continue;
+                int grade = parseGrade(g);
+                if (grade >= 1 && grade <= 6) {
+                    gradeMask |= 1 << grade;
+                }
+                required.add(grade >= 0 ? String.valueOf(grade) : g);
+                flags |= GRADE_SET;
+            }
+            gradeMismatch = reason(ReasonCode.GRADE_MISMATCH, null, List.copyOf(required), null);
+        } else if (s.getGradeSemester() != null && !s.getGradeSemester().isEmpty()) {
+            if (!scan(s.getGradeSemester()).has(KeywordGroup.RULE_GRADE_ALL)) {
+                flags |= GRADE_RAW;
+                unknown[1] = reason(ReasonCode.GRADE_UNVERIFIED, null, null, truncate(s.getGradeSemester(), 20));
+            }
+        }
+
+        // 3. 성적(GPA)
+        if (s.getMinGpa() != null) {
+            flags |= GPA_SET;
+            minGpa = Math.min(Short.MAX_VALUE, CheckConditions.toHundredths(s.getMinGpa(), RoundingMode.CEILING));
+        } else if (s.getGradeCriteria() != null && !s.getGradeCriteria().isEmpty()) {
+            if (scan(s.getGradeCriteria()).has(KeywordGroup.RULE_NO_LIMIT)) {
+                flags |= GPA_NO_LIMIT;
+            } else {
+                flags |= GPA_RAW;
+                unknown[2] = reason(ReasonCode.GPA_UNVERIFIED, null, null, truncate(s.getGradeCriteria(), 25));
+            }
+        }
+
+        // 4. 소득분위
+        if (s.getMaxIncomeLevel() != null) {
+            flags |= INCOME_SET;
+            maxIncome = Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, s.getMaxIncomeLevel()));
+        } else if (s.getIncomeCriteria() != null && !s.getIncomeCriteria().isEmpty()) {
+            if (scan(s.getIncomeCriteria()).has(KeywordGroup.RULE_INCOME_NO_LIMIT)) {
+                flags |= INCOME_NO_LIMIT;
+            } else {
+                flags |= INCOME_RAW;
+                unknown[3] = reason(ReasonCode.INCOME_UNVERIFIED, null, null, truncate(s.getIncomeCriteria(), 25));
+            }
+        }
+
+        // 5. 지역
+        String regionLimit = s.getRegionLimit();
+        if (regionLimit != null && !regionLimit.isEmpty()) {
+            flags |= REGION_RAW;
+            unknown[4] = reason(ReasonCode.REGION_LIMITED, null, null, regionLimit);
+        } else if (s.getResidencyDetail() != null && !s.getResidencyDetail().isEmpty()) {
+            if (!scan(s.getResidencyDetail()).has(KeywordGroup.RULE_REGION_NATIONWIDE)) {
+                flags |= REGION_RAW;
+                unknown[4] = reason(ReasonCode.REGION_UNVERIFIED, null, null, null);
+            }
+        }
+
+        // 6. 특정자격
+        if (s.getSpecialQualification() != null && !s.getSpecialQualification().isEmpty()) {
+            if (!scan(s.getSpecialQualification()).has(KeywordGroup.RULE_NO_LIMIT)) {
+                flags |= SPECIAL_RAW;
+                unknown[5] = reason(ReasonCode.SPECIAL_QUALIFICATION, null, null,
+                        truncate(s.getSpecialQualification(), 30));
+            }
+        }
+
+        return new EligibilityRule(s.getId(), flags, (byte) statusMask, (byte) gradeMask, (short) minGpa,
+                (byte) maxIncome, statusMismatch, gradeMismatch, unknown);
+    }
+
+    /**
+     * 적격 여부 판정 (할당 없음)
+     * 하나라도 미충족이면 부적격, 미충족 없이 1개 이상 충족이면 적격, 그 외 확인 필요
+     */
+    public int classify(CheckConditions c) {
+        boolean satisfied = (flags & (GPA_NO_LIMIT | INCOME_NO_LIMIT)) != 0;
+        if ((flags & STATUS_SET) != 0) {
+            if ((statusMask & (1 << c.getAcademicStatus().ordinal())) == 0) return NOT_ELIGIBLE;
+            satisfied = true;
+        }
+        if ((flags & GRADE_SET) != 0) {
+            if ((gradeMask & (1 << c.getGrade())) == 0) return NOT_ELIGIBLE;
+            satisfied = true;
+        }
+        if ((flags & GPA_SET) != 0) {
+            if (c.getGpaHundredths() < minGpa) return NOT_ELIGIBLE;
+            satisfied = true;
+        }
+        if ((flags & INCOME_SET) != 0) {
+            if (c.getIncomeLevel() > maxIncome) return NOT_ELIGIBLE;
+            satisfied = true;
+        }
+        return satisfied ? ELIGIBLE : UNKNOWN;
+    }
+
+    /**
+     * 판정 근거 코드 생성 (화면에 표시할 결과에 대해서만 호출)
+     * 사용자 값이 들어가는 근거만 새로 만들고, 규칙마다 고정인 근거는 미리 생성한 객체를 재사용
+     */
+    public List<EligibilityReason> reasons(CheckConditions c) {
+        List<EligibilityReason> reasons = new ArrayList<>(4);
+
+        if ((flags & STATUS_SET) != 0) {
+            if ((statusMask & (1 << c.getAcademicStatus().ordinal())) != 0) {
+                reasons.add(reason(ReasonCode.STATUS_OK, c.getAcademicStatus().getValue(), null, null));
+            } else {
+                reasons.add(statusMismatch);
+            }
+        } else if (unknownReasons[0] != null) {
+            reasons.add(unknownReasons[0]);
+        }
+
+        if ((flags & GRADE_SET) != 0) {
+            if ((gradeMask & (1 << c.getGrade())) != 0) {
+                reasons.add(reason(ReasonCode.GRADE_OK, c.getGrade(), null, null));
+            } else {
+                reasons.add(gradeMismatch);
+            }
+        } else if (unknownReasons[1] != null) {
+            reasons.add(unknownReasons[1]);
+        }
+
+        if ((flags & GPA_SET) != 0) {
+            ReasonCode code = c.getGpaHundredths() >= minGpa ? ReasonCode.GPA_OK : ReasonCode.GPA_BELOW;
+            reasons.add(reason(code, c.getGpa(), getMinGpa(), null));
+        } else if ((flags & GPA_NO_LIMIT) != 0) {
+            reasons.add(GPA_NO_LIMIT_REASON);
+        } else if (unknownReasons[2] != null) {
+            reasons.add(unknownReasons[2]);
+        }
+
+        if ((flags & INCOME_SET) != 0) {
+            ReasonCode code = c.getIncomeLevel() <= maxIncome ? ReasonCode.INCOME_OK : ReasonCode.INCOME_ABOVE;
+            reasons.add(reason(code, c.getIncomeLevel(), (int) maxIncome, null));
+        } else if ((flags & INCOME_NO_LIMIT) != 0) {
+            reasons.add(INCOME_NO_LIMIT_REASON);
+        } else if (unknownReasons[3] != null) {
+            reasons.add(unknownReasons[3]);
+        }
+
+        if (unknownReasons[4] != null) reasons.add(unknownReasons[4]);
+        if (unknownReasons[5] != null) reasons.add(unknownReasons[5]);
+
+        if (reasons.isEmpty()) {
+            reasons.add(DETAILS_UNVERIFIED_REASON);
+        }
+        return reasons;
+    }
+
+    /**
+     * 호환 모드: 기존 satisfied / notSatisfied / unknown 문구 목록
+     */
+    public EligibilityDetail explain(CheckConditions c) {
+        return ReasonRenderer.render(reasons(c));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    int getFlags() {
+        return flags;
+    }
+
+    byte getStatusMask() {
+        return statusMask;
+    }
+
+    byte getGradeMask() {
+        return gradeMask;
+    }
+
+    short getMinGpaHundredths() {
+        return minGpa;
+    }
+
+    byte getMaxIncome() {
+        return maxIncome;
+    }
+
+    private BigDecimal getMinGpa() {
+        return BigDecimal.valueOf(minGpa, 2);
+    }
+
+    // ========== Helper Methods ==========
+
+    private static EligibilityReason reason(ReasonCode code, Object user, Object required, String text) {
+        return new EligibilityReason(code, user, required, text);
+    }
+
+    private static int parseGrade(String digits) {
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return -1;  // 범위를 벗어난 숫자는 어떤 학년과도 일치하지 않음
+        }
+    }
+
+    private static String truncate(String text, int maxLen) {
+        if (text == null) return "";
+        return text.length() > maxLen ? text.substring(0, maxLen) + "..." : text;
+    }
+}
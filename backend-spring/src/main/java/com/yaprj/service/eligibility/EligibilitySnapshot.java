@@ -0,0 +1,173 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.response.ScholarshipCheckResponse.ScholarshipInfo;
+import com.yaprj.entity.Scholarship;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 장학금 카탈로그의 불변 스냅샷
+ * 카탈로그가 변경될 때만 다시 생성되며, 요청 간에 공유됨
+ */
+public final class EligibilitySnapshot {
+
+    private static final DateTimeFormatter PERIOD_FORMATTER = DateTimeFormatter.ofPattern("MM.dd");
+
+    @Getter
+    private final long version;
+    @Getter
+    private final String catalogHash;  // 활성 카탈로그 내용 지문 (프로세스/인스턴스 간 동일)
+    @Getter
+    private final LocalDateTime loadedAt;  // 카탈로그 조회 시작 시각 (이후 수정분은 다음 스냅샷에 반영)
+    private final EligibilityRule[] rules;
+    private final ScholarshipInfo[] infos;
+    private final String[] applyPeriods;
+    private final LocalDateTime[] updatedAts;
+    private final Map<String, Integer> positions;
+    private final EligibilityIndex index;
+    private volatile EligibilityClassTable classTable;  // 백그라운드 사전 계산 완료 후 설정
+
+    private EligibilitySnapshot(long version, String catalogHash, LocalDateTime loadedAt, EligibilityRule[] rules,
+                                ScholarshipInfo[] infos, String[] applyPeriods, LocalDateTime[] updatedAts) {
+        this.version = version;
+        this.catalogHash = catalogHash;
+        this.loadedAt = loadedAt;
+        this.rules = rules;
+        this.infos = infos;
+        this.applyPeriods = applyPeriods;
+        this.updatedAts = updatedAts;
+        this.positions = new HashMap<>(rules.length * 2);
+        for (int i = 0; i < rules.length; i++) {
+            positions.put(rules[i].getId(), i);
+        }
+        this.index = new EligibilityIndex(rules);
+    }
+
+    /**
+     * 활성 장학금 목록(추천 우선, 최근 수정순) → 스냅샷 생성
+     */
+    public static EligibilitySnapshot build(long version, List<Scholarship> scholarships) {
+        return build(version, LocalDateTime.now(), scholarships);
+    }
+
+    public static EligibilitySnapshot build(long version, LocalDateTime loadedAt, List<Scholarship> scholarships) {
+        int n = scholarships.size();
+        EligibilityRule[] rules = new EligibilityRule[n];
+        ScholarshipInfo[] infos = new ScholarshipInfo[n];
+        String[] applyPeriods = new String[n];
+        LocalDateTime[] updatedAts = new LocalDateTime[n];
+        MessageDigest digest = sha256();
+        
+        for (int i = 0; i < n; i++) {
+            Scholarship s = scholarships.get(i);
+            rules[i] = EligibilityRule.compile(s);
+            infos[i] = toInfo(s);
+            applyPeriods[i] = toApplyPeriod(s);
+            updatedAts[i] = s.getUpdatedAt();
+            digest.update((s.getId() + "|" + s.getUpdatedAt() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        String catalogHash = HexFormat.of().formatHex(digest.digest(), 0, 8);
+        return new EligibilitySnapshot(version, catalogHash, loadedAt, rules, infos, applyPeriods, updatedAts);
+    }
+
+    /**
+     * 전체 카탈로그 판정 (적격 → 확인필요 → 부적격 순, 그룹 내 카탈로그 순서 유지)
+     * 동치류 테이블이 준비되어 있으면 조회만 하고, 아니면 조건별 비트셋의 집합 연산으로 계산
+     */
+    public EligibilityClassification classify(CheckConditions conditions) {
+        EligibilityClassTable table = classTable;
+        return table != null ? table.get(conditions) : index.classify(conditions);
+    }
+
+    /**
+     * 전체 조건 공간의 동치류 결과 사전 계산
+     * @return 계산 성공 여부 (메모리 한도 초과 시 false → 비트셋 연산으로 계속 응답)
+     */
+    boolean precomputeClasses(long maxCells) {
+        if (classTable != null) return true;
+        EligibilityClassTable table = EligibilityClassTable.build(index, maxCells);
+        if (table == null) return false;
+        classTable = table;
+        return true;
+    }
+
+    int classCount() {
+        EligibilityClassTable table = classTable;
+        return table != null ? table.classCount() : 0;
+    }
+
+    int distinctClassCount() {
+        EligibilityClassTable table = classTable;
+        return table != null ? table.distinctCount() : 0;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * 장학금 ID → 스냅샷 내 위치 (비활성/없음이면 -1)
+     */
+    public int positionOf(String id) {
+        Integer position = positions.get(id);
+        return position != null ? position : -1;
+    }
+
+    public EligibilityRule getRule(int position) {
+        return rules[position];
+    }
+
+    public ScholarshipInfo getInfo(int position) {
+        return infos[position];
+    }
+
+    public String getApplyPeriod(int position) {
+        return applyPeriods[position];
+    }
+
+    /**
+     * 해당 위치의 장학금이 주어진 시각 이후 수정되었는지 (수정 시각을 모르면 수정된 것으로 간주)
+     */
+    public boolean isUpdatedAfter(int position, LocalDateTime since) {
+        LocalDateTime updatedAt = updatedAts[position];
+        return updatedAt == null || updatedAt.isAfter(since);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ScholarshipInfo toInfo(Scholarship s) {
+        return ScholarshipInfo.builder()
+                .id(s.getId())
+                .name(s.getName())
+                .type(s.getScholarshipType() != null ? s.getScholarshipType().getValue() : "other")
+                .description(s.getSupportDetails())
+                .applyStart(s.getApplyStart() != null ? s.getApplyStart().toString() : null)
+                .applyEnd(s.getApplyEnd() != null ? s.getApplyEnd().toString() : null)
+                .externalUrl(s.getWebsiteUrl())
+                .isActive(s.getIsActive())
+                .organization(s.getOrganization())
+                .build();
+    }
+
+    private static String toApplyPeriod(Scholarship s) {
+        if (s.getApplyStart() == null && s.getApplyEnd() == null) return null;
+        String start = s.getApplyStart() != null ? s.getApplyStart().format(PERIOD_FORMATTER) : "?";
+        String end = s.getApplyEnd() != null ? s.getApplyEnd().format(PERIOD_FORMATTER) : "?";
+        return start + " ~ " + end;
+    }
+}
@@ -0,0 +1,129 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.response.ScholarshipCheckResponse.EligibilityDetail;
+import com.yaprj.dto.response.ScholarshipCheckResponse.EligibilityReason;
+import com.yaprj.entity.enums.ReasonCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * 판정 근거 코드 → 표시 문구 렌더링
+ * 템플릿은 최초 1회 분해해 두고, 화면에 표시할 결과에 대해서만 렌더링
+ */
+public final class ReasonRenderer {
+
+    private static final Map<String, String> STATUS_KOREAN =
+            Map.of("enrolled", "재학", "expected", "입학예정", "leave", "휴학");
+
+    // 짝수 인덱스: 고정 문구, 홀수 인덱스: 파라미터 이름
+    private static final Map<ReasonCode, String[]> TEMPLATES = new EnumMap<>(ReasonCode.class);
+    private static final Map<String, String> TEMPLATE_TEXTS;
+
+    static {
+        Map<String, String> texts = new LinkedHashMap<>();
+        for (ReasonCode code : ReasonCode.values()) {
+            TEMPLATES.put(code, split(code.getTemplate()));
+            texts.put(code.name(), code.getTemplate());
+        }
+        TEMPLATE_TEXTS = Collections.unmodifiableMap(texts);
+    }
+
+    private ReasonRenderer() {
+    }
+
+    /**
+     * 호환 모드: 근거 코드 목록 → 기존 satisfied / notSatisfied / unknown 문구 목록
+     */
+    public static EligibilityDetail render(List<EligibilityReason> reasons) {
+        List<String> satisfied = new ArrayList<>();
+        List<String> notSatisfied = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+
+        for (EligibilityReason reason : reasons) {
+            String text = render(reason);
+            switch (reason.getCode().getKind()) {
+                case SATISFIED -> satisfied.add(text);
+                case NOT_SATISFIED -> notSatisfied.add(text);
+                case UNKNOWN -> unknown.add(text);
+            }
+        }
+
+        return EligibilityDetail.builder()
+                .satisfied(satisfied)
+                .notSatisfied(notSatisfied)
+                .unknown(unknown)
+                .build();
+    }
+
+    public static String render(EligibilityReason reason) {
+        String[] parts = TEMPLATES.get(reason.getCode());
+        if (parts.length == 1) return parts[0];
+
+        StringBuilder sb = new StringBuilder(64);
+        for (int i = 0; i < parts.length; i++) {
+            if ((i & 1) == 0) {
+                sb.append(parts[i]);
+                continue;
+            }
+            switch (parts[i]) {
+                case "user" -> sb.append(format(reason.getCode(), reason.getUser()));
+                case "required" -> sb.append(format(reason.getCode(), reason.getRequired()));
+                case "text" -> sb.append(reason.getText());
+                default -> sb.append('{').append(parts[i]).append('}');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 클라이언트 렌더링용 코드별 템플릿
+     */
+    public static Map<String, String> templates() {
+        return TEMPLATE_TEXTS;
+    }
+
+    private static String format(ReasonCode code, Object value) {
+        if (value instanceof List<?> list) {
+            StringJoiner joiner = new StringJoiner("/");
+            for (Object item : list) {
+                joiner.add(formatItem(code, String.valueOf(item)));
+            }
+            return joiner.toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.setScale(1, RoundingMode.HALF_UP).toPlainString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            // Redis 캐시 역직렬화 시 소수는 Double로 복원됨
+            return BigDecimal.valueOf(((Number) value).doubleValue()).setScale(1, RoundingMode.HALF_UP).toPlainString();
+        }
+        if (code == ReasonCode.STATUS_OK) {
+            return STATUS_KOREAN.get(String.valueOf(value));
+        }
+        return String.valueOf(value);
+    }
+
+    private static String formatItem(ReasonCode code, String item) {
+        return switch (code) {
+            case STATUS_MISMATCH -> STATUS_KOREAN.getOrDefault(item, item);
+            case GRADE_MISMATCH -> item + "학년";
+            default -> item;
+        };
+    }
+
+    private static String[] split(String template) {
+        List<String> parts = new ArrayList<>();
+        int pos = 0;
+        int open;
+        while ((open = template.indexOf('{', pos)) >= 0) {
+            int close = template.indexOf('}', open);
+            parts.add(template.substring(pos, open));
+            parts.add(template.substring(open + 1, close));
+            pos = close + 1;
+        }
+        parts.add(template.substring(pos));
+        return parts.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,129 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.entity.enums.AcademicStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.yaprj.service.eligibility.EligibilityRule.*;
+
+/**
+ * 사용자 프로필 역색인 (장학금 → 적격 사용자 조회)
+ * 학적상태 × 학년 × 소득분위 버킷마다 GPA 오름차순 배열을 두고,
+ * 장학금 1건의 적격 사용자를 허용 버킷들의 GPA 하한 이진 탐색(구간 조회)으로 찾음
+ */
+public final class UserProfileIndex {
+
+    private static final int MAX_INCOME = 10;
+
+    private static final int STATUS_COUNT = AcademicStatus.values().length;
+
+    // [status][grade][income] → GPA 오름차순 (1/100 단위) / 같은 순서의 사용자 ID
+    private final int[][][][] gpas;
+    private final String[][][][] userIds;
+    private final int size;
+
+    private UserProfileIndex(int[][][][] gpas, String[][][][] userIds, int size) {
+        this.gpas = gpas;
+        this.userIds = userIds;
+        this.size = size;
+    }
+
+    /**
+     * 프로필 행(id, academicStatus, grade, gpa, incomeLevel) → 색인 생성
+     * 범위를 벗어난 프로필은 어떤 버킷에도 넣지 않음
+     */
+    public static UserProfileIndex build(List<Object[]> profiles) {
+        List<long[]>[][][] buckets = newBuckets();
+        List<String> ids = new ArrayList<>(profiles.size());
+
+        for (Object[] row : profiles) {
+            AcademicStatus status = (AcademicStatus) row[1];
+            int grade = ((Number) row[2]).intValue();
+            int gpa = CheckConditions.toHundredths((BigDecimal) row[3], RoundingMode.FLOOR);
+            int income = ((Number) row[4]).intValue();
+            if (grade < 1 || grade > EligibilityIndex.MAX_GRADE || income < 1 || income > MAX_INCOME) continue;
+
+            // (GPA, 사용자 번호)를 묶어 정렬
+            buckets[status.ordinal()][grade][income].add(new long[]{gpa, ids.size()});
+            ids.add((String) row[0]);
+        }
+
+        int[][][][] gpas = new int[STATUS_COUNT][EligibilityIndex.MAX_GRADE + 1][MAX_INCOME + 1][];
+        String[][][][] userIds = new String[STATUS_COUNT][EligibilityIndex.MAX_GRADE + 1][MAX_INCOME + 1][];
+        for (int st = 0; st < STATUS_COUNT; st++) {
+            for (int g = 0; g <= EligibilityIndex.MAX_GRADE; g++) {
+                for (int inc = 0; inc <= MAX_INCOME; inc++) {
+                    List<long[]> bucket = buckets[st][g][inc];
+                    bucket.sort((a, b) -> Long.compare(a[0], b[0]));
+                    gpas[st][g][inc] = new int[bucket.size()];
+                    userIds[st][g][inc] = new String[bucket.size()];
+                    for (int i = 0; i < bucket.size(); i++) {
+                        gpas[st][g][inc][i] = (int) bucket.get(i)[0];
+                        userIds[st][g][inc][i] = ids.get((int) bucket.get(i)[1]);
+                    }
+                }
+            }
+        }
+        return new UserProfileIndex(gpas, userIds, ids.size());
+    }
+
+    /**
+     * 장학금 1건에 적격(ELIGIBLE)인 사용자 ID 전달
+     * 판정 의미는 EligibilityRule.classify와 동일: 파싱된 조건을 모두 충족하고, 충족 근거가 1개 이상
+     */
+    public void forEachEligible(EligibilityRule rule, Consumer<String> sink) {
+        int flags = rule.getFlags();
+        if ((flags & (STATUS_SET | GRADE_SET | GPA_SET | INCOME_SET | GPA_NO_LIMIT | INCOME_NO_LIMIT)) == 0) {
+            return;  // 판정 가능한 조건이 없으면 모두 확인 필요
+        }
+
+        int maxIncome = (flags & INCOME_SET) != 0 ? Math.min(rule.getMaxIncome(), MAX_INCOME) : MAX_INCOME;
+        int minGpa = (flags & GPA_SET) != 0 ? rule.getMinGpaHundredths() : Integer.MIN_VALUE;
+
+        for (int st = 0; st < STATUS_COUNT; st++) {
+            if ((flags & STATUS_SET) != 0 && (rule.getStatusMask() & (1 << st)) == 0) continue;
+            for (int g = 1; g <= EligibilityIndex.MAX_GRADE; g++) {
+                if ((flags & GRADE_SET) != 0 && (rule.getGradeMask() & (1 << g)) == 0) continue;
+                for (int inc = 1; inc <= maxIncome; inc++) {
+                    int[] bucketGpas = gpas[st][g][inc];
+                    String[] bucketIds = userIds[st][g][inc];
+                    for (int i = lowerBound(bucketGpas, minGpa); i < bucketIds.length; i++) {
+                        sink.accept(bucketIds[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * value 이상인 첫 위치
+     */
+    private static int lowerBound(int[] sorted, int value) {
+        int k = Arrays.binarySearch(sorted, value);
+        if (k < 0) return -k - 1;
+        while (k > 0 && sorted[k - 1] == value) k--;
+        return k;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<long[]>[][][] newBuckets() {
+        List<long[]>[][][] buckets = new List[STATUS_COUNT][EligibilityIndex.MAX_GRADE + 1][MAX_INCOME + 1];
+        for (List<long[]>[][] byGrade : buckets) {
+            for (List<long[]>[] byIncome : byGrade) {
+                for (int inc = 0; inc < byIncome.length; inc++) {
+                    byIncome[inc] = new ArrayList<>();
+                }
+            }
+        }
+        return buckets;
+    }
+}
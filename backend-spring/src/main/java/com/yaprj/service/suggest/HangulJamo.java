@@ -0,0 +1,85 @@
+package com.yaprj.service.suggest;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성 키 정규화
+ * 한글 음절을 자모(호환 자모) 단위로 풀고 겹받침/이중모음도 낱자로 나눠서,
+ * 입력 중인 글자("자" → "장", "가나"를 치는 도중의 "간")도 접두사로 일치하게 함
+ * 영문은 소문자, 공백/기호는 제거
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 겹받침/이중모음 → 입력 순서대로의 낱자
+    private static final Map<Character, String> COMPOUND = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 텍스트 전체 정규화 (검색어용)
+     */
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            append(sb, text.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인 키: 전체 텍스트 + 공백/기호 뒤에서 시작하는 단어마다의 접미사
+     * ("(재)삼성꿈장학재단" → "재삼성꿈장학재단", "삼성꿈장학재단")
+     */
+    static Set<String> keys(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        boolean boundary = true;
+        for (int i = 0; i < text.length(); i++) {
+            boolean word = Character.isLetterOrDigit(text.charAt(i));
+            if (word && boundary) {
+                String key = normalize(text.substring(i));
+                if (!key.isEmpty()) keys.add(key);
+            }
+            boundary = !word;
+        }
+        return keys;
+    }
+
+    private static void append(StringBuilder sb, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int index = c - SYLLABLE_BASE;
+            sb.append(CHOSEONG.charAt(index / 588));
+            appendJamo(sb, JUNGSEONG.charAt(index % 588 / 28));
+            int jong = index % 28;
+            if (jong > 0) appendJamo(sb, JONGSEONG.charAt(jong));
+        } else if (Character.isLetterOrDigit(c)) {
+            appendJamo(sb, Character.toLowerCase(c));
+        }
+    }
+
+    private static void appendJamo(StringBuilder sb, char c) {
+        String parts = COMPOUND.get(c);
+        if (parts != null) {
+            sb.append(parts);
+        } else {
+            sb.append(c);
+        }
+    }
+}
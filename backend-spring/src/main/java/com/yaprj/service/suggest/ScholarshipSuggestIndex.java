@@ -0,0 +1,237 @@
+package com.yaprj.service.suggest;
+
+import com.yaprj.dto.response.ScholarshipSuggestion;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 장학금명/운영기관명 자동완성 색인 (불변, 여러 스레드에서 공유)
+ * 자모 단위 키를 정렬한 배열이 곧 트라이: 같은 접두사를 가진 키는 연속 구간이라 이진 탐색 두 번으로 노드를 찾음
+ * 항목 번호 = 가중치 순위(추천 → 마감 임박 → 마감 없음 → 마감 지남)라서 구간 내 가장 작은 번호 K개가 top-K
+ * 구간이 큰 짧은 접두사는 top-K를 미리 계산해 두어 조회 비용이 접두사 길이에만 비례
+ */
+public final class ScholarshipSuggestIndex {
+
+    public static final int MAX_LIMIT = 20;
+    // 이 크기 이하 구간은 조회 시 직접 훑음
+    private static final int SCAN_LIMIT = 256;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    /**
+     * 색인 원본 (활성 장학금 1건)
+     */
+    public record Row(String id, String name, String organization, boolean featured, LocalDate applyEnd) {
+    }
+
+    private final long version;
+    private final LocalDate today;
+    private final List<Row> rows;
+    private final ScholarshipSuggestion[] entries;
+    private final String[] keys;
+    private final int[] keyEntries;
+    private final Map<String, int[]> hot;
+    // 텍스트 → 색인 키 (다음 재생성 시 바뀌지 않은 텍스트는 다시 정규화하지 않음)
+    private final Map<String, Set<String>> keyCache;
+
+    private ScholarshipSuggestIndex(long version, LocalDate today, List<Row> rows, ScholarshipSuggestion[] entries,
+                                    String[] keys, int[] keyEntries, Map<String, int[]> hot,
+                                    Map<String, Set<String>> keyCache) {
+        this.version = version;
+        this.today = today;
+        this.rows = rows;
+        this.entries = entries;
+        this.keys = keys;
+        this.keyEntries = keyEntries;
+        this.hot = hot;
+        this.keyCache = keyCache;
+    }
+
+    /**
+     * 활성 장학금 → 색인 생성
+     * 이전 색인과 원본/기준일이 같으면 배열을 그대로 재사용하고, 다르면 바뀐 텍스트만 다시 정규화
+     */
+    public static ScholarshipSuggestIndex build(long version, LocalDate today, List<Row> rows,
+                                                ScholarshipSuggestIndex previous) {
+        List<Row> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(Row::id));
+        if (previous != null && previous.today.equals(today) && previous.rows.equals(sorted)) {
+            return new ScholarshipSuggestIndex(version, today, previous.rows, previous.entries, previous.keys,
+                    previous.keyEntries, previous.hot, previous.keyCache);
+        }
+
+        List<ScholarshipSuggestion> ranked = rank(sorted, today);
+        Map<String, Set<String>> previousKeys = previous != null ? previous.keyCache : Collections.emptyMap();
+        Map<String, Set<String>> keyCache = new HashMap<>(ranked.size() * 2);
+        List<Map.Entry<String, Integer>> pairs = new ArrayList<>();
+        for (int entry = 0; entry < ranked.size(); entry++) {
+            String text = ranked.get(entry).getText();
+            Set<String> textKeys = keyCache.get(text);
+            if (textKeys == null) {
+                textKeys = previousKeys.get(text);
+                if (textKeys == null) textKeys = HangulJamo.keys(text);
+                keyCache.put(text, textKeys);
+            }
+            for (String key : textKeys) {
+                pairs.add(Map.entry(key, entry));
+            }
+        }
+        pairs.sort(Map.Entry.<String, Integer>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+
+        String[] keys = new String[pairs.size()];
+        int[] keyEntries = new int[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            keys[i] = pairs.get(i).getKey();
+            keyEntries[i] = pairs.get(i).getValue();
+        }
+        Map<String, int[]> hot = new HashMap<>();
+        collectHot(keys, keyEntries, 0, keys.length, 0, hot);
+
+        return new ScholarshipSuggestIndex(version, today, List.copyOf(sorted),
+                ranked.toArray(new ScholarshipSuggestion[0]), keys, keyEntries, hot, keyCache);
+    }
+
+    /**
+     * 접두사 일치 상위 limit건 (가중치 순)
+     */
+    public List<ScholarshipSuggestion> suggest(String query, int limit) {
+        if (query == null || query.length() > MAX_QUERY_LENGTH) return Collections.emptyList();
+        String prefix = HangulJamo.normalize(query);
+        if (prefix.isEmpty()) return Collections.emptyList();
+
+        int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        int lo = lowerBound(keys, prefix);
+        int hi = lowerBound(keys, prefix + Character.MAX_VALUE);
+        int[] top = hi - lo > SCAN_LIMIT ? hot.get(prefix) : topK(keyEntries, lo, hi, k);
+
+        List<ScholarshipSuggestion> result = new ArrayList<>(Math.min(k, top.length));
+        for (int i = 0; i < top.length && i < k; i++) {
+            result.add(entries[top[i]]);
+        }
+        return result;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * 항목 순위: 장학금 + 운영기관(소속 장학금 중 가장 높은 순위를 따름)
+     * 같은 순위에서는 장학금 먼저, 텍스트 순
+     */
+    private static List<ScholarshipSuggestion> rank(List<Row> rows, LocalDate today) {
+        record Ranked(long weight, boolean organization, String text, String id, ScholarshipSuggestion suggestion) {
+        }
+        List<Ranked> ranked = new ArrayList<>(rows.size() * 2);
+        Map<String, Long> organizations = new HashMap<>();
+        for (Row row : rows) {
+            long weight = weight(row, today);
+            if (row.organization() != null && !row.organization().isBlank()) {
+                organizations.merge(row.organization(), weight, Math::min);
+            }
+            if (row.name() == null || row.name().isBlank()) continue;
+            ranked.add(new Ranked(weight, false, row.name(), row.id(), ScholarshipSuggestion.builder()
+                    .type("scholarship")
+                    .text(row.name())
+                    .id(row.id())
+                    .organization(row.organization())
+                    .applyEnd(row.applyEnd() != null ? row.applyEnd().toString() : null)
+                    .isFeatured(row.featured())
+                    .build()));
+        }
+        for (Map.Entry<String, Long> org : organizations.entrySet()) {
+            ranked.add(new Ranked(org.getValue(), true, org.getKey(), "", ScholarshipSuggestion.builder()
+                    .type("organization")
+                    .text(org.getKey())
+                    .build()));
+        }
+        ranked.sort((a, b) -> {
+            if (a.weight() != b.weight()) return Long.compare(a.weight(), b.weight());
+            if (a.organization() != b.organization()) return a.organization() ? 1 : -1;
+            int c = a.text().compareTo(b.text());
+            return c != 0 ? c : a.id().compareTo(b.id());
+        });
+
+        List<ScholarshipSuggestion> result = new ArrayList<>(ranked.size());
+        for (Ranked r : ranked) {
+            result.add(r.suggestion());
+        }
+        return result;
+    }
+
+    /**
+     * 가중치 (작을수록 앞): 추천 여부 → 모집 중/예정(마감 임박 순) → 마감일 없음 → 마감 지남(최근 마감 순)
+     */
+    private static long weight(Row row, LocalDate today) {
+        long deadline;
+        if (row.applyEnd() == null) {
+            deadline = 1L << 32;
+        } else {
+            long days = row.applyEnd().toEpochDay() - today.toEpochDay();
+            deadline = days >= 0 ? days : (2L << 32) - days;
+        }
+        return (row.featured() ? 0 : 1L << 40) + deadline;
+    }
+
+    /**
+     * 크기가 SCAN_LIMIT를 넘는 접두사 구간의 top-K 사전 계산
+     * [lo, hi)는 앞 depth글자가 같은 구간이며, 길이가 정확히 depth인 키는 정렬상 맨 앞
+     */
+    private static void collectHot(String[] keys, int[] keyEntries, int lo, int hi, int depth,
+                                   Map<String, int[]> hot) {
+        int i = lo;
+        while (i < hi && keys[i].length() == depth) i++;
+        while (i < hi) {
+            char c = keys[i].charAt(depth);
+            int j = i + 1;
+            while (j < hi && keys[j].charAt(depth) == c) j++;
+            if (j - i > SCAN_LIMIT) {
+                hot.put(keys[i].substring(0, depth + 1), topK(keyEntries, i, j, MAX_LIMIT));
+                collectHot(keys, keyEntries, i, j, depth + 1, hot);
+            }
+            i = j;
+        }
+    }
+
+    /**
+     * 구간 내 서로 다른 항목 번호 중 가장 작은 k개 (오름차순)
+     */
+    private static int[] topK(int[] keyEntries, int lo, int hi, int k) {
+        int[] best = new int[k];
+        int size = 0;
+        for (int i = lo; i < hi; i++) {
+            int entry = keyEntries[i];
+            if (size == k && entry >= best[k - 1]) continue;
+            int pos = size;
+            while (pos > 0 && best[pos - 1] > entry) pos--;
+            if (pos > 0 && best[pos - 1] == entry) continue;
+            int end = Math.min(size, k - 1);
+            System.arraycopy(best, pos, best, pos + 1, end - pos);
+            best[pos] = entry;
+            if (size < k) size++;
+        }
+        return size == k ? best : Arrays.copyOf(best, size);
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
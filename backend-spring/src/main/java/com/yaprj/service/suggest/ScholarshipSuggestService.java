@@ -0,0 +1,104 @@
+package com.yaprj.service.suggest;
+
+import com.yaprj.dto.response.ScholarshipSuggestion;
+import com.yaprj.event.ScholarshipCatalogChangedEvent;
+import com.yaprj.repository.ScholarshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색창 자동완성
+ * 요청은 메모리 색인만 읽고(DB 접근 없음), 카탈로그 변경/날짜 변경 시 백그라운드에서 색인을 다시 만듦
+ * 재생성 중에는 이전 색인으로 계속 응답
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScholarshipSuggestService {
+
+    private final ScholarshipRepository scholarshipRepository;
+    private final TaskExecutor taskExecutor;
+
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile ScholarshipSuggestIndex index;
+
+    public List<ScholarshipSuggestion> suggest(String query, int limit) {
+        return current().suggest(query, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ScholarshipCatalogChangedEvent event) {
+        catalogVersion.incrementAndGet();
+        scheduleRefresh();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRefresh();
+    }
+
+    private ScholarshipSuggestIndex current() {
+        ScholarshipSuggestIndex s = index;
+        if (s == null) {
+            // 기동 직후 색인이 준비되기 전의 요청만 동기 생성
+            synchronized (this) {
+                s = index;
+                if (s == null) {
+                    s = rebuild(catalogVersion.get(), null);
+                    index = s;
+                }
+            }
+        } else if (s.getVersion() != catalogVersion.get() || !s.getToday().equals(LocalDate.now())) {
+            scheduleRefresh();
+        }
+        return s;
+    }
+
+    private void scheduleRefresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            taskExecutor.execute(this::refresh);
+        }
+    }
+
+    void refresh() {
+        try {
+            long version;
+            do {
+                version = catalogVersion.get();
+                ScholarshipSuggestIndex built = rebuild(version, index);
+                synchronized (this) {
+                    index = built;
+                }
+            } while (version != catalogVersion.get());
+        } catch (Exception e) {
+            log.warn("자동완성 색인 생성 실패: {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private ScholarshipSuggestIndex rebuild(long version, ScholarshipSuggestIndex previous) {
+        long started = System.currentTimeMillis();
+        List<ScholarshipSuggestIndex.Row> rows = new ArrayList<>();
+        for (Object[] row : scholarshipRepository.findSuggestEntries()) {
+            rows.add(new ScholarshipSuggestIndex.Row((String) row[0], (String) row[1], (String) row[2],
+                    Boolean.TRUE.equals(row[3]), (LocalDate) row[4]));
+        }
+        ScholarshipSuggestIndex built = ScholarshipSuggestIndex.build(version, LocalDate.now(), rows, previous);
+        log.info("자동완성 색인 생성 - 버전 {}, 항목 {}개, {}ms",
+                version, built.size(), System.currentTimeMillis() - started);
+        return built;
+    }
+}
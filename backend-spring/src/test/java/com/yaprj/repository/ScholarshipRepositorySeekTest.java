@@ -0,0 +1,153 @@
+package com.yaprj.repository;
+
+import com.yaprj.entity.Scholarship;
+import com.yaprj.entity.enums.ScholarshipType;
+import com.yaprj.repository.ScholarshipRepository.PublicSeekKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사용자 목록 커서(seek) 페이지네이션 테스트
+ * 페이지 크기와 관계없이 마지막 행의 키로 이어 읽은 결과가 추천 여부 DESC, 모집종료일 ASC(null 먼저), id ASC 전체 정렬과 같아야 함
+ * (추천 → 일반 경계, 모집종료일 null, 같은 모집종료일 안의 id 순서 포함)
+ * H2 MySQL 모드에서 null 정렬을 MySQL과 같게(ASC에서 먼저) 맞춰 실행
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seek;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=LOW",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class ScholarshipRepositorySeekTest {
+
+    private static final Comparator<Scholarship> LIST_ORDER = Comparator
+            .comparing(Scholarship::getIsFeatured, Comparator.reverseOrder())
+            .thenComparing(Scholarship::getApplyEnd, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Scholarship::getId);
+
+    // 같은 모집종료일이 여러 행에 걸리도록 적은 수의 날짜만 사용
+    private static final LocalDate[] APPLY_ENDS = {
+            null, LocalDate.of(2026, 3, 31), LocalDate.of(2026, 4, 15), LocalDate.of(2026, 6, 30)
+    };
+
+    @Autowired
+    private ScholarshipRepository scholarshipRepository;
+
+    private List<Scholarship> catalog;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        catalog = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            catalog.add(Scholarship.builder()
+                    .id(String.format("s-%03d", i))
+                    .organization("기관")
+                    .name("장학금 " + i)
+                    .isFeatured(random.nextInt(3) == 0)
+                    .isActive(random.nextInt(8) != 0)
+                    .scholarshipType(random.nextBoolean() ? ScholarshipType.NATIONAL : ScholarshipType.LOCAL)
+                    .applyEnd(APPLY_ENDS[random.nextInt(APPLY_ENDS.length)])
+                    .build());
+        }
+        // 저장 순서가 정렬 순서와 겹치지 않도록 섞어서 저장
+        List<Scholarship> shuffled = new ArrayList<>(catalog);
+        Collections.shuffle(shuffled, random);
+        scholarshipRepository.saveAllAndFlush(shuffled);
+    }
+
+    @Test
+    void catalogCoversBoundaries() {
+        // 추천/일반 각각에 모집종료일 null 행과 같은 모집종료일을 가진 여러 행이 있어야 의미 있는 테스트
+        for (boolean featured : new boolean[]{true, false}) {
+            List<Scholarship> group = expected(null).stream().filter(s -> s.getIsFeatured() == featured).toList();
+            assertTrue(group.stream().anyMatch(s -> s.getApplyEnd() == null), "null apply_end, featured=" + featured);
+            assertTrue(group.stream().map(Scholarship::getApplyEnd).filter(d -> d != null).distinct().count()
+                    < group.stream().filter(s -> s.getApplyEnd() != null).count(), "duplicate apply_end, featured=" + featured);
+        }
+    }
+
+    @Test
+    void pagesConcatenateToFullOrder() {
+        List<String> expectedIds = expected(null).stream().map(Scholarship::getId).toList();
+        for (int pageSize = 1; pageSize <= 5; pageSize++) {
+            assertEquals(expectedIds, readAll(null, pageSize), "pageSize=" + pageSize);
+        }
+    }
+
+    @Test
+    void pagesConcatenateToFullOrderWithTypeFilter() {
+        for (ScholarshipType type : new ScholarshipType[]{ScholarshipType.NATIONAL, ScholarshipType.LOCAL}) {
+            List<String> expectedIds = expected(type).stream().map(Scholarship::getId).toList();
+            for (int pageSize = 1; pageSize <= 5; pageSize++) {
+                assertEquals(expectedIds, readAll(type, pageSize), type + " pageSize=" + pageSize);
+            }
+        }
+    }
+
+    @Test
+    void resumesAfterLastFeaturedRow() {
+        List<Scholarship> expected = expected(null);
+        Scholarship lastFeatured = expected.stream().filter(Scholarship::getIsFeatured)
+                .reduce((first, second) -> second).orElseThrow();
+        Scholarship firstRegular = expected.get(expected.indexOf(lastFeatured) + 1);
+
+        List<PublicSeekKey> next = scholarshipRepository.findActiveAfter(null, null, true,
+                lastFeatured.getApplyEnd(), lastFeatured.getId(), PageRequest.ofSize(1));
+
+        assertEquals(1, next.size());
+        assertEquals(firstRegular.getId(), next.get(0).getId());
+        assertFalse(next.get(0).getIsFeatured());
+    }
+
+    /**
+     * 서비스와 같은 방식으로 마지막 행의 키를 다음 호출에 넘기며 끝까지 읽음
+     */
+    private List<String> readAll(ScholarshipType type, int pageSize) {
+        List<String> ids = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        PublicSeekKey last = null;
+        while (true) {
+            List<PublicSeekKey> page = last == null
+                    ? scholarshipRepository.findActiveAfter(type, null, false, null, null, PageRequest.ofSize(pageSize))
+                    : scholarshipRepository.findActiveAfter(type, null, last.getIsFeatured(), last.getApplyEnd(),
+                            last.getId(), PageRequest.ofSize(pageSize));
+            assertTrue(page.size() <= pageSize);
+            for (PublicSeekKey key : page) {
+                assertTrue(seen.add(key.getId()), "duplicate " + key.getId());
+                ids.add(key.getId());
+            }
+            if (page.size() < pageSize) return ids;
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    private List<Scholarship> expected(ScholarshipType type) {
+        return catalog.stream()
+                .filter(Scholarship::getIsActive)
+                .filter(s -> type == null || s.getScholarshipType() == type)
+                .sorted(LIST_ORDER)
+                .toList();
+    }
+}
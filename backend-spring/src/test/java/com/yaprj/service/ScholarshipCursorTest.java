@@ -0,0 +1,98 @@
+package com.yaprj.service;
+
+import com.yaprj.service.ScholarshipCursor.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 커서 인코딩/디코딩 테스트
+ * 잘못된 커서는 모두 같은 IllegalArgumentException("잘못된 커서입니다.")로 거부 (400 응답)
+ */
+class ScholarshipCursorTest {
+
+    @Test
+    void publicCursorRoundTrips() {
+        ScholarshipCursor cursor = ScholarshipCursor.ofPublic(true, LocalDate.of(2026, 3, 31), "id-1");
+        ScholarshipCursor decoded = ScholarshipCursor.decode(cursor.encode(), Kind.PUBLIC);
+
+        assertEquals(cursor, decoded);
+        assertTrue(decoded.flag());
+        assertEquals(LocalDate.of(2026, 3, 31), decoded.applyEnd());
+        assertEquals("id-1", decoded.id());
+    }
+
+    @Test
+    void publicCursorKeepsNullApplyEnd() {
+        ScholarshipCursor decoded = ScholarshipCursor.decode(
+                ScholarshipCursor.ofPublic(false, null, "id-2").encode(), Kind.PUBLIC);
+
+        assertFalse(decoded.flag());
+        assertNull(decoded.applyEnd());
+        assertEquals("id-2", decoded.id());
+    }
+
+    @Test
+    void adminCursorRoundTrips() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 678_000_000);
+        ScholarshipCursor decoded = ScholarshipCursor.decode(
+                ScholarshipCursor.ofAdmin(false, updatedAt, "id-3").encode(), Kind.ADMIN);
+
+        assertFalse(decoded.flag());
+        assertEquals(updatedAt, decoded.updatedAt());
+        assertEquals("id-3", decoded.id());
+
+        assertNull(ScholarshipCursor.decode(
+                ScholarshipCursor.ofAdmin(true, null, "id-4").encode(), Kind.ADMIN).updatedAt());
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = ScholarshipCursor.ofPublic(true, LocalDate.of(2026, 3, 31), "가나다/?+=").encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+        assertEquals("가나다/?+=", ScholarshipCursor.decode(encoded, Kind.PUBLIC).id());
+    }
+
+    @Test
+    void rejectsCursorOfOtherList() {
+        String publicCursor = ScholarshipCursor.ofPublic(true, null, "id-1").encode();
+        String adminCursor = ScholarshipCursor.ofAdmin(true, null, "id-1").encode();
+
+        assertInvalid(publicCursor, Kind.ADMIN);
+        assertInvalid(adminCursor, Kind.PUBLIC);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertInvalid("", Kind.PUBLIC);
+        assertInvalid("not base64!", Kind.PUBLIC);
+        assertInvalid(raw("garbage"), Kind.PUBLIC);
+        // 버전 불일치
+        assertInvalid(raw("v0|PUBLIC|1|2026-03-31|id-1"), Kind.PUBLIC);
+        // 구분자 개수 불일치
+        assertInvalid(raw("v1|PUBLIC|1|2026-03-31"), Kind.PUBLIC);
+        assertInvalid(raw("v1|PUBLIC|1|2026-03-31|id|extra"), Kind.PUBLIC);
+        // 빈 id
+        assertInvalid(raw("v1|PUBLIC|1|2026-03-31|"), Kind.PUBLIC);
+        // 정렬 키 형식 불일치
+        assertInvalid(raw("v1|PUBLIC|1|2026-13-01|id-1"), Kind.PUBLIC);
+        assertInvalid(raw("v1|PUBLIC|1|2026-03-31T00:00|id-1"), Kind.PUBLIC);
+        assertInvalid(raw("v1|ADMIN|1|2026-03-31|id-1"), Kind.ADMIN);
+    }
+
+    private static String raw(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(String cursor, Kind expected) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ScholarshipCursor.decode(cursor, expected), cursor);
+        assertEquals("잘못된 커서입니다.", e.getMessage());
+    }
+}
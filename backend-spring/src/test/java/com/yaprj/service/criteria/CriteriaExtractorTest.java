@@ -0,0 +1,192 @@
+package com.yaprj.service.criteria;
+
+import com.yaprj.entity.enums.ScholarshipType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조건 추출기 회귀 테스트
+ * 기대값은 키워드 자동자 도입 전 구현(키워드마다 소문자 contains)의 결과
+ */
+class CriteriaExtractorTest {
+
+    // 그룹 적중 비교용 원문 (키워드 경계/겹침/대소문자 포함)
+    private static final List<String> TEXTS = List.of(
+            "", "제한없음", "제한 없음", "소득무관", "해당 없음", "학년 무관",
+            "기초생활수급자 및 차상위계층", "소득 8분위 이하",
+            "재학 중인 자", "재학생", "신입생 및 입학 예정자", "예비 합격자", "휴학생 제외", "입학 후 1년",
+            "전학년", "전 학년", "1~4학년", "신입",
+            "대학교(4년제)", "2,3년제", "전문대학", "대학원(석사, 박사)", "방송통신대학교", "사이버대학",
+            "전국", "서울특별시", "부산광역시", "대구", "인천", "경기도 광주시", "대전", "울산", "세종",
+            "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주특별자치도",
+            "국가장학금", "한국장학재단", "근로장학", "교내근로", "취업후상환 학자금대출(ICL)", "icl", "Icl",
+            "등록금대출", "생활비대출", "생활비", "지자체", "서울시청", "군청", "구청", "도청",
+            "교내 장학", "OO대학교", "학교법인", "기업", "삼성꿈장학재단", "민간", "장학회", "기타"
+    );
+
+    @Test
+    void everyKeywordHitsItsGroup() {
+        for (KeywordGroup group : KeywordGroup.values()) {
+            for (String keyword : group.keywords()) {
+                assertTrue(CriteriaExtractor.scan(keyword).has(group), group + " / " + keyword);
+                assertTrue(CriteriaExtractor.scan("앞 " + keyword + " 뒤").has(group), group + " / " + keyword);
+            }
+        }
+    }
+
+    @Test
+    void scanMatchesContainsAnyForEveryGroup() {
+        for (String text : TEXTS) {
+            KeywordHits hits = CriteriaExtractor.scan(text);
+            for (KeywordGroup group : KeywordGroup.values()) {
+                assertEquals(containsAny(text, group.keywords()), hits.has(group), group + " / " + text);
+            }
+        }
+    }
+
+    @Test
+    void scanNullIsEmpty() {
+        for (KeywordGroup group : KeywordGroup.values()) {
+            assertFalse(CriteriaExtractor.scan(null).has(group), group.name());
+        }
+    }
+
+    @Test
+    void ruleGroups() {
+        assertTrue(CriteriaExtractor.scan("입학 후 장학생 선발").has(KeywordGroup.RULE_STATUS_HINT));
+        assertTrue(CriteriaExtractor.scan("전학년 대상").has(KeywordGroup.RULE_GRADE_ALL));
+        assertFalse(CriteriaExtractor.scan("전 학년 대상").has(KeywordGroup.RULE_GRADE_ALL));
+        assertTrue(CriteriaExtractor.scan("해당없음").has(KeywordGroup.RULE_NO_LIMIT));
+        assertFalse(CriteriaExtractor.scan("해당 없음").has(KeywordGroup.RULE_NO_LIMIT));
+        assertTrue(CriteriaExtractor.scan("소득무관").has(KeywordGroup.RULE_INCOME_NO_LIMIT));
+        assertTrue(CriteriaExtractor.scan("전국 누구나").has(KeywordGroup.RULE_REGION_NATIONWIDE));
+    }
+
+    @Test
+    void minGpaPriority() {
+        assertNull(CriteriaExtractor.extractMinGpa(null));
+        assertNull(CriteriaExtractor.extractMinGpa(""));
+        // 제한없음이 숫자보다 우선
+        assertNull(CriteriaExtractor.extractMinGpa("제한없음 (3.0/4.5)"));
+        assertNull(CriteriaExtractor.extractMinGpa("성적 무관"));
+        // x/4.5 → 평점 x 이상 → x.x 이상 → 학점 등급 → 백분위
+        assertEquals(new BigDecimal("3.5"), CriteriaExtractor.extractMinGpa("평점 3.0 이상 (3.5/4.5)"));
+        assertEquals(new BigDecimal("3"), CriteriaExtractor.extractMinGpa("3점/4.5점"));
+        assertEquals(new BigDecimal("3.0"), CriteriaExtractor.extractMinGpa("직전학기 2.5 이상, 평점 3.0 이상"));
+        assertEquals(new BigDecimal("2.75"), CriteriaExtractor.extractMinGpa("직전학기 2.75점 이상"));
+        assertEquals(new BigDecimal("3.3"), CriteriaExtractor.extractMinGpa("7.5 이상, B+ 이상"));
+        assertEquals(new BigDecimal("3.0"), CriteriaExtractor.extractMinGpa("b학점 이상"));
+        assertEquals(new BigDecimal("4.0"), CriteriaExtractor.extractMinGpa("A 이상, 90점 이상"));
+        assertEquals(new BigDecimal("3.25"), CriteriaExtractor.extractMinGpa("백분위 80점 이상"));
+        assertEquals(new BigDecimal("4.50"), CriteriaExtractor.extractMinGpa("100% 이상"));
+        assertNull(CriteriaExtractor.extractMinGpa("50점 이상"));
+        assertNull(CriteriaExtractor.extractMinGpa("성적 우수자"));
+    }
+
+    @Test
+    void maxIncomeLevelPriority() {
+        assertNull(CriteriaExtractor.extractMaxIncomeLevel(null));
+        assertNull(CriteriaExtractor.extractMaxIncomeLevel("소득무관"));
+        assertNull(CriteriaExtractor.extractMaxIncomeLevel("해당 없음 (8분위 이하)"));
+        // 제한없음 → 기초/차상위 → N분위 이하 → 1~N분위 → N구간 이하 → N분위
+        assertEquals(2, CriteriaExtractor.extractMaxIncomeLevel("차상위 또는 8분위 이하"));
+        assertEquals(2, CriteriaExtractor.extractMaxIncomeLevel("기초생활수급자"));
+        assertEquals(8, CriteriaExtractor.extractMaxIncomeLevel("소득 3분위, 8분위 이하"));
+        assertEquals(10, CriteriaExtractor.extractMaxIncomeLevel("10분위 이하"));
+        assertEquals(7, CriteriaExtractor.extractMaxIncomeLevel("3분위, 1~7분위"));
+        assertEquals(6, CriteriaExtractor.extractMaxIncomeLevel("1-6분위"));
+        assertEquals(5, CriteriaExtractor.extractMaxIncomeLevel("4분위 또는 5구간 이하"));
+        // 12분위 이하는 범위 밖 → 단순 분위 패턴이 "2분위"를 찾음
+        assertEquals(2, CriteriaExtractor.extractMaxIncomeLevel("12분위 이하"));
+        assertNull(CriteriaExtractor.extractMaxIncomeLevel("0분위"));
+        assertNull(CriteriaExtractor.extractMaxIncomeLevel("저소득층"));
+    }
+
+    @Test
+    void academicStatus() {
+        assertNull(CriteriaExtractor.extractAcademicStatus(null, null, null));
+        assertNull(CriteriaExtractor.extractAcademicStatus("학부생", null, null));
+        assertEquals("enrolled", CriteriaExtractor.extractAcademicStatus("대학(4년제)", "재학생", null));
+        assertEquals("expected", CriteriaExtractor.extractAcademicStatus("예비 대학생", null, null));
+        // 출력 순서는 원문 순서와 무관하게 enrolled → expected → leave
+        assertEquals("enrolled,expected,leave",
+                CriteriaExtractor.extractAcademicStatus(null, "휴학생 및 신입생", "재학 중인 자"));
+    }
+
+    @Test
+    void grades() {
+        assertNull(CriteriaExtractor.extractGrades(null, null));
+        assertNull(CriteriaExtractor.extractGrades("전학년", null));
+        assertNull(CriteriaExtractor.extractGrades("1~4학년", "학년 무관"));
+        assertNull(CriteriaExtractor.extractGrades("대학원생", null));
+        assertEquals("2,3,4", CriteriaExtractor.extractGrades("2~4학년", null));
+        assertEquals("2,3,5", CriteriaExtractor.extractGrades("2-3학년 및 5학년", null));
+        assertEquals("1,3", CriteriaExtractor.extractGrades("3학년", "신입생"));
+        assertEquals("1", CriteriaExtractor.extractGrades(null, "입학예정자"));
+    }
+
+    @Test
+    void universityTypes() {
+        assertNull(CriteriaExtractor.extractUniversityTypes(null));
+        assertNull(CriteriaExtractor.extractUniversityTypes("해외대학"));
+        // "2,3년제"는 "3년"을 포함해서 전문대
+        assertEquals("전문대", CriteriaExtractor.extractUniversityTypes("2,3년제"));
+        assertEquals("4년제", CriteriaExtractor.extractUniversityTypes("4년제 대학교"));
+        assertEquals("4년제,전문대,대학원",
+                CriteriaExtractor.extractUniversityTypes("대학원, 전문대학, 대학교(4년제)"));
+        assertEquals("4년제,원격대학", CriteriaExtractor.extractUniversityTypes("방송통신대학교"));
+        assertEquals("원격대학", CriteriaExtractor.extractUniversityTypes("사이버대학"));
+    }
+
+    @Test
+    void regionLimitOrder() {
+        assertNull(CriteriaExtractor.extractRegionLimit(null));
+        assertNull(CriteriaExtractor.extractRegionLimit("전국"));
+        assertNull(CriteriaExtractor.extractRegionLimit("부산 거주 (제한없음)"));
+        assertNull(CriteriaExtractor.extractRegionLimit("해외"));
+        // 출력은 원문 순서가 아니라 고정 지역 순서
+        assertEquals("서울,경기,제주", CriteriaExtractor.extractRegionLimit("제주 및 서울, 경기"));
+        assertEquals("부산,경남", CriteriaExtractor.extractRegionLimit("경남 또는 부산"));
+        assertEquals("광주,경기", CriteriaExtractor.extractRegionLimit("경기도 광주시"));
+        assertEquals("서울,부산,대구,인천,광주,대전,울산,세종,경기,강원,충북,충남,전북,전남,경북,경남,제주",
+                CriteriaExtractor.extractRegionLimit(
+                        "제주 경남 경북 전남 전북 충남 충북 강원 경기 세종 울산 대전 광주 인천 대구 부산 서울"));
+    }
+
+    @Test
+    void scholarshipTypePriority() {
+        assertEquals(ScholarshipType.OTHER, CriteriaExtractor.detectScholarshipType(null, null, null, null));
+        assertEquals(ScholarshipType.OTHER, CriteriaExtractor.detectScholarshipType("기타 지원", null, null, null));
+        assertEquals(ScholarshipType.NATIONAL,
+                CriteriaExtractor.detectScholarshipType("근로장학", null, "한국장학재단", null));
+        assertEquals(ScholarshipType.WORK_STUDY,
+                CriteriaExtractor.detectScholarshipType("교내근로", "생활비", null, null));
+        // "icl"은 대소문자 구분 없이 적중
+        assertEquals(ScholarshipType.TUITION_LOAN, CriteriaExtractor.detectScholarshipType("ICL", null, null, null));
+        assertEquals(ScholarshipType.TUITION_LOAN, CriteriaExtractor.detectScholarshipType("icl", null, null, null));
+        assertEquals(ScholarshipType.TUITION_LOAN,
+                CriteriaExtractor.detectScholarshipType("취업후상환 학자금대출", null, "OO대학교", null));
+        assertEquals(ScholarshipType.LIVING_LOAN,
+                CriteriaExtractor.detectScholarshipType("생활비 지원", null, "OO대학교", null));
+        assertEquals(ScholarshipType.LOCAL,
+                CriteriaExtractor.detectScholarshipType("인재육성 장학금", null, "서울시청", "재단"));
+        assertEquals(ScholarshipType.UNIVERSITY,
+                CriteriaExtractor.detectScholarshipType("성적우수", "교내", null, "장학회"));
+        assertEquals(ScholarshipType.PRIVATE,
+                CriteriaExtractor.detectScholarshipType("꿈 장학금", null, "삼성꿈장학재단", null));
+    }
+
+    private static boolean containsAny(String text, String... keywords) {
+        String lowerText = text.toLowerCase();
+        for (String keyword : keywords) {
+            if (lowerText.contains(keyword.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
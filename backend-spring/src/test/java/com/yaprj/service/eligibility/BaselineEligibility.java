@@ -0,0 +1,186 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.entity.Scholarship;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 판정 기준 구현: 스냅샷/규칙 컴파일 도입 전 ScholarshipService.checkSingleScholarship을 그대로 옮긴 것
+ * 규칙·비트셋 인덱스·동치류 테이블의 동치성 테스트에서 기대값으로 사용
+ */
+final class BaselineEligibility {
+
+    private BaselineEligibility() {
+    }
+
+    /**
+     * 장학금 1건 판정 결과 (isEligible: true = 적격, false = 부적격, null = 확인필요)
+     */
+    record Verdict(Boolean isEligible, List<String> satisfied, List<String> notSatisfied, List<String> unknown) {
+
+        int code() {
+            if (Boolean.TRUE.equals(isEligible)) return EligibilityRule.ELIGIBLE;
+            if (isEligible == null) return EligibilityRule.UNKNOWN;
+            return EligibilityRule.NOT_ELIGIBLE;
+        }
+    }
+
+    /**
+     * 카탈로그 순서대로 장학금별 판정값
+     */
+    static int[] verdicts(List<Scholarship> scholarships, ScholarshipCheckRequest request) {
+        int[] codes = new int[scholarships.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = check(scholarships.get(i), request).code();
+        }
+        return codes;
+    }
+
+    static Verdict check(Scholarship s, ScholarshipCheckRequest request) {
+        List<String> satisfied = new ArrayList<>();
+        List<String> notSatisfied = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+
+        String userStatus = request.getAcademicStatus().getValue();
+        int userGrade = request.getGrade();
+        BigDecimal userGpa = request.getGpa();
+        int userIncome = request.getIncomeLevel();
+
+        Map<String, String> statusKorean = Map.of("enrolled", "재학", "expected", "입학예정", "leave", "휴학");
+
+        // 1. 학적상태 체크
+        String allowedStatus = s.getAllowedAcademicStatus();
+        if (allowedStatus != null && !allowedStatus.isEmpty()) {
+            List<String> statusList = Arrays.asList(allowedStatus.split(","));
+            if (statusList.stream().anyMatch(st -> st.trim().equalsIgnoreCase(userStatus))) {
+                satisfied.add("학적상태 충족 (" + statusKorean.getOrDefault(userStatus, userStatus) + ")");
+            } else {
+                String allowed = statusList.stream()
+                        .map(st -> statusKorean.getOrDefault(st.trim(), st.trim()))
+                        .collect(Collectors.joining("/"));
+                notSatisfied.add("학적상태 미충족 (요구: " + allowed + ")");
+            }
+        } else {
+            String hint = combineTexts(s.getUniversityCategory(), s.getSpecialQualification());
+            if (!hint.isEmpty() && containsAny(hint, "재학", "신입", "휴학", "입학")) {
+                unknown.add("학적상태 직접 확인 필요");
+            }
+        }
+
+        // 2. 학년 체크
+        String allowedGrades = s.getAllowedGrades();
+        if (allowedGrades != null && !allowedGrades.isEmpty()) {
+            List<Integer> gradeList = Arrays.stream(allowedGrades.split(","))
+                    .map(String::trim)
+                    .filter(g -> g.matches("\\d+"))
+                    .map(Integer::parseInt)
+                    .collect(Collectors.toList());
+
+            if (!gradeList.isEmpty()) {
+                if (gradeList.contains(userGrade)) {
+                    satisfied.add("학년 충족 (" + userGrade + "학년)");
+                } else {
+                    String allowed = gradeList.stream().map(g -> g + "학년").collect(Collectors.joining("/"));
+                    notSatisfied.add("학년 미충족 (요구: " + allowed + ")");
+                }
+            }
+        } else if (s.getGradeSemester() != null && !s.getGradeSemester().isEmpty()) {
+            if (!containsAny(s.getGradeSemester(), "전학년", "제한없음", "무관")) {
+                unknown.add("학년 조건 직접 확인: " + truncate(s.getGradeSemester(), 20));
+            }
+        }
+
+        // 3. 성적(GPA) 체크
+        BigDecimal minGpa = s.getMinGpa();
+        if (minGpa != null) {
+            if (userGpa.compareTo(minGpa) >= 0) {
+                satisfied.add(String.format("성적 충족 (%.1f ≥ %.1f)", userGpa, minGpa));
+            } else {
+                notSatisfied.add(String.format("성적 미충족 (%.1f < %.1f 이상 필요)", userGpa, minGpa));
+            }
+        } else if (s.getGradeCriteria() != null && !s.getGradeCriteria().isEmpty()) {
+            if (containsAny(s.getGradeCriteria(), "제한없음", "무관", "해당없음")) {
+                satisfied.add("성적 제한 없음");
+            } else {
+                unknown.add("성적 조건 직접 확인: " + truncate(s.getGradeCriteria(), 25));
+            }
+        }
+
+        // 4. 소득분위 체크
+        Integer maxIncome = s.getMaxIncomeLevel();
+        if (maxIncome != null) {
+            if (userIncome <= maxIncome) {
+                satisfied.add(String.format("소득분위 충족 (%d분위 ≤ %d분위 이하)", userIncome, maxIncome));
+            } else {
+                notSatisfied.add(String.format("소득분위 미충족 (%d분위 > %d분위 이하 필요)", userIncome, maxIncome));
+            }
+        } else if (s.getIncomeCriteria() != null && !s.getIncomeCriteria().isEmpty()) {
+            if (containsAny(s.getIncomeCriteria(), "제한없음", "무관", "해당없음", "소득무관")) {
+                satisfied.add("소득 제한 없음");
+            } else {
+                unknown.add("소득 조건 직접 확인: " + truncate(s.getIncomeCriteria(), 25));
+            }
+        }
+
+        // 5. 지역 체크
+        String regionLimit = s.getRegionLimit();
+        if (regionLimit != null && !regionLimit.isEmpty()) {
+            unknown.add("지역 제한 확인 필요: " + regionLimit);
+        } else if (s.getResidencyDetail() != null && !s.getResidencyDetail().isEmpty()) {
+            if (!containsAny(s.getResidencyDetail(), "전국", "제한없음", "무관")) {
+                unknown.add("지역 조건 직접 확인 필요");
+            }
+        }
+
+        // 6. 특정자격 체크
+        if (s.getSpecialQualification() != null && !s.getSpecialQualification().isEmpty()) {
+            if (!containsAny(s.getSpecialQualification(), "제한없음", "무관", "해당없음")) {
+                unknown.add("특정자격 확인 필요: " + truncate(s.getSpecialQualification(), 30));
+            }
+        }
+
+        // 적격 여부 판정
+        Boolean isEligible;
+        if (!notSatisfied.isEmpty()) {
+            isEligible = false;
+        } else if (satisfied.size() >= 1) {
+            isEligible = true;
+        } else {
+            isEligible = null;
+            if (unknown.isEmpty()) {
+                unknown.add("상세 조건 직접 확인 필요");
+            }
+        }
+        return new Verdict(isEligible, satisfied, notSatisfied, unknown);
+    }
+
+    private static String truncate(String text, int maxLen) {
+        if (text == null) return "";
+        return text.length() > maxLen ? text.substring(0, maxLen) + "..." : text;
+    }
+
+    private static String combineTexts(String... texts) {
+        StringBuilder sb = new StringBuilder();
+        for (String text : texts) {
+            if (text != null && !text.isEmpty()) {
+                sb.append(text).append(" ");
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    private static boolean containsAny(String text, String... keywords) {
+        if (text == null) return false;
+        String lower = text.toLowerCase();
+        for (String kw : keywords) {
+            if (lower.contains(kw.toLowerCase())) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.entity.enums.AcademicStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.yaprj.service.eligibility.EligibilityIndexTest.assertClassification;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동치류 테이블 동치성 테스트
+ * 사전 계산된 동치류 결과가 장학금별 판정(BaselineEligibility)과 같아야 함 (GPA/소득 기준값 경계 포함)
+ */
+class EligibilityClassTableTest {
+
+    @Test
+    void getMatchesBaselineOnRandomCatalogs() {
+        for (int size : new int[]{1, 65, 200}) {
+            List<Scholarship> scholarships = RandomCatalog.scholarships(size, size + 23L);
+            EligibilityIndex index = new EligibilityIndex(RandomCatalog.compile(scholarships));
+            EligibilityClassTable table = EligibilityClassTable.build(index, Long.MAX_VALUE);
+            assertNotNull(table);
+            assertTrue(table.distinctCount() <= table.classCount());
+
+            for (ScholarshipCheckRequest request : RandomCatalog.requests(scholarships)) {
+                CheckConditions conditions = CheckConditions.from(request);
+                assertClassification(BaselineEligibility.verdicts(scholarships, request), table.get(conditions),
+                        conditions.key());
+            }
+        }
+    }
+
+    @Test
+    void snapshotAnswersTheSameBeforeAndAfterPrecompute() {
+        List<Scholarship> scholarships = RandomCatalog.scholarships(120, 31L);
+        EligibilitySnapshot snapshot = EligibilitySnapshot.build(1, scholarships);
+        List<ScholarshipCheckRequest> requests = RandomCatalog.requests(scholarships);
+
+        for (ScholarshipCheckRequest request : requests) {
+            CheckConditions conditions = CheckConditions.from(request);
+            assertClassification(BaselineEligibility.verdicts(scholarships, request), snapshot.classify(conditions),
+                    conditions.key());
+        }
+        assertTrue(snapshot.precomputeClasses(Long.MAX_VALUE));
+        for (ScholarshipCheckRequest request : requests) {
+            CheckConditions conditions = CheckConditions.from(request);
+            assertClassification(BaselineEligibility.verdicts(scholarships, request), snapshot.classify(conditions),
+                    conditions.key());
+        }
+    }
+
+    @Test
+    void buildGivesUpOverCellLimit() {
+        List<Scholarship> scholarships = RandomCatalog.scholarships(200, 7L);
+        EligibilityIndex index = new EligibilityIndex(RandomCatalog.compile(scholarships));
+
+        assertNull(EligibilityClassTable.build(index, scholarships.size()));
+        assertFalse(EligibilitySnapshot.build(1, scholarships).precomputeClasses(scholarships.size()));
+    }
+
+    @Test
+    void gradeOutsideTableFallsBackToIndex() {
+        List<Scholarship> scholarships = RandomCatalog.scholarships(65, 3L);
+        EligibilityIndex index = new EligibilityIndex(RandomCatalog.compile(scholarships));
+        EligibilityClassTable table = EligibilityClassTable.build(index, Long.MAX_VALUE);
+        assertNotNull(table);
+
+        for (int grade : new int[]{0, 7}) {
+            CheckConditions conditions = new CheckConditions(AcademicStatus.ENROLLED, grade, 300, 5);
+            EligibilityClassification expected = index.classify(conditions);
+            EligibilityClassification actual = table.get(conditions);
+            assertArrayEquals(expected.getOrder(), actual.getOrder());
+            assertEquals(expected.getEligibleCount(), actual.getEligibleCount());
+            assertEquals(expected.getUnknownCount(), actual.getUnknownCount());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.entity.Scholarship;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비트셋 인덱스 동치성 테스트
+ * 카탈로그 전체 판정이 장학금별 판정(BaselineEligibility)을 적격 → 확인필요 → 부적격 순으로 안정 정렬한 결과와 같아야 함
+ */
+class EligibilityIndexTest {
+
+    @Test
+    void classifyMatchesBaselineOnRandomCatalogs() {
+        // 워드 경계(64의 배수 전후)와 빈 카탈로그 포함
+        for (int size : new int[]{0, 1, 63, 64, 65, 200}) {
+            List<Scholarship> scholarships = RandomCatalog.scholarships(size, size + 11L);
+            EligibilityIndex index = new EligibilityIndex(RandomCatalog.compile(scholarships));
+            for (ScholarshipCheckRequest request : RandomCatalog.requests(scholarships)) {
+                assertClassification(BaselineEligibility.verdicts(scholarships, request),
+                        index.classify(CheckConditions.from(request)), CheckConditions.from(request).key());
+            }
+        }
+    }
+
+    @Test
+    void gpaAndIncomeClassesSplitAtThresholds() {
+        EligibilityIndex index = new EligibilityIndex(new EligibilityRule[]{
+                EligibilityRule.compile(Scholarship.builder().id("a").minGpa(new BigDecimal("3.00")).maxIncomeLevel(4).build()),
+                EligibilityRule.compile(Scholarship.builder().id("b").minGpa(new BigDecimal("3.50")).maxIncomeLevel(8).build()),
+                EligibilityRule.compile(Scholarship.builder().id("c").build())
+        });
+
+        assertEquals(3, index.gpaClassCount());
+        assertEquals(-1, index.gpaClass(299));
+        assertEquals(0, index.gpaClass(300));
+        assertEquals(0, index.gpaClass(349));
+        assertEquals(1, index.gpaClass(350));
+        assertEquals(1, index.gpaClass(450));
+
+        assertEquals(3, index.incomeClassCount());
+        assertEquals(0, index.incomeClass(1));
+        assertEquals(0, index.incomeClass(4));
+        assertEquals(1, index.incomeClass(5));
+        assertEquals(1, index.incomeClass(8));
+        assertEquals(2, index.incomeClass(9));
+    }
+
+    /**
+     * 판정 그룹 건수와 위치 순서 비교 (그룹 내부는 카탈로그 순서)
+     */
+    static void assertClassification(int[] verdicts, EligibilityClassification actual, String where) {
+        int[] expectedOrder = new int[verdicts.length];
+        int[] counts = new int[3];
+        int pos = 0;
+        for (int verdict = EligibilityRule.ELIGIBLE; verdict <= EligibilityRule.NOT_ELIGIBLE; verdict++) {
+            for (int i = 0; i < verdicts.length; i++) {
+                if (verdicts[i] != verdict) continue;
+                expectedOrder[pos++] = i;
+                counts[verdict]++;
+            }
+        }
+        assertEquals(counts[EligibilityRule.ELIGIBLE], actual.getEligibleCount(), where);
+        assertEquals(counts[EligibilityRule.UNKNOWN], actual.getUnknownCount(), where);
+        assertEquals(counts[EligibilityRule.NOT_ELIGIBLE], actual.getNotEligibleCount(), where);
+        assertArrayEquals(expectedOrder, actual.getOrder(), where);
+    }
+}
@@ -0,0 +1,85 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.dto.response.ScholarshipCheckResponse.EligibilityDetail;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.entity.enums.AcademicStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 컴파일된 판정 규칙 동치성 테스트
+ * 기대값은 규칙 컴파일 도입 전 장학금별 판정(BaselineEligibility)의 판정값과 근거 문구
+ */
+class EligibilityRuleTest {
+
+    @Test
+    void classifyAndReasonsMatchBaselineOnRandomCatalogs() {
+        for (long seed = 1; seed <= 2; seed++) {
+            List<Scholarship> scholarships = RandomCatalog.scholarships(200, seed);
+            EligibilityRule[] rules = RandomCatalog.compile(scholarships);
+            for (ScholarshipCheckRequest request : RandomCatalog.requests(scholarships)) {
+                CheckConditions conditions = CheckConditions.from(request);
+                for (int i = 0; i < rules.length; i++) {
+                    assertMatchesBaseline(scholarships.get(i), rules[i], request, conditions);
+                }
+            }
+        }
+    }
+
+    @Test
+    void gpaBoundaryIsInclusiveAndIgnoresThirdDecimal() {
+        Scholarship s = Scholarship.builder().id("gpa").minGpa(new BigDecimal("3.00")).build();
+        EligibilityRule rule = EligibilityRule.compile(s);
+
+        assertEquals(EligibilityRule.ELIGIBLE, rule.classify(conditions("3.00", 5)));
+        assertEquals(EligibilityRule.NOT_ELIGIBLE, rule.classify(conditions("2.99", 5)));
+        assertEquals(EligibilityRule.NOT_ELIGIBLE, rule.classify(conditions("2.999", 5)));
+        assertEquals(EligibilityRule.ELIGIBLE, rule.classify(conditions("3.001", 5)));
+    }
+
+    @Test
+    void missingCriteriaNeedManualCheck() {
+        Scholarship s = Scholarship.builder().id("empty").allowedGrades("").gradeCriteria("").build();
+        EligibilityRule rule = EligibilityRule.compile(s);
+        CheckConditions c = conditions("3.00", 5);
+
+        assertEquals(EligibilityRule.UNKNOWN, rule.classify(c));
+        assertEquals(List.of("상세 조건 직접 확인 필요"), rule.explain(c).getUnknown());
+    }
+
+    @Test
+    void noLimitTextAloneIsEligible() {
+        Scholarship s = Scholarship.builder().id("no-limit").gradeCriteria("성적 무관").incomeCriteria("소득무관").build();
+        EligibilityRule rule = EligibilityRule.compile(s);
+        CheckConditions c = conditions("0.00", 10);
+
+        assertEquals(EligibilityRule.ELIGIBLE, rule.classify(c));
+        assertEquals(List.of("성적 제한 없음", "소득 제한 없음"), rule.explain(c).getSatisfied());
+    }
+
+    private static void assertMatchesBaseline(Scholarship s, EligibilityRule rule, ScholarshipCheckRequest request,
+                                              CheckConditions conditions) {
+        BaselineEligibility.Verdict expected = BaselineEligibility.check(s, request);
+        String where = s.getId() + " / " + conditions.key();
+
+        assertEquals(expected.code(), rule.classify(conditions), where);
+        EligibilityDetail detail = rule.explain(conditions);
+        assertEquals(expected.satisfied(), detail.getSatisfied(), where);
+        assertEquals(expected.notSatisfied(), detail.getNotSatisfied(), where);
+        assertEquals(expected.unknown(), detail.getUnknown(), where);
+    }
+
+    private static CheckConditions conditions(String gpa, int incomeLevel) {
+        ScholarshipCheckRequest request = new ScholarshipCheckRequest();
+        request.setAcademicStatus(AcademicStatus.ENROLLED);
+        request.setGrade(2);
+        request.setGpa(new BigDecimal(gpa));
+        request.setIncomeLevel(incomeLevel);
+        return CheckConditions.from(request);
+    }
+}
@@ -0,0 +1,116 @@
+package com.yaprj.service.eligibility;
+
+import com.yaprj.dto.request.ScholarshipCheckRequest;
+import com.yaprj.entity.Scholarship;
+import com.yaprj.entity.enums.AcademicStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * 동치성 테스트용 무작위 카탈로그/사용자 조건 (시드 고정)
+ * 파싱된 조건, 원본 텍스트만 있는 조건, 제한 없음 문구, 빈 문자열/null, 범위 밖 학년 표기를 섞음
+ * 사용자 조건은 모든 학적상태 × 학년 × 소득분위와 각 GPA 기준값의 경계(같음/±0.01/셋째 자리)를 포함
+ */
+final class RandomCatalog {
+
+    private static final String[] STATUSES = {null, "", "enrolled", "Enrolled, leave", "expected,", "graduated",
+            ", enrolled", "leave,expected,enrolled"};
+    private static final String[] GRADES = {null, "", "1", "1,2", "3, 4", "0,7", "01,2", "a,b", "5,6,7", "12",
+            "1,2,3,4,5,6"};
+    private static final String[] GRADE_SEMESTERS = {null, "", "전학년", "학년 무관", "2학년 이상",
+            "1학년 2학기 이상 재학 중인 학생 (신입생 제외)"};
+    private static final String[] GRADE_CRITERIA = {null, "", "제한없음", "성적 무관", "해당없음", "직전학기 3.0 이상",
+            "평점 평균 B 이상 (학과 추천, 설명이 25자를 넘어가는 경우)"};
+    private static final String[] INCOME_CRITERIA = {null, "", "소득무관", "제한없음", "8구간 이하",
+            "기초생활수급자 및 차상위계층 우선 선발 (가계 곤란 학생)"};
+    private static final String[] REGIONS = {null, null, "", "서울", "부산,경남"};
+    private static final String[] RESIDENCIES = {null, "", "전국", "제한없음", "서울 거주자", "경기도 무관"};
+    private static final String[] UNIVERSITY_CATEGORIES = {null, "", "4년제 재학생", "대학원", "신입생"};
+    private static final String[] SPECIALS = {null, null, "", "해당없음", "다자녀 가정",
+            "입학 성적 우수자 (재학 중 유지 필요, 30자를 넘는 긴 특정자격 설명)"};
+    // 4.5 만점, 소수 둘째 자리 (min_gpa 컬럼 scale)
+    private static final String[] MIN_GPAS = {"0.00", "2.00", "2.50", "2.75", "3.00", "3.01", "3.50", "4.00", "4.30",
+            "4.50"};
+
+    private RandomCatalog() {
+    }
+
+    static List<Scholarship> scholarships(int size, long seed) {
+        Random r = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        List<Scholarship> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean parsedGpa = r.nextInt(2) == 0;
+            boolean parsedIncome = r.nextInt(2) == 0;
+            list.add(Scholarship.builder()
+                    .id(String.format("s-%05d", i))
+                    .name("장학금 " + i)
+                    .organization("장학회 " + i)
+                    .allowedAcademicStatus(pick(r, STATUSES))
+                    .allowedGrades(pick(r, GRADES))
+                    .gradeSemester(pick(r, GRADE_SEMESTERS))
+                    .minGpa(parsedGpa ? new BigDecimal(pick(r, MIN_GPAS)) : null)
+                    .gradeCriteria(pick(r, GRADE_CRITERIA))
+                    .maxIncomeLevel(parsedIncome ? r.nextInt(12) : null)
+                    .incomeCriteria(pick(r, INCOME_CRITERIA))
+                    .regionLimit(pick(r, REGIONS))
+                    .residencyDetail(pick(r, RESIDENCIES))
+                    .universityCategory(pick(r, UNIVERSITY_CATEGORIES))
+                    .specialQualification(pick(r, SPECIALS))
+                    .isActive(true)
+                    .updatedAt(now.minusMinutes(i))
+                    .build());
+        }
+        return list;
+    }
+
+    /**
+     * 판정 경계를 모두 지나는 사용자 조건 목록
+     */
+    static List<ScholarshipCheckRequest> requests(List<Scholarship> scholarships) {
+        TreeSet<BigDecimal> gpas = new TreeSet<>();
+        gpas.add(new BigDecimal("0.00"));
+        gpas.add(new BigDecimal("4.50"));
+        gpas.add(new BigDecimal("3.456"));
+        for (Scholarship s : scholarships) {
+            if (s.getMinGpa() == null) continue;
+            BigDecimal min = s.getMinGpa();
+            gpas.add(min);
+            gpas.add(min.subtract(new BigDecimal("0.01")));
+            gpas.add(min.subtract(new BigDecimal("0.001")));
+            gpas.add(min.add(new BigDecimal("0.01")));
+        }
+        gpas.removeIf(gpa -> gpa.signum() < 0 || gpa.compareTo(new BigDecimal("4.5")) > 0);
+
+        List<ScholarshipCheckRequest> requests = new ArrayList<>();
+        for (AcademicStatus status : AcademicStatus.values()) {
+            for (int grade = 1; grade <= 6; grade++) {
+                for (BigDecimal gpa : gpas) {
+                    for (int income = 1; income <= 10; income++) {
+                        ScholarshipCheckRequest request = new ScholarshipCheckRequest();
+                        request.setAcademicStatus(status);
+                        request.setGrade(grade);
+                        request.setBirthYear(2000);
+                        request.setGpa(gpa);
+                        request.setIncomeLevel(income);
+                        requests.add(request);
+                    }
+                }
+            }
+        }
+        return requests;
+    }
+
+    static EligibilityRule[] compile(List<Scholarship> scholarships) {
+        return scholarships.stream().map(EligibilityRule::compile).toArray(EligibilityRule[]::new);
+    }
+
+    private static String pick(Random r, String[] values) {
+        return values[r.nextInt(values.length)];
+    }
+}
@@ -27,7 +27,7 @@ export default function AdminPage() {
   const [loading, setLoading] = useState(true)
   const [stats, setStats] = useState<DashboardStats | null>(null)
   const [scholarships, setScholarships] = useState<Scholarship[]>([])
-  const [uploadMode, setUploadMode] = useState<'replace' | 'deactivate' | 'append'>('append')
+  const [uploadMode, setUploadMode] = useState<'replace' | 'deactivate' | 'append' | 'upsert' | 'dry-run'>('append')
   const [uploadFile, setUploadFile] = useState<File | null>(null)
   const [uploading, setUploading] = useState(false)
   const [message, setMessage] = useState('')
@@ -139,18 +139,55 @@ export default function AdminPage() {
 
     try {
       const token = localStorage.getItem('admin_token')
-      const response = await api.post('/api/v1/admin/upload-csv', formData, {
-        headers: { Authorization: `Bearer ${token}` }
-      })
-      
-      console.log('Upload response:', response.data)
-      
-      const data = response.data
-      const successCount = data.success ?? data.totalRows ?? 0
+      const headers = { Authorization: `Bearer ${token}` }
+
+      if (uploadMode === 'dry-run') {
+        // 검증 결과는 NDJSON (오류 행마다 한 줄, 마지막 줄에 요약)
+        const res = await api.post('/api/v1/admin/upload-csv/dry-run', formData, { headers, responseType: 'text' })
+        const lines = String(res.data).split('\n').filter(Boolean).map((line) => JSON.parse(line))
+        const errors = lines.filter((line) => line.type === 'error')
+        const summary = lines.find((line) => line.type === 'summary')?.summary ?? {}
+        console.log('Dry-run errors:', errors)
+        const extraction = Object.entries(summary.extraction ?? {})
+          .map(([field, e]: [string, any]) => `${field} ${e.parsed}/${e.parsed + e.raw_only}`)
+          .join(', ')
+        const firstErrors = errors.slice(0, 3).map((e) => `${e.row}행 ${e.error}`).join(' / ')
+        setMessage(`🔍 검증 완료 (${summary.elapsed_ms ?? 0}ms): 총 ${summary.total_rows ?? 0}건 중 정상 ${summary.valid_rows ?? 0}건, 오류 ${summary.failed_rows ?? 0}건` +
+          (extraction ? ` | 추출(값/원문): ${extraction}` : '') +
+          (firstErrors ? ` | ${firstErrors}` : ''))
+        return
+      }
+
+      const accepted = await api.post('/api/v1/admin/upload-csv', formData, { headers })
+      const jobId = accepted.data.job_id
+
+      // 업로드는 백그라운드 작업으로 처리됨 → 끝날 때까지 진행 상황 폴링
+      let job = accepted.data
+      while (job.status === 'queued' || job.status === 'running') {
+        const percent = job.progress != null ? ` (${Math.round(job.progress * 100)}%)` : ''
+        const eta = job.eta_seconds != null ? `, 남은 시간 약 ${job.eta_seconds}초` : ''
+        setMessage(`⏳ 처리 중${percent}: ${job.rows_parsed ?? 0}행 파싱, ${job.rows_written ?? 0}건 저장${eta}`)
+        await new Promise((resolve) => setTimeout(resolve, 1000))
+        job = (await api.get(`/api/v1/admin/upload-jobs/${jobId}`, { headers })).data
+      }
+
+      console.log('Upload job:', job)
+
+      if (job.status === 'failed') {
+        setMessage(`❌ 업로드 실패 (${job.committed_row ?? 0}행까지 저장됨): ${job.error_message}`)
+        loadDashboard()
+        return
+      }
+
+      const data = job.result ?? {}
+      const successCount = data.success ?? data.total_rows ?? 0
       const failedCount = data.failed ?? 0
-      const totalRows = data.totalRows ?? (successCount + failedCount)
+      const totalRows = data.total_rows ?? (successCount + failedCount)
       
-      setMessage(`✅ 업로드 완료: 총 ${totalRows}건 중 성공 ${successCount}건, 실패 ${failedCount}건`)
+      const delta = data.inserted_count != null
+        ? ` (추가 ${data.inserted_count}, 수정 ${data.updated_count}, 변경 없음 ${data.unchanged_count}, 비활성화 ${data.vanished_count})`
+        : ''
+      setMessage(`✅ 업로드 완료: 총 ${totalRows}건 중 성공 ${successCount}건, 실패 ${failedCount}건${delta}`)
       setUploadFile(null)
       
       const fileInput = document.querySelector('input[type="file"]') as HTMLInputElement
@@ -251,8 +288,10 @@ export default function AdminPage() {
                 className="w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500"
               >
                 <option value="append">추가 (기존 데이터 유지)</option>
+                <option value="upsert">변경분 반영 (추가/수정분만 저장, 빠진 항목 비활성화)</option>
                 <option value="deactivate">비활성화 후 추가 (기존 데이터 비활성화)</option>
                 <option value="replace">교체 (기존 데이터 삭제)</option>
+                <option value="dry-run">검증만 (저장하지 않고 오류/추출 통계 확인)</option>
               </select>
             </div>
 
@@ -270,7 +309,7 @@ export default function AdminPage() {
             </div>
 
             {message && (
-              <div className={`p-4 rounded-lg ${message.startsWith('✅') ? 'bg-green-50 text-green-700 border border-green-200' : 'bg-red-50 text-red-700 border border-red-200'}`}>
+              <div className={`p-4 rounded-lg ${message.startsWith('✅') ? 'bg-green-50 text-green-700 border border-green-200' : (message.startsWith('⏳') || message.startsWith('🔍')) ? 'bg-blue-50 text-blue-700 border border-blue-200' : 'bg-red-50 text-red-700 border border-red-200'}`}>
                 {message}
               </div>
             )}
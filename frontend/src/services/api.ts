@@ -131,14 +131,22 @@ export const authApi = {
 // ========== 장학금 API ==========
 
 export const scholarshipApi = {
-  // 장학금 목록 조회
-  getScholarships: async (page = 1, perPage = 20, search?: string) => {
+  // 장학금 목록 조회 (검색어가 없으면 응답의 next_cursor를 cursor로 넘겨 다음 페이지 조회)
+  getScholarships: async (page = 1, perPage = 20, search?: string, cursor?: string) => {
     const params = new URLSearchParams({ page: String(page), per_page: String(perPage) })
     if (search) params.append('search', search)
+    if (cursor) params.append('cursor', cursor)
     const response = await api.get(`/api/v1/scholarships?${params}`)
     return response.data
   },
 
+  // 검색창 자동완성 (장학금명/운영기관명)
+  suggest: async (q: string, limit = 10) => {
+    const params = new URLSearchParams({ q, limit: String(limit) })
+    const response = await api.get(`/api/v1/scholarships/suggest?${params}`)
+    return response.data
+  },
+
   // 장학금 자격 확인 (AI 자동 판정)
   checkEligibility: async (data: ScholarshipCheckRequest): Promise<ScholarshipCheckResponse> => {
     const response = await api.post('/api/v1/scholarships/check', {